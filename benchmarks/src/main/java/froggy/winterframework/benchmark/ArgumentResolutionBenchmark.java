@@ -0,0 +1,95 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.benchmark.support.BenchmarkItem;
+import froggy.winterframework.core.MethodParameter;
+import froggy.winterframework.mock.WinterMockDispatcher;
+import froggy.winterframework.mock.web.MockHttpServletRequest;
+import froggy.winterframework.mock.web.MockHttpServletResponse;
+import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.context.request.ServletWebRequest;
+import froggy.winterframework.web.servlet.mvc.method.annotation.DefaultControllerHandlerAdapter;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ArgumentResolver 종류별 {@link DefaultControllerHandlerAdapter#getMethodArgumentValues} 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArgumentResolutionBenchmark {
+
+    @Param({"requestParam", "pathVariable", "requestHeader", "cookieValue", "requestBody", "servletRequest"})
+    public String resolver;
+
+    private DefaultControllerHandlerAdapter adapter;
+    private MethodParameter[] parameters;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        adapter = WinterMockDispatcher.create(BenchmarkController.class).getApplicationContext().getBeanFactory()
+            .getBean("defaultControllerHandlerAdapter", DefaultControllerHandlerAdapter.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Method method;
+        switch (resolver) {
+            case "requestParam":
+                method = BenchmarkController.class.getMethod("search", String.class, int.class);
+                request.reset("GET", "/bench/search").addParameter("q", "winter").addParameter("page", "3");
+                break;
+            case "pathVariable":
+                method = BenchmarkController.class.getMethod("item", long.class);
+                request.reset("GET", "/bench/items/42");
+                HashMap<String, String> uriTemplateVariables = new HashMap<>();
+                uriTemplateVariables.put("id", "42");
+                request.setAttribute("uriTemplateVariables", uriTemplateVariables);
+                break;
+            case "requestHeader":
+                method = BenchmarkController.class.getMethod("header", String.class);
+                request.reset("GET", "/bench/header").addHeader("X-Trace-Id", "4bf92f3577b34da6");
+                break;
+            case "cookieValue":
+                method = BenchmarkController.class.getMethod("cookie", String.class);
+                request.reset("GET", "/bench/cookie").addCookie(new Cookie("session", "abc123"));
+                break;
+            case "requestBody":
+                method = BenchmarkController.class.getMethod("create", BenchmarkItem.class);
+                request.reset("POST", "/bench/items")
+                    .setContent("{\"id\":42,\"name\":\"item-42\",\"price\":19.99,\"tags\":[\"a\",\"b\",\"c\"]}");
+                break;
+            case "servletRequest":
+                method = BenchmarkController.class.getMethod("request", HttpServletRequest.class);
+                request.reset("GET", "/bench/request");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown resolver: " + resolver);
+        }
+
+        parameters = MethodParameter.forMethod(method);
+        webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public Object[] resolveArguments() throws Exception {
+        return adapter.getMethodArgumentValues(webRequest, parameters, ModelAndView.createContainer());
+    }
+}
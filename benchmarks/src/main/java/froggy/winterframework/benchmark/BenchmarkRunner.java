@@ -0,0 +1,42 @@
+package froggy.winterframework.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 전체 벤치마크를 JSON 리포트와 할당 프로파일링({@code -prof gc})을 포함해 실행한다.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar froggy.winterframework.benchmark.BenchmarkRunner [결과파일] [include 정규식...]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile)
+            .addProfiler(GCProfiler.class);
+
+        if (args.length > 1) {
+            for (int i = 1; i < args.length; i++) {
+                options.include(args[i]);
+            }
+        } else {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+
+        new Runner(options.build()).run();
+    }
+}
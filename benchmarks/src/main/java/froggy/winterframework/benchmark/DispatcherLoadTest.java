@@ -0,0 +1,51 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.mock.LoadTestResult;
+import froggy.winterframework.mock.WinterMockDispatcher;
+
+/**
+ * {@link WinterMockDispatcher}로 멀티 스레드 부하를 걸어 처리량과 지연 시간 백분위수를 출력한다.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar froggy.winterframework.benchmark.DispatcherLoadTest [스레드 수] [요청 수]
+ * </pre>
+ */
+public final class DispatcherLoadTest {
+
+    private DispatcherLoadTest() {
+    }
+
+    public static void main(String[] args) {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long requests = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+
+        WinterMockDispatcher dispatcher = WinterMockDispatcher.create(BenchmarkController.class);
+
+        LoadTestResult ping = dispatcher.load()
+            .threads(threads)
+            .warmupRequests(requests / 10)
+            .requests(requests)
+            .get("/bench/ping")
+            .run();
+        System.out.println("GET /bench/ping       " + ping);
+
+        LoadTestResult pathVariable = dispatcher.load()
+            .threads(threads)
+            .warmupRequests(requests / 10)
+            .requests(requests)
+            .get("/bench/items/42")
+            .run();
+        System.out.println("GET /bench/items/{id} " + pathVariable);
+
+        LoadTestResult search = dispatcher.load()
+            .threads(threads)
+            .warmupRequests(requests / 10)
+            .requests(requests)
+            .request(request -> request.reset("GET", "/bench/search")
+                .addParameter("q", "winter")
+                .addParameter("page", "3"))
+            .run();
+        System.out.println("GET /bench/search     " + search);
+    }
+}
@@ -0,0 +1,74 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.mock.WinterMockDispatcher;
+import froggy.winterframework.mock.web.MockHttpServletRequest;
+import froggy.winterframework.mock.web.MockHttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link WinterMockDispatcher}로 소켓 없이 DispatcherServlet 전체 흐름을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherServletBenchmark {
+
+    @Param({"ping", "pathVariable", "jsonBody", "exceptionHandler", "notFound"})
+    public String scenario;
+
+    private WinterMockDispatcher dispatcher;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        dispatcher = WinterMockDispatcher.create(BenchmarkController.class);
+        response = new MockHttpServletResponse();
+
+        switch (scenario) {
+            case "ping":
+                request = new MockHttpServletRequest("GET", "/bench/ping");
+                break;
+            case "pathVariable":
+                request = new MockHttpServletRequest("GET", "/bench/items/42");
+                break;
+            case "jsonBody":
+                request = new MockHttpServletRequest("POST", "/bench/items")
+                    .setContent("{\"id\":42,\"name\":\"item-42\",\"price\":19.99,\"tags\":[\"a\",\"b\",\"c\"]}");
+                request.setContentType("application/json");
+                break;
+            case "exceptionHandler":
+                request = new MockHttpServletRequest("GET", "/bench/fail");
+                break;
+            case "notFound":
+                request = new MockHttpServletRequest("GET", "/bench/missing");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    @Benchmark
+    public int service() throws ServletException, IOException {
+        response.reset();
+        dispatcher.perform(request, response);
+        return response.getStatus();
+    }
+}
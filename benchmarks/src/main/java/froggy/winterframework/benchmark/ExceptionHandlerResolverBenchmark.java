@@ -0,0 +1,60 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 예외 타입별 {@link ExceptionHandlerMethodResolver#resolveMethod} 조회 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerResolverBenchmark {
+
+    private ExceptionHandlerMethodResolver resolver;
+
+    private final Exception exactMatch = new IllegalArgumentException("exact");
+    private final Exception subclassMatch = new NumberFormatException("subclass");
+    private final Exception causeMatch = new RuntimeException(new IllegalStateException("cause"));
+    private final Exception noMatch = new UnsupportedOperationException("none");
+
+    @Setup
+    public void setUp() {
+        resolver = new ExceptionHandlerMethodResolver(BenchmarkController.class);
+    }
+
+    @Benchmark
+    public Method exactType() {
+        return resolver.resolveMethod(exactMatch);
+    }
+
+    @Benchmark
+    public Method superType() {
+        return resolver.resolveMethod(subclassMatch);
+    }
+
+    @Benchmark
+    public Method causeType() {
+        return resolver.resolveMethod(causeMatch);
+    }
+
+    @Benchmark
+    public Method unmapped() {
+        return resolver.resolveMethod(noMatch);
+    }
+}
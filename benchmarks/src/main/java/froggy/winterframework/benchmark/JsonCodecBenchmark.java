@@ -0,0 +1,92 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.benchmark.support.BenchmarkItem;
+import froggy.winterframework.core.MethodParameter;
+import froggy.winterframework.mock.web.MockHttpServletRequest;
+import froggy.winterframework.mock.web.MockHttpServletResponse;
+import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.context.request.ServletWebRequest;
+import froggy.winterframework.web.method.annotation.RequestBodyMethodArgumentResolver;
+import froggy.winterframework.web.method.annotation.ResponseBodyMethodReturnValueHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code @RequestBody} 역직렬화와 {@code @ResponseBody} 직렬화 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonCodecBenchmark {
+
+    /** 응답으로 직렬화할 항목 수 (1이면 단일 객체, 그 외에는 List) */
+    @Param({"1", "100"})
+    public int itemCount;
+
+    private final RequestBodyMethodArgumentResolver requestBodyResolver = new RequestBodyMethodArgumentResolver();
+    private final ResponseBodyMethodReturnValueHandler responseBodyHandler = new ResponseBodyMethodReturnValueHandler();
+
+    private MethodParameter requestBodyParameter;
+    private ServletWebRequest decodeRequest;
+
+    private MockHttpServletResponse encodeResponse;
+    private ServletWebRequest encodeRequest;
+    private Object responseBody;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        requestBodyParameter = MethodParameter.forMethod(
+            BenchmarkController.class.getMethod("create", BenchmarkItem.class))[0];
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bench/items")
+            .setContent("{\"id\":42,\"name\":\"item-42\",\"price\":19.99,\"tags\":[\"a\",\"b\",\"c\"]}");
+        decodeRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        if (itemCount == 1) {
+            responseBody = createItem(1);
+        } else {
+            List<BenchmarkItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(createItem(i));
+            }
+            responseBody = items;
+        }
+
+        encodeResponse = new MockHttpServletResponse();
+        encodeRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/bench/items"), encodeResponse);
+    }
+
+    @Benchmark
+    public Object decodeRequestBody() {
+        return requestBodyResolver.resolveArgument(requestBodyParameter, decodeRequest, ModelAndView.createContainer());
+    }
+
+    @Benchmark
+    public int encodeResponseBody() {
+        encodeResponse.reset();
+        responseBodyHandler.handleReturnValue(
+            responseBody, responseBody.getClass(), encodeRequest, ModelAndView.createContainer());
+        return encodeResponse.getContentSize();
+    }
+
+    private BenchmarkItem createItem(long id) {
+        return new BenchmarkItem(id, "item-" + id, 19.99, Arrays.asList("a", "b", "c"));
+    }
+}
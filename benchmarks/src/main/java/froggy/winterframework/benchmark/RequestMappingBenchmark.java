@@ -0,0 +1,95 @@
+package froggy.winterframework.benchmark;
+
+import froggy.winterframework.benchmark.support.BenchmarkController;
+import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.mock.web.MockHttpServletRequest;
+import froggy.winterframework.web.bind.annotation.RequestMethod;
+import froggy.winterframework.web.method.HandlerMethod;
+import froggy.winterframework.web.method.RequestMappingInfo;
+import froggy.winterframework.web.servlet.NoHandlerFoundException;
+import froggy.winterframework.web.servlet.handler.RequestMappingHandlerMapping;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 등록된 라우트 수에 따른 {@link RequestMappingHandlerMapping#getHandlerMethod} 조회 비용.
+ *
+ * <p>고정 경로와 경로 변수 라우트를 각각 {@code routeCount}개씩 등록하고,
+ * 고정 경로 적중, 경로 변수 적중, 미적중(404) 조회를 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int routeCount;
+
+    private RequestMappingHandlerMapping handlerMapping;
+    private MockHttpServletRequest directPathRequest;
+    private MockHttpServletRequest pathVariableRequest;
+    private MockHttpServletRequest missingRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handlerMapping = new RequestMappingHandlerMapping(new ApplicationContext());
+
+        BenchmarkController controller = new BenchmarkController();
+        Method ping = BenchmarkController.class.getMethod("ping");
+        Method item = BenchmarkController.class.getMethod("item", long.class);
+
+        for (int i = 0; i < routeCount; i++) {
+            handlerMapping.registerMapping(
+                new RequestMappingInfo("/api/v1/resource" + i, RequestMethod.GET),
+                new HandlerMethod(controller, BenchmarkController.class, ping));
+        }
+
+        // 경로 변수 라우트는 순차 탐색되므로 대상 라우트 외에 routeCount - 1개를 채운다.
+        for (int i = 0; i < routeCount - 1; i++) {
+            handlerMapping.registerMapping(
+                new RequestMappingInfo("/api/v1/resource" + i + "/{id}", RequestMethod.GET),
+                new HandlerMethod(controller, BenchmarkController.class, item));
+        }
+        handlerMapping.registerMapping(
+            new RequestMappingInfo("/bench/items/{id}", RequestMethod.GET),
+            new HandlerMethod(controller, BenchmarkController.class, item));
+
+        directPathRequest = new MockHttpServletRequest("GET", "/api/v1/resource" + (routeCount / 2));
+        pathVariableRequest = new MockHttpServletRequest("GET", "/bench/items/42");
+        missingRequest = new MockHttpServletRequest("GET", "/api/v2/missing");
+    }
+
+    @Benchmark
+    public HandlerMethod directPath() throws ServletException {
+        return handlerMapping.getHandlerMethod(directPathRequest);
+    }
+
+    @Benchmark
+    public HandlerMethod pathVariable() throws ServletException {
+        return handlerMapping.getHandlerMethod(pathVariableRequest);
+    }
+
+    @Benchmark
+    public Object missing() throws ServletException {
+        try {
+            return handlerMapping.getHandlerMethod(missingRequest);
+        } catch (NoHandlerFoundException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package froggy.winterframework.benchmark.support;
+
+import froggy.winterframework.http.ResponseEntity;
+import froggy.winterframework.stereotype.Controller;
+import froggy.winterframework.web.bind.annotation.CookieValue;
+import froggy.winterframework.web.bind.annotation.ExceptionHandler;
+import froggy.winterframework.web.bind.annotation.PathVariable;
+import froggy.winterframework.web.bind.annotation.RequestBody;
+import froggy.winterframework.web.bind.annotation.RequestHeader;
+import froggy.winterframework.web.bind.annotation.RequestMapping;
+import froggy.winterframework.web.bind.annotation.RequestMethod;
+import froggy.winterframework.web.bind.annotation.RequestParam;
+import froggy.winterframework.web.bind.annotation.ResponseBody;
+import java.util.Arrays;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 벤치마크 대상 Handler. 인자 바인딩 방식별로 하나씩 메소드를 둔다.
+ */
+@Controller
+@RequestMapping("/bench")
+public class BenchmarkController {
+
+    @ResponseBody
+    @RequestMapping(value = "/ping", method = RequestMethod.GET)
+    public String ping() {
+        return "pong";
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/items/{id}", method = RequestMethod.GET)
+    public BenchmarkItem item(@PathVariable("id") long id) {
+        return new BenchmarkItem(id, "item-" + id, 19.99, Arrays.asList("a", "b", "c"));
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/items", method = RequestMethod.POST)
+    public BenchmarkItem create(@RequestBody BenchmarkItem item) {
+        return item;
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/search", method = RequestMethod.GET)
+    public String search(@RequestParam("q") String q, @RequestParam("page") int page) {
+        return q + page;
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/header", method = RequestMethod.GET)
+    public String header(@RequestHeader("X-Trace-Id") String traceId) {
+        return traceId;
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/cookie", method = RequestMethod.GET)
+    public String cookie(@CookieValue("session") String session) {
+        return session;
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/request", method = RequestMethod.GET)
+    public String request(HttpServletRequest request) {
+        return request.getRequestURI();
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/fail", method = RequestMethod.GET)
+    public String fail() {
+        throw new IllegalArgumentException("benchmark failure");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleIllegalState(IllegalStateException e) {
+        return ResponseEntity.internalServerError().body(e.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package froggy.winterframework.benchmark.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON 직렬화/역직렬화 벤치마크에 사용하는 DTO.
+ */
+public class BenchmarkItem {
+
+    private long id;
+    private String name;
+    private double price;
+    private List<String> tags = new ArrayList<>();
+
+    public BenchmarkItem() {
+    }
+
+    public BenchmarkItem(long id, String name, double price, List<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.tags = tags;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,18 @@
+package froggy.winterframework.beans.factory;
+
+/**
+ * 컨테이너 종료 시 자원을 정리해야 하는 빈이 구현하는 인터페이스.
+ *
+ * <p>{@code ApplicationContext#close()}가 호출되면 싱글톤 빈의 {@code destroy()}를
+ * 등록 순서의 역순(의존하는 빈이 먼저)으로 호출한다.
+ */
+public interface DisposableBean {
+
+    /**
+     * 컨테이너 종료 시 호출.
+     *
+     * @throws Exception 정리 과정에서 발생하는 예외, 기록만 하고 다음 빈의 정리를 계속한다
+     */
+    void destroy() throws Exception;
+
+}
@@ -0,0 +1,51 @@
+package froggy.winterframework.beans.factory.config;
+
+import froggy.winterframework.beans.factory.InitializingBean;
+import froggy.winterframework.core.Ordered;
+
+/**
+ * 생성된 Bean 인스턴스를 후처리하는 PostProcessor.
+ *
+ * <p>{@link BeanFactoryPostProcessor}가 BeanDefinition을 대상으로 하는 것과 달리,
+ * Bean 인스턴스가 생성된 직후 인스턴스를 대상으로 호출된다.
+ * 반환한 객체가 원본 대신 Bean으로 등록되므로 Proxy로 감싸는 확장에 사용한다.
+ *
+ * <p>{@link Ordered}를 구현하면 순서 값이 작은 PostProcessor부터 적용된다.
+ * Bean 클래스별로 {@link #supportsBeanType(Class)}를 통과한 PostProcessor 목록을 캐시하므로
+ * 대상 타입이 한정된 PostProcessor는 이 메소드로 대상을 좁히는 것이 좋다.
+ */
+public interface BeanPostProcessor {
+
+    /**
+     * 이 PostProcessor를 적용할 Bean 클래스인지 확인한다.
+     * 결과는 클래스별로 캐시되므로 같은 클래스에 대해 항상 같은 결과를 반환해야 한다.
+     *
+     * @param beanType 생성된 Bean 인스턴스의 클래스
+     * @return 적용 대상이면 {@code true}
+     */
+    default boolean supportsBeanType(Class<?> beanType) {
+        return true;
+    }
+
+    /**
+     * Bean 인스턴스 생성 후, {@link InitializingBean#afterPropertiesSet()} 호출 전에 호출.
+     *
+     * @param bean     생성된 Bean 인스턴스
+     * @param beanName Bean 이름
+     * @return 초기화를 진행할 Bean 인스턴스 (원본 또는 원본을 감싼 객체)
+     */
+    default Object postProcessBeforeInitialization(Object bean, String beanName) {
+        return bean;
+    }
+
+    /**
+     * {@link InitializingBean#afterPropertiesSet()} 호출 후에 호출.
+     *
+     * @param bean     초기화된 Bean 인스턴스
+     * @param beanName Bean 이름
+     * @return 등록할 Bean 인스턴스 (원본 또는 원본을 감싼 객체)
+     */
+    default Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean;
+    }
+}
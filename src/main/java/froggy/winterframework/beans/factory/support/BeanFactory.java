@@ -1,9 +1,16 @@
 package froggy.winterframework.beans.factory.support;
 
+import froggy.winterframework.beans.factory.DisposableBean;
+import froggy.winterframework.beans.factory.InitializingBean;
 import froggy.winterframework.beans.factory.annotation.Autowired;
 import froggy.winterframework.beans.factory.annotation.Value;
 import froggy.winterframework.beans.factory.config.BeanDefinition;
+import froggy.winterframework.beans.factory.config.BeanPostProcessor;
+import froggy.winterframework.core.Ordered;
 import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.startup.StartupReport;
+import froggy.winterframework.core.startup.StartupStep;
+import froggy.winterframework.core.startup.StartupTimeline;
 import froggy.winterframework.utils.WinterUtils;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -16,12 +23,14 @@ import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Bean 생성, 등록, 조회를 담당하는 팩토리 클래스.
@@ -36,9 +45,18 @@ public class BeanFactory extends SingletonBeanRegistry {
     private final Map<String, BeanDefinition> beanDefinitionMap = new ConcurrentHashMap<>(32);
     private final Map<Class<?>, Object> resolvableDependencies = new ConcurrentHashMap<>(8);
 
+    /** 생성된 Bean 인스턴스에 적용할 BeanPostProcessor 목록 (순서대로 정렬) */
+    private final List<BeanPostProcessor> beanPostProcessors = new CopyOnWriteArrayList<>();
+
+    /** Bean 클래스별로 적용할 BeanPostProcessor 배열 캐시 */
+    private final Map<Class<?>, BeanPostProcessor[]> beanPostProcessorCache = new ConcurrentHashMap<>(64);
+
     /** 애플리케이션 전체 설정(properties, 환경변수 등)을 제공하는 Environment */
     private Environment environment;
 
+    /** Bean 생성 시간을 기록할 기동 타임라인, 없으면 기록하지 않음 */
+    private StartupTimeline startupTimeline;
+
     /**
      * 지정한 이름의 {@link BeanDefinition}을 반환.
      *
@@ -229,7 +247,19 @@ public class BeanFactory extends SingletonBeanRegistry {
      * @throws RuntimeException Bean생성 중 발생한 예외
      */
     public Object createBean(String beanName, BeanDefinition beanDefinition) throws RuntimeException {
-        return doCreateBean(beanName, beanDefinition);
+        if (startupTimeline == null) {
+            return doCreateBean(beanName, beanDefinition);
+        }
+
+        // 의존 Bean은 생성 중에 자식 단계로 기록되므로 소요 시간은 의존 Bean 생성 시간을 포함한다.
+        StartupStep step = startupTimeline.start(StartupReport.BEAN_CREATE_STEP)
+            .tag("beanName", beanName)
+            .tag("beanClass", beanDefinition.getBeanClass().getName());
+        try {
+            return doCreateBean(beanName, beanDefinition);
+        } finally {
+            step.end();
+        }
     }
 
     /**
@@ -243,6 +273,7 @@ public class BeanFactory extends SingletonBeanRegistry {
      */
     private Object doCreateBean(String beanName, BeanDefinition beanDefinition) throws RuntimeException {
         Object beanInstance = createBeanInstance(beanName, beanDefinition);
+        beanInstance = initializeBean(beanName, beanInstance);
 
         if (beanDefinition.isSingleton()) {
             registerSingleton(beanName, beanInstance);
@@ -251,6 +282,81 @@ public class BeanFactory extends SingletonBeanRegistry {
         return beanInstance;
     }
 
+    /**
+     * 생성된 Bean 인스턴스를 초기화한다.
+     *
+     * <ol>
+     *     <li>{@link BeanPostProcessor#postProcessBeforeInitialization(Object, String)}</li>
+     *     <li>{@link InitializingBean#afterPropertiesSet()}</li>
+     *     <li>{@link BeanPostProcessor#postProcessAfterInitialization(Object, String)}</li>
+     * </ol>
+     *
+     * @param beanName     Bean 이름
+     * @param beanInstance 생성된 Bean 인스턴스
+     * @return 초기화 및 후처리된 Bean 인스턴스
+     * @throws IllegalStateException 초기화에 실패하거나 BeanPostProcessor가 {@code null}을 반환한 경우
+     */
+    private Object initializeBean(String beanName, Object beanInstance) {
+        BeanPostProcessor[] processors = getBeanPostProcessors(beanInstance.getClass());
+
+        Object result = beanInstance;
+        for (BeanPostProcessor processor : processors) {
+            result = requireProcessed(processor.postProcessBeforeInitialization(result, beanName), beanName, processor);
+        }
+
+        invokeInitMethods(beanName, result);
+
+        for (BeanPostProcessor processor : processors) {
+            result = requireProcessed(processor.postProcessAfterInitialization(result, beanName), beanName, processor);
+        }
+        return result;
+    }
+
+    /**
+     * Bean이 {@link InitializingBean}을 구현하면 {@link InitializingBean#afterPropertiesSet()}를 호출한다.
+     */
+    private void invokeInitMethods(String beanName, Object bean) {
+        if (!(bean instanceof InitializingBean)) {
+            return;
+        }
+
+        try {
+            ((InitializingBean) bean).afterPropertiesSet();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Invocation of afterPropertiesSet failed for bean '" + beanName + "'", e);
+        }
+    }
+
+    private Object requireProcessed(Object processed, String beanName, BeanPostProcessor processor) {
+        if (processed == null) {
+            throw new IllegalStateException(
+                "BeanPostProcessor returned null for bean '" + beanName + "': " + processor.getClass().getName());
+        }
+        return processed;
+    }
+
+    /**
+     * 주어진 Bean 클래스에 적용할 {@link BeanPostProcessor} 배열을 반환한다.
+     * {@link BeanPostProcessor#supportsBeanType(Class)}로 걸러낸 결과를 클래스별로 캐시한다.
+     */
+    private BeanPostProcessor[] getBeanPostProcessors(Class<?> beanType) {
+        if (beanPostProcessors.isEmpty()) {
+            return new BeanPostProcessor[0];
+        }
+
+        return beanPostProcessorCache.computeIfAbsent(beanType, type -> {
+            List<BeanPostProcessor> applicable = new ArrayList<>();
+            for (BeanPostProcessor processor : beanPostProcessors) {
+                if (processor.supportsBeanType(type)) {
+                    applicable.add(processor);
+                }
+            }
+            return applicable.toArray(new BeanPostProcessor[0]);
+        });
+    }
+
     /**
      * BeanDefinition 체크하여 FactoryMethod 또는 생성자를 통해 인스턴스를 생성.
      *
@@ -506,6 +612,36 @@ public class BeanFactory extends SingletonBeanRegistry {
         }
     }
 
+    /**
+     * 싱글톤 Bean의 {@link DisposableBean#destroy()}를 등록 순서의 역순으로 호출한다.
+     * <p>Bean은 자신이 의존하는 Bean이 등록된 뒤에 등록되므로, 의존하는 Bean이 먼저 정리된다.
+     * 정리 중 예외는 기록만 하고 나머지 Bean의 정리를 계속한다.
+     */
+    public void destroySingletons() {
+        List<String> beanNames = getSingletonNamesInRegistrationOrder();
+        for (int i = beanNames.size() - 1; i >= 0; i--) {
+            String beanName = beanNames.get(i);
+            Object bean = getSingleton(beanName);
+            if (!(bean instanceof DisposableBean)) {
+                continue;
+            }
+
+            try {
+                ((DisposableBean) bean).destroy();
+            } catch (Exception e) {
+                System.err.println("Invocation of destroy method failed on bean '" + beanName + "' - "
+                    + e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이후 생성되는 Bean의 생성 시간을 기록할 {@link StartupTimeline}을 설정한다.
+     */
+    public void setStartupTimeline(StartupTimeline startupTimeline) {
+        this.startupTimeline = startupTimeline;
+    }
+
     /**
      * 지정한 이름의 {@link BeanDefinition}이 존재하는지 확인.
      *
@@ -516,6 +652,38 @@ public class BeanFactory extends SingletonBeanRegistry {
         return beanDefinitionMap.containsKey(beanName);
     }
 
+    /**
+     * 이후 생성되는 Bean에 적용할 {@link BeanPostProcessor}를 등록.
+     * {@link Ordered} 순서로 정렬되며, 이미 생성된 Bean에는 적용되지 않는다.
+     *
+     * @param beanPostProcessor 등록할 BeanPostProcessor
+     */
+    public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
+        synchronized (beanPostProcessors) {
+            List<BeanPostProcessor> processors = new ArrayList<>(beanPostProcessors);
+            processors.remove(beanPostProcessor);
+            processors.add(beanPostProcessor);
+            processors.sort(Comparator.comparingInt(BeanFactory::getOrder));
+
+            beanPostProcessors.clear();
+            beanPostProcessors.addAll(processors);
+            beanPostProcessorCache.clear();
+        }
+    }
+
+    private static int getOrder(Object candidate) {
+        return (candidate instanceof Ordered) ? ((Ordered) candidate).getOrder() : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * 등록된 {@link BeanPostProcessor} 목록을 반환.
+     *
+     * @return BeanPostProcessor List
+     */
+    public List<BeanPostProcessor> getBeanPostProcessors() {
+        return Collections.unmodifiableList(beanPostProcessors);
+    }
+
     /**
      * 특정 타입에대한 특수 의존성을 직접 등록할 수 있게 하는 메소드.
      * DI(Dependency Injection)시 일반 Bean보다 우선 조회되는 '특수 의존성'
@@ -1,6 +1,7 @@
 package froggy.winterframework.beans.factory.support;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -16,6 +17,11 @@ public class SingletonBeanRegistry {
     /** BeanName을 Key로 하는 Bean 객체 Map */
     private final Map<String, Object> singletonObjects = new ConcurrentHashMap<>(32);
 
+    /**
+     * 등록 순서대로의 BeanName. 의존 Bean은 의존하는 Bean보다 먼저 생성·등록되므로 역순이 안전한 정리 순서다.
+     */
+    private final List<String> registrationOrder = new ArrayList<>(32);
+
     /**
      * Singleton Bean을 저장소에 등록.
      *
@@ -41,6 +47,10 @@ public class SingletonBeanRegistry {
         if (oldObject != null) {
             throw new IllegalStateException("A Bean with the name '" + beanName + "' is already registered.");
         }
+
+        synchronized (registrationOrder) {
+            registrationOrder.add(beanName);
+        }
     }
 
     /**
@@ -62,4 +72,15 @@ public class SingletonBeanRegistry {
         return new ArrayList<>(singletonObjects.keySet());
     }
 
+    /**
+     * 등록된 순서대로 Singleton BeanName 리스트를 반환
+     *
+     * @return 등록 순서의 Singleton BeanName 리스트
+     */
+    protected List<String> getSingletonNamesInRegistrationOrder() {
+        synchronized (registrationOrder) {
+            return new ArrayList<>(registrationOrder);
+        }
+    }
+
 }
@@ -0,0 +1,118 @@
+package froggy.winterframework.boot;
+
+import froggy.winterframework.boot.web.server.WebServer;
+import froggy.winterframework.context.ApplicationContext;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link WinterApplication#start(Class)}로 실행된 애플리케이션의 수명 주기 Handle.
+ *
+ * <p>한 JVM에서 여러 인스턴스를 실행할 수 있도록 서버와 컨텍스트를 인스턴스별로 보관한다.
+ * {@link #close()}하면 서버를 정지(처리 중인 요청 대기 포함)하고 싱글톤 Bean을 정리한다.
+ * 직접 닫지 않으면 JVM 종료 Hook이 같은 순서로 닫는다.
+ *
+ * <pre>{@code
+ * try (RunningApplication app = WinterApplication.start(ExampleApp.class)) {
+ *     String url = "http://localhost:" + app.getPort() + "/api/hello";
+ *     ...
+ * }
+ * }</pre>
+ */
+public class RunningApplication implements AutoCloseable {
+
+    private final ApplicationContext context;
+    private final WebServer webServer;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Thread shutdownHook;
+    private volatile long timeToReadyNanos = -1L;
+
+    RunningApplication(ApplicationContext context, WebServer webServer) {
+        this.context = context;
+        this.webServer = webServer;
+        this.shutdownHook = new Thread(() -> {
+            if (closed.compareAndSet(false, true)) {
+                shutdown();
+            }
+        }, "winter-shutdown");
+    }
+
+    void registerShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    void markReady(long timeToReadyNanos) {
+        this.timeToReadyNanos = timeToReadyNanos;
+    }
+
+    public ApplicationContext getContext() {
+        return context;
+    }
+
+    /**
+     * 실제로 바인딩된 애플리케이션 포트. {@code server.port=0}이면 OS가 할당한 포트다.
+     */
+    public int getPort() {
+        return webServer.getPort();
+    }
+
+    /**
+     * {@link WinterApplication#start(Class)} 호출부터 서버가 요청을 받을 준비가 될 때까지 걸린 시간 (ns).
+     * {@code start()}는 서버가 준비된 뒤에만 Handle을 반환하므로 항상 측정된 값이다.
+     *
+     * @return 소요 시간
+     */
+    public long getTimeToReadyNanos() {
+        return timeToReadyNanos;
+    }
+
+    public boolean isRunning() {
+        return timeToReadyNanos >= 0 && !closed.get();
+    }
+
+    /**
+     * 애플리케이션이 종료될 때까지 대기한다.
+     */
+    public void awaitTermination() throws InterruptedException {
+        terminated.await();
+    }
+
+    /**
+     * 애플리케이션이 종료될 때까지 최대 {@code timeout} 동안 대기한다.
+     *
+     * @return 종료되었으면 {@code true}, 제한 시간이 지났으면 {@code false}
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * 서버를 정지하고 컨텍스트를 닫는다. 여러 번 호출되어도 한 번만 수행한다.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM이 이미 종료 중이면 Hook을 제거할 수 없다. 종료 작업은 여기서 수행한다.
+        }
+        shutdown();
+    }
+
+    private void shutdown() {
+        try {
+            webServer.stop();
+        } catch (RuntimeException e) {
+            System.err.println("Failed to stop Web Server - " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            context.close();
+            terminated.countDown();
+        }
+    }
+}
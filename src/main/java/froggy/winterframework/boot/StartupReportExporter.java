@@ -0,0 +1,53 @@
+package froggy.winterframework.boot;
+
+import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.startup.StartupReport;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 기동이 끝난 뒤 {@link StartupReport}를 설정에 따라 출력하거나 파일로 저장한다.
+ *
+ * <pre>
+ * winter.startup.report.print=false   # true이면 단계 트리와 느린 Bean 목록을 표준 출력에 출력
+ * winter.startup.report.file=         # 지정하면 해당 경로에 JSON으로 저장
+ * </pre>
+ */
+public final class StartupReportExporter {
+
+    private StartupReportExporter() {
+    }
+
+    /**
+     * 컨텍스트의 기동 기록을 마치고 설정된 방식으로 보고서를 내보낸다.
+     *
+     * @return 기동 보고서
+     */
+    public static StartupReport export(ApplicationContext context) {
+        StartupReport report = context.finishStartup();
+        Environment environment = context.getEnvironment();
+
+        if (environment.getProperty("winter.startup.report.print", Boolean.class, false)) {
+            report.print(System.out);
+        }
+
+        String file = environment.getProperty("winter.startup.report.file", "");
+        if (!file.trim().isEmpty()) {
+            Path path = Paths.get(file.trim());
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, report.toJson().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write startup report: " + path, e);
+            }
+        }
+
+        return report;
+    }
+}
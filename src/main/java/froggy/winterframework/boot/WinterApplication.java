@@ -4,6 +4,7 @@ import static froggy.winterframework.utils.WinterUtils.hasAnnotation;
 
 import froggy.winterframework.beans.factory.config.BeanDefinition;
 import froggy.winterframework.beans.factory.config.BeanFactoryPostProcessor;
+import froggy.winterframework.beans.factory.config.BeanPostProcessor;
 import froggy.winterframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import froggy.winterframework.beans.factory.support.BeanFactory;
 import froggy.winterframework.boot.web.embedded.jetty.jettyWebServer;
@@ -11,8 +12,9 @@ import froggy.winterframework.boot.web.server.WebServer;
 import froggy.winterframework.context.ApplicationContext;
 import froggy.winterframework.context.annotation.AnnotationScopeMetadataResolver;
 import froggy.winterframework.context.annotation.ConfigurationClassPostProcessor;
-import froggy.winterframework.core.PropertySource;
 import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.startup.StartupStep;
+import froggy.winterframework.core.startup.StartupTimeline;
 import froggy.winterframework.stereotype.Component;
 import froggy.winterframework.utils.WinterUtils;
 import java.io.BufferedReader;
@@ -21,8 +23,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -38,24 +40,60 @@ public class WinterApplication {
      * 애플리케이션 진입점 클래스.
      */
     private Class<?> mainApplicationClass;
+    /** 실행 인자, {@code --key=value}는 가장 높은 우선순위의 설정이 된다. */
+    private final String[] args;
     private final AnnotationScopeMetadataResolver scopeMetadataResolver = new AnnotationScopeMetadataResolver();
 
-    public WinterApplication(Class<?> mainApplicationClass) {
+    /** 기동 단계별 소요 시간 기록, 생성된 {@link ApplicationContext}에 넘겨진다. */
+    private final StartupTimeline startupTimeline = new StartupTimeline("application");
+
+    public WinterApplication(Class<?> mainApplicationClass, String... args) {
         this.mainApplicationClass = mainApplicationClass;
+        this.args = args != null ? args.clone() : new String[0];
     }
 
     /**
-     * 애플리케이션을 실행하여 {@link ApplicationContext}를 초기화하고 반환.
+     * {@link ApplicationContext}를 초기화하고 Embedded WAS를 시작한다. 서버 종료까지 대기하지 않는다.
      *
-     * @return 초기화된 {@link ApplicationContext}
+     * @return 실행 중인 애플리케이션의 Handle
      * @throws Exception 실행 중 발생하는 예외
      */
-    private ApplicationContext run() throws Exception {
+    private RunningApplication startApplication() throws Exception {
+        long startNanos = System.nanoTime();
+        ApplicationContext context = createApplicationContext();
+
+        // Embedded Web Application Server
+        WebServer webServer = new jettyWebServer(context);
+        RunningApplication application = new RunningApplication(context, webServer);
+        application.registerShutdownHook();
+        try {
+            webServer.start();
+        } catch (Exception e) {
+            application.close();
+            throw e;
+        }
+
+        application.markReady(System.nanoTime() - startNanos);
+        return application;
+    }
+
+    /**
+     * Embedded WAS를 실행하지 않고 {@link ApplicationContext}만 초기화한다.
+     *
+     * @return 모든 싱글톤 Bean 생성까지 완료된 {@link ApplicationContext}
+     * @throws Exception 초기화 중 발생하는 예외
+     */
+    private ApplicationContext createApplicationContext() throws Exception {
+        long startNanos = System.nanoTime();
+
         // 애플리케이션 실행에 필요한 환경(Environment) 구성
+        StartupStep step = startupTimeline.start("environment.prepare");
         Environment environment = prepareEnvironment();
+        step.end();
 
         // 애플리케이션의 빈 관리 및 컨텍스트를 초기화하기 위한 기본 객체
         ApplicationContext context = new ApplicationContext();
+        context.setStartupTimeline(startupTimeline);
 
         // 환경설정, 리스너 등록
         prepareContext(context, environment);
@@ -63,9 +101,7 @@ public class WinterApplication {
         // @Component가 붙은 클래스 스캔, BeanDefinition 등록 및 Singleton Bean 인스턴스 생성
         refreshContext(context);
 
-        // Embedded Web Application Server
-        initServer(context);
-
+        context.setStartupDurationNanos(System.nanoTime() - startNanos);
         return context;
     }
 
@@ -73,12 +109,11 @@ public class WinterApplication {
      * 애플리케이션 실행에 필요한 환경(Environment) 구성
      */
     private Environment prepareEnvironment() throws IOException {
-        Environment environment = new Environment();
+        Environment environment = new Environment(args);
 
         // basePackage 프로퍼티 설정
-        HashMap<String, String> property = new HashMap<>();
-        property.put("basePackage", mainApplicationClass.getPackage().getName());
-        environment.getPropertySource().mergePropertySource(new PropertySource("system", property));
+        environment.addDefaultProperties(
+            Collections.singletonMap("basePackage", mainApplicationClass.getPackage().getName()));
 
         return environment;
     }
@@ -126,13 +161,25 @@ public class WinterApplication {
      * @param context ApplicationContext
      */
     private void refreshContext(ApplicationContext context) {
+        StartupStep refresh = startupTimeline.start("context.refresh");
         prepareBeanFactory(context.getBeanFactory(), context.getEnvironment(), context);
 
+        StartupStep step = startupTimeline.start("beans.register");
         registerBeanDefinition(context.getBeanFactory());
+        step.end();
 
+        step = startupTimeline.start("beanfactory.post-process");
         postProcessBeanFactory(context.getBeanFactory(), context.getBeanFactoryPostProcessors());
+        step.end();
 
+        step = startupTimeline.start("beanpostprocessors.register");
+        registerBeanPostProcessors(context.getBeanFactory());
+        step.end();
+
+        step = startupTimeline.start("beans.instantiate");
         finishBeanFactoryInitialization(context.getBeanFactory());
+        step.end();
+        refresh.end();
     }
 
     private void prepareBeanFactory(BeanFactory beanFactory, Environment environment, ApplicationContext context) {
@@ -155,13 +202,31 @@ public class WinterApplication {
         for (BeanFactoryPostProcessor pp : allProcessors) {
             if (pp instanceof BeanDefinitionRegistryPostProcessor) {
                 BeanDefinitionRegistryPostProcessor bdpp = (BeanDefinitionRegistryPostProcessor) pp;
+                StartupStep step = startupTimeline.start("beanfactory.post-process.registry")
+                    .tag("postProcessor", pp.getClass().getName());
                 bdpp.postProcessBeanDefinitionRegistry(factory);
+                step.end();
             }
         }
 
         // 2. BeanFactoryPostProcessor#postProcessBeanFactory 실행
         for (BeanFactoryPostProcessor pp : allProcessors) {
+            StartupStep step = startupTimeline.start("beanfactory.post-process.factory")
+                .tag("postProcessor", pp.getClass().getName());
             pp.postProcessBeanFactory(factory);
+            step.end();
+        }
+    }
+
+    /**
+     * BeanPostProcessor 타입의 Bean을 먼저 생성하여 BeanFactory에 등록한다.
+     * 이후 생성되는 모든 Bean 인스턴스에 후처리가 적용된다.
+     *
+     * @param factory BeanPostProcessor를 등록할 BeanFactory 인스턴스
+     */
+    private void registerBeanPostProcessors(BeanFactory factory) {
+        for (String ppName : factory.getBeanNamesForType(BeanPostProcessor.class)) {
+            factory.addBeanPostProcessor(factory.getBean(ppName, BeanPostProcessor.class));
         }
     }
 
@@ -171,7 +236,9 @@ public class WinterApplication {
      * @param beanFactory BeanFactory 인스턴스
      */
     public void registerBeanDefinition(BeanFactory beanFactory) {
+        StartupStep step = startupTimeline.start("beans.scan");
         Set<Class<?>> classNames = scanBeanCandidates();
+        step.end();
 
         Map<String, BeanDefinition> beanDefinitions = createBeanDefinitions(classNames);
         for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
@@ -186,25 +253,28 @@ public class WinterApplication {
      * @return 스캔된 Bean 후보 클래스들의 Set
      */
     private Set<Class<?>> scanBeanCandidates() {
-        Set<Class<?>> appBeans = WinterUtils.scanTypesAnnotatedWith(
-            Component.class,
-            mainApplicationClass.getPackage().getName()
-        );
+        Set<Class<?>> appBeans = scanPackage(mainApplicationClass.getPackage().getName());
 
-        Set<Class<?>> classes = WinterUtils.scanTypesAnnotatedWith(
-            Component.class,
-            "froggy.winterframework"
-        );
+        Set<Class<?>> classes = scanPackage("froggy.winterframework");
 
         appBeans.addAll(classes);
 
+        StartupStep step = startupTimeline.start("beans.scan.autoconfig");
         Set<Class<?>> externalBeans = scanAutoConfigClasses();
+        step.tag("candidates", String.valueOf(externalBeans.size())).end();
         appBeans.addAll(externalBeans);
 
         return appBeans;
     }
 
 
+    private Set<Class<?>> scanPackage(String basePackage) {
+        StartupStep step = startupTimeline.start("beans.scan.package").tag("package", basePackage);
+        Set<Class<?>> candidates = WinterUtils.scanTypesAnnotatedWith(Component.class, basePackage);
+        step.tag("candidates", String.valueOf(candidates.size())).end();
+        return candidates;
+    }
+
     /**
      * 외부 패키지의 모든 클래스를 스캔하여 FQCN의 Set으로 반환.
      *
@@ -290,18 +360,31 @@ public class WinterApplication {
     }
 
     /**
-     * Embedded WAS 실행
+     * 애플리케이션 실행 메소드. 서버가 종료(JVM 종료 Hook 등)될 때까지 대기한 뒤 컨텍스트를 반환한다.
      */
-    private void initServer(ApplicationContext applicationContext) throws Exception {
-        WebServer webServer = new jettyWebServer(applicationContext);
-        webServer.start();
+    public static ApplicationContext run(Class<?> runClass, String... args) throws Exception {
+        RunningApplication application = start(runClass, args);
+        application.awaitTermination();
+        return application.getContext();
     }
 
     /**
-     * 애플리케이션 실행 메소드
+     * 애플리케이션을 시작하고 서버가 요청을 받을 준비가 되면 바로 반환한다.
+     * 테스트처럼 한 JVM에서 여러 인스턴스를 실행할 때는 {@code server.port=0}으로 임의 포트를 사용한다.
+     *
+     * @return 포트 조회, 종료 대기, {@link RunningApplication#close()}를 제공하는 Handle
      */
-    public static ApplicationContext run(Class<?> runClass) throws Exception {
-        return (new WinterApplication(runClass)).run();
+    public static RunningApplication start(Class<?> runClass, String... args) throws Exception {
+        return (new WinterApplication(runClass, args)).startApplication();
+    }
+
+    /**
+     * 서버 없이 컨텍스트만 초기화하는 메소드. 테스트나 벤치마크처럼 소켓이 필요 없는 환경에서 사용한다.
+     */
+    public static ApplicationContext initialize(Class<?> runClass, String... args) throws Exception {
+        ApplicationContext context = (new WinterApplication(runClass, args)).createApplicationContext();
+        StartupReportExporter.export(context);
+        return context;
     }
 
 }
\ No newline at end of file
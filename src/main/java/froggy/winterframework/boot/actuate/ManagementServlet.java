@@ -0,0 +1,115 @@
+package froggy.winterframework.boot.actuate;
+
+import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.core.startup.StartupReport;
+import froggy.winterframework.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * 관리용 Connector에서만 노출되는 지표/상태 조회 Servlet.
+ *
+ * <ul>
+ *   <li>{@code GET /metrics} - Prometheus text format</li>
+ *   <li>{@code GET /health} - {@code {"status":"UP"}}, 종료 중에는 {@code 503 {"status":"OUT_OF_SERVICE"}}</li>
+ *   <li>{@code GET /startup} - 기동 단계별 소요 시간 ({@link StartupReport#toJson()})</li>
+ * </ul>
+ */
+public class ManagementServlet extends HttpServlet {
+
+    private static final byte[] HEALTH_UP = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEALTH_OUT_OF_SERVICE =
+        "{\"status\":\"OUT_OF_SERVICE\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ApplicationContext context;
+    private final PrometheusTextRenderer renderer;
+    private volatile boolean acceptingTraffic = true;
+
+    public ManagementServlet(MetricsRegistry metricsRegistry, ApplicationContext context) {
+        this.context = context;
+        this.renderer = new PrometheusTextRenderer(metricsRegistry, context);
+    }
+
+    /**
+     * Jetty 요청 처리 스레드 풀 지표를 노출할 대상 풀을 설정한다.
+     */
+    public void setThreadPool(QueuedThreadPool threadPool) {
+        synchronized (renderer) {
+            renderer.setThreadPool(threadPool);
+        }
+    }
+
+    /**
+     * 서버 기동 완료 시점의 JVM uptime을 기록한다.
+     */
+    public void setReadyUptimeMillis(long readyUptimeMillis) {
+        synchronized (renderer) {
+            renderer.setReadyUptimeMillis(readyUptimeMillis);
+        }
+    }
+
+    /**
+     * 애플리케이션이 요청을 받는지(Readiness) 설정한다. 종료가 시작되면 {@code false}가 된다.
+     */
+    public void setAcceptingTraffic(boolean acceptingTraffic) {
+        this.acceptingTraffic = acceptingTraffic;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = request.getRequestURI();
+        if ("/metrics".equals(path)) {
+            writeMetrics(response);
+        } else if ("/health".equals(path)) {
+            writeHealth(response);
+        } else if ("/startup".equals(path)) {
+            writeStartup(response);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 렌더러의 버퍼를 재사용하므로 동시에 들어온 수집 요청은 순서대로 처리한다.
+     */
+    private void writeMetrics(HttpServletResponse response) throws IOException {
+        response.setContentType(PrometheusTextRenderer.CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+
+        synchronized (renderer) {
+            renderer.render();
+            response.setContentLength(renderer.size());
+            ServletOutputStream outputStream = response.getOutputStream();
+            renderer.writeTo(outputStream);
+            outputStream.flush();
+        }
+    }
+
+    private void writeStartup(HttpServletResponse response) throws IOException {
+        StartupReport report = context.getStartupReport();
+        if (report == null) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        byte[] body = report.toJson().getBytes(StandardCharsets.UTF_8);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeHealth(HttpServletResponse response) throws IOException {
+        byte[] body = acceptingTraffic ? HEALTH_UP : HEALTH_OUT_OF_SERVICE;
+        if (!acceptingTraffic) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
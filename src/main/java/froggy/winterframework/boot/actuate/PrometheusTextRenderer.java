@@ -0,0 +1,465 @@
+package froggy.winterframework.boot.actuate;
+
+import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.metrics.HistogramSnapshot;
+import froggy.winterframework.metrics.LatencyHistogram;
+import froggy.winterframework.metrics.MetricsRegistry;
+import froggy.winterframework.metrics.RouteMetrics;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * {@link MetricsRegistry}와 JVM 지표를 Prometheus text exposition format(0.0.4)으로 렌더링한다.
+ *
+ * <p>출력은 인스턴스가 보관하는 바이트 버퍼에 직접 Write하며, 버퍼와 히스토그램 스냅샷을 매 수집마다 재사용한다.
+ * 정수 값은 문자열을 만들지 않고 숫자를 그대로 Write하므로 주기적인 수집에도 할당이 거의 없다.
+ * 인스턴스는 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class PrometheusTextRenderer {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** Prometheus 히스토그램 버킷 상한 (초) */
+    private static final String[] LATENCY_BUCKET_LABELS = {
+        "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+    private static final long[] LATENCY_BUCKET_NANOS = {
+        500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+        100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L
+    };
+
+    private final MetricsRegistry metricsRegistry;
+    private final ApplicationContext context;
+    private final HistogramSnapshot snapshot = new HistogramSnapshot();
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /** 요청 처리 스레드 풀, 설정되지 않으면 Jetty 지표를 생략한다. */
+    private QueuedThreadPool threadPool;
+
+    /** 서버가 요청을 받을 수 있게 된 시점의 JVM uptime (millis), 기동 전에는 -1 */
+    private long readyUptimeMillis = -1;
+
+    private byte[] buffer = new byte[16 * 1024];
+    private int size;
+
+    public PrometheusTextRenderer(MetricsRegistry metricsRegistry, ApplicationContext context) {
+        this.metricsRegistry = metricsRegistry;
+        this.context = context;
+    }
+
+    public void setThreadPool(QueuedThreadPool threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    public void setReadyUptimeMillis(long readyUptimeMillis) {
+        this.readyUptimeMillis = readyUptimeMillis;
+    }
+
+    /**
+     * 모든 지표를 내부 버퍼에 다시 렌더링한다.
+     */
+    public void render() {
+        size = 0;
+        renderRoutes();
+        renderRegistryMetrics();
+        renderContext();
+        renderThreadPool();
+        renderJvm();
+    }
+
+    /**
+     * 마지막으로 렌더링한 내용을 Write한다.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void renderRoutes() {
+        Iterable<RouteMetrics> routes = metricsRegistry.getRouteMetrics();
+        RouteMetrics other = metricsRegistry.getOtherRouteMetrics();
+
+        help("winter_http_server_requests_seconds", "histogram", "Request latency per route");
+        for (RouteMetrics route : routes) {
+            renderLatency(route);
+        }
+        renderLatency(other);
+
+        help("winter_http_server_requests_total", "counter", "Completed requests per route and status class");
+        for (RouteMetrics route : routes) {
+            renderStatusCounts(route);
+        }
+        renderStatusCounts(other);
+
+        help("winter_http_server_requests_in_flight", "gauge", "Requests currently being handled per route");
+        for (RouteMetrics route : routes) {
+            routeSample("winter_http_server_requests_in_flight", route).value(route.getInFlight());
+        }
+
+        help("winter_http_server_request_bytes_total", "counter", "Request body bytes per route");
+        for (RouteMetrics route : routes) {
+            routeSample("winter_http_server_request_bytes_total", route).value(route.getBytesIn());
+        }
+        routeSample("winter_http_server_request_bytes_total", other).value(other.getBytesIn());
+
+        help("winter_http_server_response_bytes_total", "counter", "Response body bytes per route (Content-Length)");
+        for (RouteMetrics route : routes) {
+            routeSample("winter_http_server_response_bytes_total", route).value(route.getBytesOut());
+        }
+        routeSample("winter_http_server_response_bytes_total", other).value(other.getBytesOut());
+
+        help("winter_http_server_requests_rejected_total", "counter", "Requests rejected by @RateLimit or @MaxConcurrency");
+        for (RouteMetrics route : routes) {
+            renderRejections(route);
+        }
+
+        help("winter_http_server_exceptions_total", "counter", "Exceptions raised while handling requests");
+        for (RouteMetrics route : routes) {
+            renderExceptions(route);
+        }
+        renderExceptions(other);
+    }
+
+    private void renderLatency(RouteMetrics route) {
+        route.getLatency().snapshot(snapshot);
+        renderHistogram("winter_http_server_requests_seconds", "route", route.getRoute());
+    }
+
+    private void renderStatusCounts(RouteMetrics route) {
+        for (int statusClass = 1; statusClass <= 5; statusClass++) {
+            long count = route.getStatusClassCount(statusClass);
+            if (count == 0) {
+                continue;
+            }
+            ascii("winter_http_server_requests_total{route=\"").label(route.getRoute())
+                .ascii("\",status=\"").digit(statusClass).ascii("xx\"} ").value(count);
+        }
+        long other = route.getStatusClassCount(0);
+        if (other > 0) {
+            ascii("winter_http_server_requests_total{route=\"").label(route.getRoute())
+                .ascii("\",status=\"other\"} ").value(other);
+        }
+    }
+
+    private void renderRejections(RouteMetrics route) {
+        long rateLimited = route.getRateLimited();
+        if (rateLimited > 0) {
+            ascii("winter_http_server_requests_rejected_total{route=\"").label(route.getRoute())
+                .ascii("\",reason=\"rate_limit\"} ").value(rateLimited);
+        }
+        long concurrencyLimited = route.getConcurrencyLimited();
+        if (concurrencyLimited > 0) {
+            ascii("winter_http_server_requests_rejected_total{route=\"").label(route.getRoute())
+                .ascii("\",reason=\"concurrency\"} ").value(concurrencyLimited);
+        }
+    }
+
+    private void renderExceptions(RouteMetrics route) {
+        for (Map.Entry<Class<? extends Throwable>, Long> entry : route.getExceptionCounts().entrySet()) {
+            ascii("winter_http_server_exceptions_total{route=\"").label(route.getRoute())
+                .ascii("\",exception=\"").label(entry.getKey().getName()).ascii("\"} ").value(entry.getValue());
+        }
+    }
+
+    private void renderRegistryMetrics() {
+        for (Map.Entry<String, LongAdder> entry : metricsRegistry.getCounters().entrySet()) {
+            String name = sanitize(entry.getKey()) + "_total";
+            help(name, "counter", entry.getKey());
+            ascii(name).ascii(" ").value(entry.getValue().sum());
+        }
+
+        for (Map.Entry<String, DoubleSupplier> entry : metricsRegistry.getGauges().entrySet()) {
+            String name = sanitize(entry.getKey());
+            help(name, "gauge", entry.getKey());
+            ascii(name).ascii(" ").value(entry.getValue().getAsDouble());
+        }
+
+        for (Map.Entry<String, Map<String, DoubleSupplier>> entry : metricsRegistry.getRouteGauges().entrySet()) {
+            String name = sanitize(entry.getKey());
+            help(name, "gauge", entry.getKey());
+            for (Map.Entry<String, DoubleSupplier> route : entry.getValue().entrySet()) {
+                ascii(name).labels("route", route.getKey()).value(route.getValue().getAsDouble());
+            }
+        }
+
+        for (Map.Entry<String, LatencyHistogram> entry : metricsRegistry.getHistograms().entrySet()) {
+            String name = sanitize(entry.getKey()) + "_seconds";
+            help(name, "histogram", entry.getKey());
+            entry.getValue().snapshot(snapshot);
+            renderHistogram(name, null, null);
+        }
+    }
+
+    private void renderContext() {
+        help("winter_beans", "gauge", "Registered bean definitions");
+        ascii("winter_beans ").value(context.getBeanFactory().getBeanDefinitionNames().size());
+
+        if (context.getStartupDurationNanos() >= 0) {
+            help("winter_context_startup_seconds", "gauge", "Time taken to refresh the application context");
+            ascii("winter_context_startup_seconds ").seconds(context.getStartupDurationNanos());
+        }
+        if (readyUptimeMillis >= 0) {
+            help("winter_application_ready_seconds", "gauge", "JVM uptime when the server started accepting requests");
+            ascii("winter_application_ready_seconds ").seconds(TimeUnit.MILLISECONDS.toNanos(readyUptimeMillis));
+        }
+    }
+
+    private void renderThreadPool() {
+        if (threadPool == null) {
+            return;
+        }
+
+        int busy = threadPool.getBusyThreads();
+        int max = threadPool.getMaxThreads();
+
+        help("jetty_threads_current", "gauge", "Threads in the request thread pool");
+        ascii("jetty_threads_current ").value(threadPool.getThreads());
+        help("jetty_threads_busy", "gauge", "Threads busy handling jobs");
+        ascii("jetty_threads_busy ").value(busy);
+        help("jetty_threads_idle", "gauge", "Idle threads");
+        ascii("jetty_threads_idle ").value(threadPool.getIdleThreads());
+        help("jetty_threads_max", "gauge", "Maximum thread pool size");
+        ascii("jetty_threads_max ").value(max);
+        help("jetty_threads_min", "gauge", "Minimum thread pool size");
+        ascii("jetty_threads_min ").value(threadPool.getMinThreads());
+        help("jetty_threads_jobs_queued", "gauge", "Jobs waiting for a thread");
+        ascii("jetty_threads_jobs_queued ").value(threadPool.getQueueSize());
+        help("jetty_threads_utilization", "gauge", "Busy threads divided by maximum threads");
+        ascii("jetty_threads_utilization ").value(max > 0 ? (double) busy / max : 0.0);
+    }
+
+    private void renderJvm() {
+        MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memoryBean.getNonHeapMemoryUsage();
+
+        help("jvm_memory_used_bytes", "gauge", "Used memory");
+        ascii("jvm_memory_used_bytes{area=\"heap\"} ").value(heap.getUsed());
+        ascii("jvm_memory_used_bytes{area=\"nonheap\"} ").value(nonHeap.getUsed());
+        help("jvm_memory_committed_bytes", "gauge", "Committed memory");
+        ascii("jvm_memory_committed_bytes{area=\"heap\"} ").value(heap.getCommitted());
+        ascii("jvm_memory_committed_bytes{area=\"nonheap\"} ").value(nonHeap.getCommitted());
+        help("jvm_memory_max_bytes", "gauge", "Max memory, -1 if undefined");
+        ascii("jvm_memory_max_bytes{area=\"heap\"} ").value(heap.getMax());
+        ascii("jvm_memory_max_bytes{area=\"nonheap\"} ").value(nonHeap.getMax());
+
+        help("jvm_gc_collection_seconds", "summary", "Time spent in garbage collection");
+        for (GarbageCollectorMXBean gc : garbageCollectors) {
+            ascii("jvm_gc_collection_seconds_count{gc=\"").label(gc.getName()).ascii("\"} ")
+                .value(Math.max(gc.getCollectionCount(), 0L));
+            ascii("jvm_gc_collection_seconds_sum{gc=\"").label(gc.getName()).ascii("\"} ")
+                .seconds(TimeUnit.MILLISECONDS.toNanos(Math.max(gc.getCollectionTime(), 0L)));
+        }
+
+        help("jvm_threads_current", "gauge", "Current thread count");
+        ascii("jvm_threads_current ").value(threadBean.getThreadCount());
+        help("jvm_threads_daemon", "gauge", "Daemon thread count");
+        ascii("jvm_threads_daemon ").value(threadBean.getDaemonThreadCount());
+        help("jvm_threads_peak", "gauge", "Peak thread count");
+        ascii("jvm_threads_peak ").value(threadBean.getPeakThreadCount());
+
+        help("process_uptime_seconds", "gauge", "JVM uptime");
+        ascii("process_uptime_seconds ")
+            .seconds(TimeUnit.MILLISECONDS.toNanos(ManagementFactory.getRuntimeMXBean().getUptime()));
+    }
+
+    /**
+     * {@link #snapshot}에 담긴 값을 Prometheus 히스토그램으로 렌더링한다.
+     */
+    private void renderHistogram(String name, String labelName, String labelValue) {
+        for (int i = 0; i < LATENCY_BUCKET_NANOS.length; i++) {
+            ascii(name).ascii("_bucket{");
+            if (labelName != null) {
+                ascii(labelName).ascii("=\"").label(labelValue).ascii("\",");
+            }
+            ascii("le=\"").ascii(LATENCY_BUCKET_LABELS[i]).ascii("\"} ")
+                .value(snapshot.getCountAtOrBelow(LATENCY_BUCKET_NANOS[i]));
+        }
+
+        ascii(name).ascii("_bucket{");
+        if (labelName != null) {
+            ascii(labelName).ascii("=\"").label(labelValue).ascii("\",");
+        }
+        ascii("le=\"+Inf\"} ").value(snapshot.getCount());
+
+        ascii(name).ascii("_sum");
+        labels(labelName, labelValue).seconds(snapshot.getSum());
+        ascii(name).ascii("_count");
+        labels(labelName, labelValue).value(snapshot.getCount());
+    }
+
+    private PrometheusTextRenderer routeSample(String name, RouteMetrics route) {
+        return ascii(name).ascii("{route=\"").label(route.getRoute()).ascii("\"} ");
+    }
+
+    private PrometheusTextRenderer labels(String labelName, String labelValue) {
+        if (labelName == null) {
+            return ascii(" ");
+        }
+        return ascii("{").ascii(labelName).ascii("=\"").label(labelValue).ascii("\"} ");
+    }
+
+    private void help(String name, String type, String help) {
+        ascii("# HELP ").ascii(name).ascii(" ").helpText(help).ascii("\n");
+        ascii("# TYPE ").ascii(name).ascii(" ").ascii(type).ascii("\n");
+    }
+
+    /**
+     * 메트릭 이름에 허용되지 않는 문자를 '_'로 바꾼다.
+     */
+    static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                || (c >= '0' && c <= '9' && i > 0);
+            sb.append(valid ? c : '_');
+        }
+        return sb.toString();
+    }
+
+    // ---- buffer writes ----
+
+    private PrometheusTextRenderer ascii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * 라벨 값을 escape(\\, ", 줄바꿈)하고 UTF-8로 Write한다.
+     */
+    private PrometheusTextRenderer label(String value) {
+        return escaped(value, true);
+    }
+
+    /**
+     * HELP 문구를 escape(\\, 줄바꿈)하고 UTF-8로 Write한다. HELP에서는 {@code "}가 escape 대상이 아니다.
+     */
+    private PrometheusTextRenderer helpText(String value) {
+        return escaped(value, false);
+    }
+
+    private PrometheusTextRenderer escaped(String value, boolean escapeQuote) {
+        ensureCapacity(value.length() * 3 + 2);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || (c == '"' && escapeQuote)) {
+                buffer[size++] = '\\';
+                buffer[size++] = (byte) c;
+            } else if (c == '\n') {
+                buffer[size++] = '\\';
+                buffer[size++] = 'n';
+            } else if (c < 0x80) {
+                buffer[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xc0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3f));
+            } else {
+                // 서로게이트 쌍은 드물게만 나오므로 각 char를 3바이트로 Write한다.
+                buffer[size++] = (byte) (0xe0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[size++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return this;
+    }
+
+    private PrometheusTextRenderer digit(int digit) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) ('0' + digit);
+        return this;
+    }
+
+    /**
+     * 정수 값을 문자열 변환 없이 Write하고 줄을 마친다.
+     */
+    private void value(long value) {
+        ensureCapacity(21);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                ascii(Long.toString(value)).ascii("\n");
+                return;
+            }
+            buffer[size++] = '-';
+            value = -value;
+        }
+
+        int start = size;
+        do {
+            buffer[size++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+        reverse(start, size - 1);
+        buffer[size++] = '\n';
+    }
+
+    private void value(double value) {
+        if (value == (long) value && !Double.isInfinite(value)) {
+            value((long) value);
+            return;
+        }
+        if (Double.isNaN(value)) {
+            ascii("NaN\n");
+        } else if (Double.isInfinite(value)) {
+            ascii(value > 0 ? "+Inf\n" : "-Inf\n");
+        } else {
+            ascii(Double.toString(value)).ascii("\n");
+        }
+    }
+
+    /**
+     * 나노초 값을 소수점 9자리 초 단위로 Write하고 줄을 마친다.
+     */
+    private void seconds(long nanos) {
+        long seconds = nanos / 1_000_000_000L;
+        long fraction = nanos % 1_000_000_000L;
+
+        ensureCapacity(32);
+        int start = size;
+        do {
+            buffer[size++] = (byte) ('0' + (seconds % 10));
+            seconds /= 10;
+        } while (seconds > 0);
+        reverse(start, size - 1);
+
+        buffer[size++] = '.';
+        for (long divisor = 100_000_000L; divisor > 0; divisor /= 10) {
+            buffer[size++] = (byte) ('0' + (fraction / divisor) % 10);
+        }
+        buffer[size++] = '\n';
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte tmp = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = tmp;
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.stereotype.Component;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Prefix 아래의 설정을 필드에 한 번에 바인딩하는 설정 객체를 선언한다.
+ *
+ * <p>선언된 클래스는 Bean으로 등록되며, 생성 직후 {@link ConfigurationPropertiesBinder}가
+ * {@code <prefix>.<필드 이름>} 값을 필드 타입으로 변환해 채운다. 필드 이름은 {@code maxConnections}와
+ * {@code max-connections} 두 형태로 조회한다. 바인딩은 애플리케이션 시작 시 한 번만 일어나므로,
+ * 요청 처리 중에는 문자열 조회나 파싱 없이 필드를 읽기만 한다.
+ *
+ * <p>Setter 없이 Getter만 두면 바인딩 이후 변경되지 않는다. 값이 없는 필드는 초기값을 유지한다.
+ * 설정이 다시 로드되어도 Bean은 바뀌지 않으며, 새 값은 {@link ConfigurationPropertiesReference}로 읽는다.
+ * 컴파일 타임 상수로 초기화한 {@code final} 필드는 Getter에 값이 인라인되므로 사용하지 않는다.
+ *
+ * <pre>{@code
+ * @ConfigurationProperties(prefix = "app.client")
+ * public class ClientProperties {
+ *     private Duration connectTimeout = Duration.ofSeconds(1);  // app.client.connect-timeout=500ms
+ *     private DataSize maxBody = DataSize.ofMegabytes(1);       // app.client.max-body=10MB
+ *     private List<String> hosts = new ArrayList<>();            // app.client.hosts=a,b 또는 hosts[0]=a
+ *     private Map<String, Endpoint> endpoints = new HashMap<>(); // app.client.endpoints.users.path=/users
+ *     private Retry retry = new Retry();                         // app.client.retry.max-attempts=3
+ *
+ *     public Duration getConnectTimeout() { return connectTimeout; }
+ * }
+ * }</pre>
+ *
+ * @see ConfigurationPropertiesBinder
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Component
+public @interface ConfigurationProperties {
+
+    /**
+     * 바인딩할 설정 Key의 Prefix (예: {@code app.client}).
+     */
+    String prefix();
+}
@@ -0,0 +1,294 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.env.PropertyConverter;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link Environment}의 설정 하위 트리를 객체로 바인딩한다.
+ *
+ * <ul>
+ *   <li>단일 값 - {@link PropertyConverter}가 지원하는 타입 (primitive, Enum, {@code Duration}, {@code DataSize} 등)</li>
+ *   <li>{@code List}, {@code Set} - {@code key=a,b,c} 또는 {@code key[0]=a}, {@code key[1].name=b}</li>
+ *   <li>{@code Map<String, V>} - {@code key.<이름>=값}, 값이 단일 값 타입이면 나머지 Key 전체가 Map Key가 된다</li>
+ *   <li>중첩 객체 - {@code key.<필드 이름>}, 필드에 이미 인스턴스가 있으면 그 인스턴스에 바인딩한다</li>
+ * </ul>
+ * 하위 Key는 설정 파일 등의 Key와 환경 변수({@code APP_USERS_ALICE_ROLE} 등)에서 함께 찾는다.
+ * 바인딩된 {@code List}, {@code Set}, {@code Map}은 수정할 수 없다.
+ */
+public class ConfigurationPropertiesBinder {
+
+    private final Environment environment;
+
+    public ConfigurationPropertiesBinder(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Prefix 아래의 설정으로 새 인스턴스를 만든다.
+     *
+     * @param prefix 설정 Key Prefix
+     * @param type   선언된 필드에 바인딩할 클래스, 인자 없는 생성자가 필요하다
+     */
+    public <T> T bind(String prefix, Class<T> type) {
+        T target = instantiate(type, prefix);
+        bindTo(target, prefix);
+        return target;
+    }
+
+    /**
+     * Prefix 아래의 설정을 이미 생성된 인스턴스의 필드에 바인딩한다.
+     *
+     * @throws IllegalStateException 값을 변환할 수 없거나 지원하지 않는 필드 타입인 경우
+     */
+    public void bindTo(Object target, String prefix) {
+        new Binding(environment).bindFields(target, prefix);
+    }
+
+    private static <T> T instantiate(Class<T> type, String key) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                "Cannot instantiate " + type.getName() + " for '" + key + "', a no-arg constructor is required", e);
+        }
+    }
+
+    /**
+     * 한 번의 바인딩. 하위 Key 존재 여부를 빠르게 판단하도록 Key를 정렬해 둔다.
+     */
+    private static final class Binding {
+
+        private final Environment environment;
+        private final NavigableSet<String> names;
+
+        private Binding(Environment environment) {
+            this.environment = environment;
+            this.names = new TreeSet<>(environment.getPropertyNames());
+        }
+
+        private void bindFields(Object target, String prefix) {
+            for (Class<?> type = target.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+                        || field.isSynthetic()) {
+                        continue;
+                    }
+                    bindField(target, field, prefix);
+                }
+            }
+        }
+
+        private void bindField(Object target, Field field, String prefix) {
+            String key = resolveFieldKey(prefix, field.getName());
+            if (key == null) {
+                return;
+            }
+
+            try {
+                field.setAccessible(true);
+                Object value = bindValue(key, field.getGenericType(), field.get(target));
+                if (value != null) {
+                    field.set(target, value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot set field '" + field.getName() + "' for '" + key + "'", e);
+            }
+        }
+
+        /**
+         * {@code max-connections}, {@code maxConnections} 순서로 값이 있는 Key를 찾는다.
+         *
+         * @return 값이나 하위 Key가 있는 Key, 없으면 {@code null}
+         */
+        private String resolveFieldKey(String prefix, String fieldName) {
+            String base = prefix.isEmpty() ? "" : prefix + ".";
+            String dashed = base + toDashed(fieldName);
+            if (hasAny(dashed)) {
+                return dashed;
+            }
+            String camel = base + fieldName;
+            return hasAny(camel) ? camel : null;
+        }
+
+        /**
+         * @return 바인딩한 값, 해당 Key에 값이 없으면 {@code null}
+         */
+        private Object bindValue(String key, Type type, Object existing) {
+            Class<?> rawType = rawClass(type);
+            if (PropertyConverter.isSupported(rawType)) {
+                return bindScalar(key, rawType);
+            }
+            if (List.class == rawType || Collection.class == rawType || Set.class == rawType) {
+                return bindCollection(key, typeArgument(type, 0, key), Set.class == rawType);
+            }
+            if (Map.class == rawType) {
+                Class<?> keyType = rawClass(typeArgument(type, 0, key));
+                if (keyType != String.class) {
+                    throw new IllegalStateException("Only Map<String, V> is supported for '" + key + "'");
+                }
+                return bindMap(key, typeArgument(type, 1, key));
+            }
+            if (rawType.isInterface() || rawType.isArray() || rawType.getName().startsWith("java.")) {
+                throw new IllegalStateException("Unsupported property type " + type.getTypeName() + " for '" + key + "'");
+            }
+
+            if (!hasChildren(key)) {
+                return null;
+            }
+            Object nested = existing != null ? existing : instantiate(rawType, key);
+            bindFields(nested, key);
+            return nested;
+        }
+
+        private Object bindScalar(String key, Class<?> type) {
+            if (!environment.containsProperty(key)) {
+                return null;
+            }
+            try {
+                return environment.getProperty(key, type);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to bind '" + key + "': " + e.getMessage(), e);
+            }
+        }
+
+        private Collection<Object> bindCollection(String key, Type elementType, boolean unique) {
+            Collection<Object> values = unique ? new LinkedHashSet<>() : new ArrayList<>();
+            Class<?> elementClass = rawClass(elementType);
+
+            if (environment.containsProperty(key) && PropertyConverter.isSupported(elementClass)) {
+                for (String token : environment.getProperty(key).split(",")) {
+                    String trimmed = token.trim();
+                    if (!trimmed.isEmpty()) {
+                        values.add(convertElement(key, trimmed, elementClass));
+                    }
+                }
+            } else {
+                for (int i = 0; hasAny(key + "[" + i + "]"); i++) {
+                    Object element = bindValue(key + "[" + i + "]", elementType, null);
+                    if (element != null) {
+                        values.add(element);
+                    }
+                }
+                if (values.isEmpty()) {
+                    return null;
+                }
+            }
+            return unique
+                ? Collections.unmodifiableSet((Set<Object>) values)
+                : Collections.unmodifiableList((List<Object>) values);
+        }
+
+        private Map<String, Object> bindMap(String key, Type valueType) {
+            String childPrefix = key + ".";
+            boolean scalarValue = PropertyConverter.isSupported(rawClass(valueType));
+
+            Set<String> entryKeys = new LinkedHashSet<>();
+            for (String name : names.tailSet(childPrefix, false)) {
+                if (!name.startsWith(childPrefix)) {
+                    break;
+                }
+                String remainder = name.substring(childPrefix.length());
+                entryKeys.add(scalarValue ? remainder : firstSegment(remainder));
+            }
+            for (String remainder : environment.getEnvironmentChildNames(key)) {
+                entryKeys.add(scalarValue ? remainder : firstSegment(remainder));
+            }
+            if (entryKeys.isEmpty()) {
+                return null;
+            }
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String entryKey : entryKeys) {
+                Object value = bindValue(childPrefix + entryKey, valueType, null);
+                if (value != null) {
+                    values.put(entryKey, value);
+                }
+            }
+            return Collections.unmodifiableMap(values);
+        }
+
+        private Object convertElement(String key, String raw, Class<?> type) {
+            try {
+                return PropertyConverter.convert(raw, type);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to bind '" + key + "': " + e.getMessage(), e);
+            }
+        }
+
+        private boolean hasAny(String key) {
+            return environment.containsProperty(key) || hasChildren(key);
+        }
+
+        private boolean hasChildren(String key) {
+            String dotted = names.ceiling(key + ".");
+            if (dotted != null && dotted.startsWith(key + ".")) {
+                return true;
+            }
+            String indexed = names.ceiling(key + "[");
+            if (indexed != null && indexed.startsWith(key + "[")) {
+                return true;
+            }
+            return !environment.getEnvironmentChildNames(key).isEmpty();
+        }
+
+        private static String firstSegment(String remainder) {
+            for (int i = 0; i < remainder.length(); i++) {
+                char c = remainder.charAt(i);
+                if (c == '.' || c == '[') {
+                    return remainder.substring(0, i);
+                }
+            }
+            return remainder;
+        }
+
+        private static Class<?> rawClass(Type type) {
+            if (type instanceof Class) {
+                return (Class<?>) type;
+            }
+            if (type instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) type).getRawType();
+            }
+            return Object.class;
+        }
+
+        private static Type typeArgument(Type type, int index, String key) {
+            if (!(type instanceof ParameterizedType)) {
+                throw new IllegalStateException("Raw collection type is not supported for '" + key + "'");
+            }
+            return ((ParameterizedType) type).getActualTypeArguments()[index];
+        }
+
+        private static String toDashed(String name) {
+            StringBuilder sb = new StringBuilder(name.length() + 4);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isUpperCase(c)) {
+                    if (i > 0) {
+                        sb.append('-');
+                    }
+                    sb.append(Character.toLowerCase(c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.beans.factory.config.BeanPostProcessor;
+import froggy.winterframework.core.Ordered;
+
+/**
+ * {@link ConfigurationProperties}가 선언된 Bean에 설정을 바인딩하는 BeanPostProcessor.
+ *
+ * <p>다른 PostProcessor가 Proxy로 감싸기 전에 원본 인스턴스에 바인딩하도록 가장 먼저 적용된다.
+ * 바인딩한 인스턴스는 {@link ConfigurationPropertiesRebinder}에 등록되며, 설정이 바뀌면 새 인스턴스로 바인딩되어
+ * {@link ConfigurationPropertiesReference}로 교체된다.
+ */
+public class ConfigurationPropertiesBindingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ConfigurationPropertiesBinder binder;
+    private final ConfigurationPropertiesRebinder rebinder;
+
+    public ConfigurationPropertiesBindingPostProcessor(ConfigurationPropertiesBinder binder,
+        ConfigurationPropertiesRebinder rebinder) {
+        this.binder = binder;
+        this.rebinder = rebinder;
+    }
+
+    @Override
+    public boolean supportsBeanType(Class<?> beanType) {
+        return beanType.isAnnotationPresent(ConfigurationProperties.class);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        ConfigurationProperties annotation = bean.getClass().getAnnotation(ConfigurationProperties.class);
+        try {
+            binder.bindTo(bean, annotation.prefix());
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Failed to bind @ConfigurationProperties bean '" + beanName + "'", e);
+        }
+        rebinder.register(bean, annotation.prefix());
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
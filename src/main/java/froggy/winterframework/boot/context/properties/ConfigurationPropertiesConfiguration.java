@@ -0,0 +1,62 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.beans.factory.annotation.Autowired;
+import froggy.winterframework.context.annotation.Bean;
+import froggy.winterframework.context.annotation.Configuration;
+import froggy.winterframework.core.env.Environment;
+
+/**
+ * {@link ConfigurationProperties} Bean 바인딩과 설정 파일 다시 읽기에 필요한 컴포넌트를 Bean으로 등록하는 구성 클래스.
+ *
+ * <pre>
+ * winter.config.location=/etc/app/app.properties  # 쉼표로 여러 파일, 뒤의 파일이 우선
+ * winter.config.watch.enabled=false                # 기본값, true이면 파일 변경 시 다시 읽음
+ * winter.config.watch.debounce=500                 # ms, 마지막 변경 뒤 이 시간 동안 조용하면 다시 읽음
+ * </pre>
+ */
+@Configuration
+public class ConfigurationPropertiesConfiguration {
+
+    private final Environment environment;
+    private ConfigurationPropertiesBinder binder;
+    private ConfigurationPropertiesRebinder rebinder;
+
+    @Autowired
+    public ConfigurationPropertiesConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * {@link #configurationPropertiesBindingPostProcessor()}와 같은 인스턴스를 공유하도록 한 번만 생성한다.
+     */
+    @Bean
+    public synchronized ConfigurationPropertiesBinder configurationPropertiesBinder() {
+        if (binder == null) {
+            binder = new ConfigurationPropertiesBinder(environment);
+        }
+        return binder;
+    }
+
+    @Bean
+    public synchronized ConfigurationPropertiesRebinder configurationPropertiesRebinder() {
+        if (rebinder == null) {
+            rebinder = new ConfigurationPropertiesRebinder(configurationPropertiesBinder(), environment);
+        }
+        return rebinder;
+    }
+
+    @Bean
+    public ConfigurationPropertiesBindingPostProcessor configurationPropertiesBindingPostProcessor() {
+        return new ConfigurationPropertiesBindingPostProcessor(configurationPropertiesBinder(),
+            configurationPropertiesRebinder());
+    }
+
+    @Bean
+    public PropertyFileWatcher propertyFileWatcher() {
+        return new PropertyFileWatcher(
+            environment,
+            environment.getProperty("winter.config.watch.enabled", Boolean.class, false),
+            environment.getProperty("winter.config.watch.debounce", Long.class, 500L)
+        );
+    }
+}
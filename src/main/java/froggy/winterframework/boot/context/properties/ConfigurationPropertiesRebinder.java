@@ -0,0 +1,77 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.env.PropertyChangeListener;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설정이 바뀌면 Prefix가 일치하는 {@link ConfigurationProperties} 타입을 새 인스턴스로 바인딩해
+ * {@link ConfigurationPropertiesReference}를 교체한다.
+ *
+ * <p>시작 시 생성된 Bean은 바인딩 이후 수정되지 않는다. 필드를 하나씩 덮어쓰면 다른 스레드가 일부만 바뀐 설정을
+ * 볼 수 있으므로, 새 인스턴스를 완전히 바인딩한 뒤 한 번에 교체한다. 새 인스턴스는 필드 초기값에서 시작하므로
+ * 삭제된 Key는 초기값으로 돌아간다. 새 인스턴스는 인자 없는 생성자로 만들며, 바인딩에 실패하면 이전 인스턴스를 유지한다.
+ */
+public class ConfigurationPropertiesRebinder implements PropertyChangeListener {
+
+    private final ConfigurationPropertiesBinder binder;
+    private final ConcurrentHashMap<Class<?>, ConfigurationPropertiesReference<?>> references =
+        new ConcurrentHashMap<>();
+
+    public ConfigurationPropertiesRebinder(ConfigurationPropertiesBinder binder, Environment environment) {
+        this.binder = binder;
+        environment.addPropertyChangeListener(this);
+    }
+
+    /**
+     * 시작 시 바인딩된 Bean을 등록한다. 같은 타입이 이미 등록되었으면 처음 등록된 인스턴스를 유지한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void register(T bean, String prefix) {
+        Class<T> type = (Class<T>) bean.getClass();
+        references.putIfAbsent(type, new ConfigurationPropertiesReference<>(type, prefix, bean));
+    }
+
+    /**
+     * 주어진 {@link ConfigurationProperties} 타입의 최신 인스턴스를 가리키는 참조를 반환한다.
+     *
+     * @throws IllegalArgumentException 등록된 {@link ConfigurationProperties} Bean이 아닌 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ConfigurationPropertiesReference<T> reference(Class<T> type) {
+        ConfigurationPropertiesReference<?> reference = references.get(type);
+        if (reference == null) {
+            throw new IllegalArgumentException("No @ConfigurationProperties bean of type " + type.getName());
+        }
+        return (ConfigurationPropertiesReference<T>) reference;
+    }
+
+    @Override
+    public void onPropertyChange(Set<String> changedKeys) {
+        for (ConfigurationPropertiesReference<?> reference : references.values()) {
+            if (hasKeyUnder(reference.getPrefix(), changedKeys)) {
+                rebind(reference);
+            }
+        }
+    }
+
+    private <T> void rebind(ConfigurationPropertiesReference<T> reference) {
+        try {
+            reference.set(binder.bind(reference.getPrefix(), reference.getType()));
+        } catch (IllegalStateException e) {
+            System.err.println("Failed to rebind @ConfigurationProperties(prefix = \"" + reference.getPrefix()
+                + "\"), keeping previous values: " + e);
+        }
+    }
+
+    private static boolean hasKeyUnder(String prefix, Set<String> changedKeys) {
+        for (String key : changedKeys) {
+            if (key.startsWith(prefix) && (key.length() == prefix.length()
+                || key.charAt(prefix.length()) == '.' || key.charAt(prefix.length()) == '[')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package froggy.winterframework.boot.context.properties;
+
+/**
+ * 다시 로드된 설정으로 새로 바인딩한 {@link ConfigurationProperties} 인스턴스를 가리키는 참조.
+ *
+ * <p>설정이 바뀌면 기존 인스턴스를 수정하지 않고 새 인스턴스를 완전히 바인딩한 뒤 교체하므로,
+ * {@link #get()}이 반환한 인스턴스는 한 시점의 설정만 담고 이후에 바뀌지 않는다.
+ * 값을 오래 보관하지 말고 사용할 때마다 {@link #get()}으로 읽는다.
+ *
+ * <pre>{@code
+ * private final ConfigurationPropertiesReference<ClientProperties> client;
+ *
+ * public ApiClient(ConfigurationPropertiesRebinder rebinder) {
+ *     this.client = rebinder.reference(ClientProperties.class);
+ * }
+ *
+ * void call() {
+ *     ClientProperties properties = client.get();  // host와 port가 항상 같은 시점의 값
+ *     connect(properties.getHost(), properties.getPort());
+ * }
+ * }</pre>
+ *
+ * @see ConfigurationPropertiesRebinder
+ */
+public final class ConfigurationPropertiesReference<T> {
+
+    private final Class<T> type;
+    private final String prefix;
+    private volatile T current;
+
+    ConfigurationPropertiesReference(Class<T> type, String prefix, T initial) {
+        this.type = type;
+        this.prefix = prefix;
+        this.current = initial;
+    }
+
+    /**
+     * 가장 최근에 바인딩된 인스턴스. 다시 로드되기 전에는 시작 시 생성된 Bean이다.
+     */
+    public T get() {
+        return current;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    void set(T instance) {
+        this.current = instance;
+    }
+}
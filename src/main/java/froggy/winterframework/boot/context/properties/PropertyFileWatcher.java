@@ -0,0 +1,137 @@
+package froggy.winterframework.boot.context.properties;
+
+import froggy.winterframework.beans.factory.DisposableBean;
+import froggy.winterframework.beans.factory.InitializingBean;
+import froggy.winterframework.core.env.Environment;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Environment#getConfigFiles()}의 파일 변경을 {@link WatchService}로 감시해 {@link Environment#reload()}를 호출한다.
+ *
+ * <p>편집기는 한 번 저장할 때 여러 이벤트(생성, 수정, 이름 변경)를 남기므로, 마지막 이벤트 뒤 debounce 시간 동안
+ * 추가 이벤트가 없을 때 한 번만 다시 읽는다. 감시는 파일이 있는 디렉터리 단위로 등록되며,
+ * 같은 디렉터리의 다른 파일 이벤트는 무시한다.
+ */
+public class PropertyFileWatcher implements InitializingBean, DisposableBean {
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final long debounceMillis;
+
+    /** 감시 디렉터리 → 설정 파일 이름 */
+    private final Map<Path, Set<Path>> watchedFiles = new HashMap<>();
+    private WatchService watchService;
+    private volatile boolean running;
+    private Thread watcher;
+
+    /**
+     * @param enabled        {@code false}이면 감시 스레드를 시작하지 않는다
+     * @param debounceMillis 마지막 변경 이벤트 뒤 다시 읽기까지 기다리는 시간 (ms)
+     */
+    public PropertyFileWatcher(Environment environment, boolean enabled, long debounceMillis) {
+        this.environment = environment;
+        this.enabled = enabled;
+        this.debounceMillis = Math.max(0L, debounceMillis);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (environment.getConfigFiles().isEmpty()) {
+            System.err.println("winter.config.watch.enabled=true but no " + Environment.CONFIG_LOCATION_PROPERTY
+                + " is set, configuration reload is disabled");
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path file : environment.getConfigFiles()) {
+            Path directory = file.getParent();
+            if (directory == null || !Files.isDirectory(directory)) {
+                System.err.println("Cannot watch " + file + ", directory does not exist");
+                continue;
+            }
+            if (!watchedFiles.containsKey(directory)) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedFiles.put(directory, new HashSet<>());
+            }
+            watchedFiles.get(directory).add(file.getFileName());
+        }
+
+        running = true;
+        watcher = new Thread(this::runWatcher, "winter-config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public void destroy() throws IOException, InterruptedException {
+        if (watcher == null) {
+            return;
+        }
+
+        running = false;
+        watchService.close();
+        watcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void runWatcher() {
+        try {
+            while (running) {
+                if (!isConfigFileEvent(watchService.take())) {
+                    continue;
+                }
+
+                // 추가 이벤트가 debounce 시간 안에 계속 오면 모두 흡수한 뒤 한 번만 다시 읽는다.
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isConfigFileEvent(key);
+                }
+
+                Set<String> changedKeys = environment.reload();
+                if (!changedKeys.isEmpty()) {
+                    System.out.println("Configuration reloaded, " + changedKeys.size() + " key(s) changed: " + changedKeys);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // destroy()
+        }
+    }
+
+    /**
+     * 이벤트를 모두 꺼내고 Key를 다시 감시 상태로 돌린다.
+     *
+     * @return 설정 파일에 대한 이벤트(또는 유실된 이벤트)가 있었으면 {@code true}
+     */
+    private boolean isConfigFileEvent(WatchKey key) {
+        Set<Path> fileNames = watchedFiles.get((Path) key.watchable());
+        boolean matched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                || (fileNames != null && fileNames.contains((Path) event.context()))) {
+                matched = true;
+            }
+        }
+        key.reset();
+        return matched;
+    }
+}
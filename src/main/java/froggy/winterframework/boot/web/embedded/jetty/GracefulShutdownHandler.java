@@ -0,0 +1,130 @@
+package froggy.winterframework.boot.web.embedded.jetty;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+/**
+ * 애플리케이션 요청의 처리 중 건수를 세고, 종료 중에는 새 요청을 {@code 503}으로 거절하는 Handler.
+ *
+ * <p>비동기로 전환된 요청은 응답이 완료될 때({@link AsyncListener#onComplete}) 끝난 것으로 본다.
+ * {@link #shutdown()} 이후 {@link #awaitInactive(long)}로 처리 중인 요청이 모두 끝날 때까지 기다릴 수 있다.
+ */
+public class GracefulShutdownHandler extends HandlerWrapper {
+
+    private final AtomicLong activeRequests = new AtomicLong();
+    private final Object drainMonitor = new Object();
+    private final AsyncListener completionListener = new CompletionListener();
+    private volatile boolean shuttingDown;
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        // 비동기/오류 재디스패치는 최초 요청으로 이미 집계되어 있다.
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            super.handle(target, baseRequest, request, response);
+            return;
+        }
+
+        // 먼저 집계한 뒤 종료 여부를 확인해야 awaitInactive()가 막 들어온 요청을 놓치지 않는다.
+        activeRequests.incrementAndGet();
+        if (shuttingDown) {
+            requestCompleted();
+            reject(baseRequest, response);
+            return;
+        }
+
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(completionListener);
+            } else {
+                requestCompleted();
+            }
+        }
+    }
+
+    /**
+     * 새 요청을 거절하기 시작한다. 이미 처리 중인 요청은 계속 처리된다.
+     */
+    public void shutdown() {
+        shuttingDown = true;
+    }
+
+    public boolean isShuttingDown() {
+        return shuttingDown;
+    }
+
+    /**
+     * 처리 중인 요청(비동기 포함) 수.
+     */
+    public long getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    /**
+     * 처리 중인 요청이 모두 끝날 때까지 최대 {@code timeoutMillis} 동안 기다린다.
+     *
+     * @return 모두 끝났으면 {@code true}, 제한 시간이 지났으면 {@code false}
+     */
+    public boolean awaitInactive(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (drainMonitor) {
+            while (activeRequests.get() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                drainMonitor.wait(remainingMillis);
+            }
+        }
+        return true;
+    }
+
+    private void requestCompleted() {
+        if (activeRequests.decrementAndGet() == 0 && shuttingDown) {
+            synchronized (drainMonitor) {
+                drainMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void reject(Request baseRequest, HttpServletResponse response) {
+        baseRequest.setHandled(true);
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        // Keep-Alive 연결로 들어온 요청도 다른 인스턴스로 다시 연결하도록 연결을 닫는다.
+        response.setHeader("Connection", "close");
+        response.setContentLength(0);
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            requestCompleted();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 다시 비동기로 전환되면 새 AsyncContext에서도 완료를 받아야 한다.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
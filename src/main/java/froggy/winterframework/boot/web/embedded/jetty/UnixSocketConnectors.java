@@ -0,0 +1,87 @@
+package froggy.winterframework.boot.web.embedded.jetty;
+
+import froggy.winterframework.boot.web.server.ConnectorProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.unixsocket.UnixSocketConnector;
+
+/**
+ * Unix Domain Socket Connector 생성과 종료를 담당한다.
+ *
+ * <p>{@code jetty-unixsocket}(과 jnr 네이티브 라이브러리)은 선택 의존성이므로, {@link UnixSocketConnector}는
+ * 이 클래스에서만 참조한다. {@code unix-socket}을 설정하지 않으면 이 클래스가 로드되지 않아
+ * 의존성이 없어도 서버가 시작된다.
+ */
+final class UnixSocketConnectors {
+
+    private static final String CONNECTOR_CLASS_NAME = "org.eclipse.jetty.unixsocket.UnixSocketConnector";
+
+    private UnixSocketConnectors() {
+    }
+
+    /**
+     * {@code unix-socket} 경로에서 수신하는 Connector를 만든다.
+     *
+     * <p>비정상 종료로 남은 Socket 파일이 있으면 Bind가 실패하므로 시작 전에 지운다.
+     * 경로에 일반 파일, 디렉터리, 심볼릭 링크가 있으면 잘못된 설정으로 보고 지우지 않는다.
+     *
+     * @throws IllegalStateException {@code jetty-unixsocket}이 Classpath에 없거나 경로가 Socket이 아닌 경우
+     */
+    static Connector create(Server server, ConnectorProperties properties, ConnectionFactory[] connectionFactories)
+        throws IOException {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Connector '" + properties.getName() + "' sets unix-socket but "
+                + "org.eclipse.jetty:jetty-unixsocket is not on the classpath");
+        }
+
+        Path socketPath = Paths.get(properties.getUnixSocket());
+        deleteStaleSocket(socketPath);
+
+        UnixSocketConnector connector = new UnixSocketConnector(server, null, null, null, properties.getSelectors(),
+            connectionFactories);
+        connector.setName(properties.getName());
+        connector.setUnixSocket(socketPath.toString());
+        connector.setIdleTimeout(properties.getIdleTimeout());
+        return connector;
+    }
+
+    /**
+     * 새 연결 수락을 멈춘다. 처리 중인 연결은 유지된다.
+     */
+    static void close(Connector connector) {
+        ((UnixSocketConnector) connector).close();
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName(CONNECTOR_CLASS_NAME, false, UnixSocketConnectors.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static void deleteStaleSocket(Path socketPath) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(socketPath, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+
+        // Socket은 일반 파일, 디렉터리, 심볼릭 링크 어느 것도 아닌 "기타" 파일이다.
+        if (!attributes.isOther()) {
+            throw new IllegalStateException(
+                "unix-socket path " + socketPath + " exists and is not a socket, refusing to delete it");
+        }
+        Files.delete(socketPath);
+    }
+}
@@ -1,42 +1,99 @@
 package froggy.winterframework.boot.web.embedded.jetty;
 
 import froggy.winterframework.beans.factory.support.BeanFactory;
+import froggy.winterframework.boot.StartupReportExporter;
+import froggy.winterframework.boot.actuate.ManagementServlet;
+import froggy.winterframework.boot.web.server.ConnectorProperties;
 import froggy.winterframework.boot.web.server.WebServer;
 import froggy.winterframework.boot.web.servlet.FilterRegistrationBean;
 import froggy.winterframework.context.ApplicationContext;
 import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.env.PropertyChangeListener;
+import froggy.winterframework.core.startup.StartupStep;
+import froggy.winterframework.metrics.MetricsRegistry;
+import froggy.winterframework.utils.WinterUtils;
 import froggy.winterframework.web.DispatcherServlet;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.servlet.DispatcherType;
 import javax.servlet.Filter;
 import org.apache.jasper.servlet.JspServlet;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.ssl.KeyStoreScanner;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.WebAppContext;
 
 public class jettyWebServer implements WebServer {
 
+    private static final String DEFAULT_COMPRESSION_MIME_TYPES =
+        "text/html,text/xml,text/plain,text/css,text/javascript,application/javascript,application/json,application/xml";
+
+    private static final String MANAGEMENT_CONNECTOR_NAME = "management";
+
+    private static final String OCSP_STAPLING_SYSTEM_PROPERTY = "jdk.tls.server.enableStatusRequestExtension";
+
+    private static final String MAX_THREADS_PROPERTY = "server.threads.max";
+    private static final String MIN_THREADS_PROPERTY = "server.threads.min";
+    private static final String THREAD_IDLE_TIMEOUT_PROPERTY = "server.threads.idle-timeout";
+
     private final ApplicationContext context;
     private Server server;
-
-    private int serverPort;
-    private boolean sslEnabled;
-    private String keyStorePath;
-    private String keyStoreType;
-    private String keyStorePassword;
+    private final List<Connector> applicationConnectors = new ArrayList<>();
+    private ServerConnector managementConnector;
+
+    private List<ConnectorProperties> connectorProperties;
+
+    private int maxThreads;
+    private int minThreads;
+    private int threadIdleTimeout;
+    private QueuedThreadPool threadPool;
+    /** 실행 중 {@code server.threads.*} 변경을 스레드 풀에 적용한다. */
+    private PropertyChangeListener threadPoolResizer;
+
+    private boolean compressionEnabled;
+    private int compressionMinResponseSize;
+    private int compressionLevel;
+    private String[] compressionMimeTypes;
+    private String[] compressionExcludedMimeTypes;
+
+    private boolean managementEnabled;
+    private int managementPort;
+    private String managementHost;
+    private int managementMaxThreads;
+
+    private boolean gracefulShutdown;
+    private long shutdownTimeoutMillis;
+    private GracefulShutdownHandler shutdownHandler;
+    private ManagementServlet managementServlet;
+    private final AtomicBoolean stopped = new AtomicBoolean();
 
     public jettyWebServer(ApplicationContext context) {
         this.context = context;
@@ -44,21 +101,55 @@ public class jettyWebServer implements WebServer {
     }
     public void init(ApplicationContext context) {
         Environment environment = context.getEnvironment();
-        this.serverPort         = environment.getProperty("server.port", Integer.class, 8080);
-        this.sslEnabled         = environment.getProperty("server.ssl.enabled", Boolean.class, false);
-        if (sslEnabled) {
-            this.keyStorePath       = environment.getProperty("server.ssl.key-store", String.class);
-            this.keyStoreType       = environment.getProperty("server.ssl.key-store-type", String.class);
-            this.keyStorePassword   = environment.getProperty("server.ssl.key-store-password", String.class);
+        this.connectorProperties = ConnectorProperties.bindAll(environment);
+        for (ConnectorProperties properties : connectorProperties) {
+            if (MANAGEMENT_CONNECTOR_NAME.equals(properties.getName())) {
+                throw new IllegalStateException("Connector name '" + MANAGEMENT_CONNECTOR_NAME + "' is reserved");
+            }
         }
+
+        this.maxThreads = environment.getProperty(MAX_THREADS_PROPERTY, Integer.class, 200);
+        this.minThreads = environment.getProperty(MIN_THREADS_PROPERTY, Integer.class, 8);
+        this.threadIdleTimeout = environment.getProperty(THREAD_IDLE_TIMEOUT_PROPERTY, Integer.class, 60_000);
+        validateThreadPoolSize(minThreads, maxThreads);
+
+        this.compressionEnabled = environment.getProperty("server.compression.enabled", Boolean.class, false);
+        if (compressionEnabled) {
+            this.compressionMinResponseSize   = environment.getProperty("server.compression.min-response-size", Integer.class, 2048);
+            this.compressionLevel             = environment.getProperty("server.compression.level", Integer.class, -1);
+            this.compressionMimeTypes         = splitCommaDelimited(
+                environment.getProperty("server.compression.mime-types", DEFAULT_COMPRESSION_MIME_TYPES));
+            this.compressionExcludedMimeTypes = splitCommaDelimited(
+                environment.getProperty("server.compression.excluded-mime-types", ""));
+        }
+
+        this.managementEnabled = environment.getProperty("management.server.enabled", Boolean.class, false);
+        if (managementEnabled) {
+            this.managementPort = environment.getProperty("management.server.port", Integer.class, 8081);
+            this.managementHost = environment.getProperty("management.server.address", "");
+            this.managementMaxThreads = environment.getProperty("management.server.max-threads", Integer.class, 4);
+        }
+
+        this.gracefulShutdown = !"immediate".equalsIgnoreCase(environment.getProperty("server.shutdown", "graceful"));
+        this.shutdownTimeoutMillis = environment.getProperty("server.shutdown.timeout", Long.class, 30_000L);
     }
 
     @Override
     public void start() throws Exception {
-        server = new Server();
-
-        ServerConnector connector = createConnector();
-        server.addConnector(connector);
+        StartupStep step = context.getStartupTimeline().start("server.start");
+        threadPool = new QueuedThreadPool(maxThreads, minThreads, threadIdleTimeout);
+        threadPool.setName("winter-http");
+        server = new Server(threadPool);
+
+        for (ConnectorProperties properties : connectorProperties) {
+            Connector connector = createConnector(properties);
+            server.addConnector(connector);
+            applicationConnectors.add(connector);
+            if (properties.getMaxConnections() > 0) {
+                // 한도에 도달하면 이 Connector만 새 연결 수락을 멈추고, 다른 Connector는 영향을 받지 않는다.
+                server.addBean(new ConnectionLimit(properties.getMaxConnections(), connector));
+            }
+        }
 
         WebAppContext webAppContext = createWebAppContext();
 
@@ -68,18 +159,92 @@ public class jettyWebServer implements WebServer {
         // jsp요청을 JspServlet에 매핑
         configureServlets(webAppContext);
 
-        server.setHandler(webAppContext);
+        // 종료 시 처리 중인 요청을 기다리고 새 요청을 거절할 수 있도록 애플리케이션 요청을 집계한다.
+        shutdownHandler = new GracefulShutdownHandler();
+        shutdownHandler.setHandler(wrapWithCompression(webAppContext));
+        Handler applicationHandler = shutdownHandler;
+
+        if (managementEnabled) {
+            managementServlet = createManagementServlet();
+            server.setHandler(withManagementContext(applicationHandler, managementServlet));
+        } else {
+            server.setHandler(applicationHandler);
+        }
 
         server.start();
+        threadPoolResizer = this::resizeThreadPool;
+        context.getEnvironment().addPropertyChangeListener(threadPoolResizer);
+        step.tag("port", String.valueOf(getPort())).end();
+        StartupReportExporter.export(context);
+        if (managementServlet != null) {
+            managementServlet.setReadyUptimeMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+        }
         System.out.println("WinterFramework Server is running");
-        System.out.println("http://localhost:" + serverPort);
-        server.join();
+        for (int i = 0; i < applicationConnectors.size(); i++) {
+            ConnectorProperties properties = connectorProperties.get(i);
+            String scheme = properties.isSslEnabled() ? "https" : "http";
+            if (properties.isUnixSocket()) {
+                System.out.println(scheme + " on unix:" + properties.getUnixSocket());
+            } else {
+                System.out.println(scheme + "://localhost:" + localPort(applicationConnectors.get(i), properties.getPort()));
+            }
+        }
+        if (managementEnabled) {
+            System.out.println("Management endpoint: http://localhost:" + getManagementPort() + "/metrics");
+        }
+    }
+
+    /**
+     * 첫 번째 TCP 애플리케이션 Connector의 포트.
+     *
+     * @return 포트, Unix Domain Socket Connector만 있으면 -1
+     */
+    @Override
+    public int getPort() {
+        Map<String, Integer> ports = getPorts();
+        return ports.isEmpty() ? -1 : ports.values().iterator().next();
+    }
+
+    /**
+     * TCP Connector 이름별 포트. 시작 후에는 실제로 바인딩된 포트를 반환한다.
+     */
+    public Map<String, Integer> getPorts() {
+        Map<String, Integer> ports = new LinkedHashMap<>();
+        for (int i = 0; i < connectorProperties.size(); i++) {
+            ConnectorProperties properties = connectorProperties.get(i);
+            if (properties.isUnixSocket()) {
+                continue;
+            }
+            Connector connector = i < applicationConnectors.size() ? applicationConnectors.get(i) : null;
+            ports.put(properties.getName(), localPort(connector, properties.getPort()));
+        }
+        return ports;
+    }
+
+    /**
+     * 관리 포트. 시작 후에는 실제로 바인딩된 포트를 반환한다.
+     *
+     * @return 관리 포트, 관리 Endpoint가 비활성화되어 있으면 -1
+     */
+    public int getManagementPort() {
+        return managementEnabled ? localPort(managementConnector, managementPort) : -1;
+    }
+
+    private int localPort(Connector connector, int configuredPort) {
+        if (!(connector instanceof NetworkConnector)) {
+            return configuredPort;
+        }
+        int localPort = ((NetworkConnector) connector).getLocalPort();
+        return localPort > 0 ? localPort : configuredPort;
     }
 
     private void configureServlets(WebAppContext webAppContext) {
         webAppContext.addServlet(JspServlet.class, "*.jsp");
         webAppContext.setWelcomeFiles(new String[]{"index.jsp"});
-        webAppContext.addServlet(new ServletHolder(new DispatcherServlet(context)), "/");
+        // CompletionStage를 반환하는 핸들러는 서블릿 비동기 처리로 응답한다.
+        ServletHolder dispatcherHolder = new ServletHolder(new DispatcherServlet(context));
+        dispatcherHolder.setAsyncSupported(true);
+        webAppContext.addServlet(dispatcherHolder, "/");
     }
 
     private void addFilter(WebAppContext webAppContext) {
@@ -103,6 +268,8 @@ public class jettyWebServer implements WebServer {
         for (FilterRegistrationBean<Filter> bean : filterBeans) {
             Filter filter = bean.getFilter();
             FilterHolder filterHolder = new FilterHolder(filter);
+            // 필터 체인 중 하나라도 비동기를 지원하지 않으면 DispatcherServlet이 비동기로 전환할 수 없다.
+            filterHolder.setAsyncSupported(true);
             EnumSet<DispatcherType> dispatcherTypes = bean.getDispatcherTypes();
 
             for (String urlPattern : bean.getUrlPatterns()) {
@@ -128,32 +295,164 @@ public class jettyWebServer implements WebServer {
         return webAppContext;
     }
 
-    private ServerConnector createConnector() {
+    /**
+     * {@code server.compression.enabled}가 켜져 있으면 WebAppContext를 GzipHandler로 감싼다.
+     *
+     * <p>Accept-Encoding 협상, 최소 응답 크기, MIME 타입 포함/제외 판단은 GzipHandler가 수행한다.
+     */
+    private Handler wrapWithCompression(WebAppContext webAppContext) {
+        if (!compressionEnabled) {
+            return webAppContext;
+        }
+
+        GzipHandler gzipHandler = new GzipHandler();
+        gzipHandler.setMinGzipSize(compressionMinResponseSize);
+        gzipHandler.setCompressionLevel(compressionLevel);
+        gzipHandler.setIncludedMimeTypes(compressionMimeTypes);
+        if (compressionExcludedMimeTypes.length > 0) {
+            gzipHandler.addExcludedMimeTypes(compressionExcludedMimeTypes);
+        }
+        gzipHandler.setHandler(webAppContext);
+        return gzipHandler;
+    }
+
+    /**
+     * {@code management.server.port}에 별도 Connector를 열고, 해당 Connector로 들어온 요청만
+     * {@link ManagementServlet}이 처리하도록 구성한다.
+     *
+     * <p>관리용 Context는 {@code @management} 가상 호스트로 Connector에 묶이므로 애플리케이션 포트에서는
+     * {@code /metrics}가 노출되지 않고, 관리 포트의 요청은 애플리케이션 핸들러로 넘어가지 않는다.
+     *
+     * <p>관리 Connector는 애플리케이션과 별도의 작은 스레드 풀({@code management.server.max-threads}, 기본 4)을
+     * 사용하므로, 애플리케이션 스레드 풀이 포화되어도 상태 조회와 지표 수집이 밀리지 않는다.
+     * 반대로 관리 요청이 애플리케이션 처리와 CPU를 다투지 않도록 이 풀의 스레드는 낮은 우선순위로 실행한다.
+     */
+    private Handler withManagementContext(Handler applicationHandler, ManagementServlet managementServlet) {
+        // Acceptor와 Selector가 스레드 하나씩을 점유하므로 요청 처리용으로 최소 1개를 남긴다.
+        QueuedThreadPool managementThreadPool = new QueuedThreadPool(Math.max(3, managementMaxThreads), 1);
+        managementThreadPool.setName("winter-management");
+        managementThreadPool.setThreadsPriority(Thread.MIN_PRIORITY);
+
+        managementConnector = new ServerConnector(server, managementThreadPool, null, null, 1, 1,
+            new HttpConnectionFactory());
+        managementConnector.setName(MANAGEMENT_CONNECTOR_NAME);
+        managementConnector.setPort(managementPort);
+        if (!managementHost.isEmpty()) {
+            managementConnector.setHost(managementHost);
+        }
+        server.addConnector(managementConnector);
+
+        ServletContextHandler managementContext = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+        managementContext.setContextPath("/");
+        managementContext.setVirtualHosts(new String[]{"@" + MANAGEMENT_CONNECTOR_NAME});
+        managementContext.addServlet(new ServletHolder(managementServlet), "/");
+
+        ContextHandlerCollection contexts = new ContextHandlerCollection();
+        contexts.addHandler(managementContext);
+        contexts.addHandler(applicationHandler);
+        return contexts;
+    }
+
+    private ManagementServlet createManagementServlet() {
+        MetricsRegistry metricsRegistry = context.getBeanFactory().getBean(
+            WinterUtils.resolveSimpleBeanName(MetricsRegistry.class),
+            MetricsRegistry.class
+        );
+
+        ManagementServlet managementServlet = new ManagementServlet(metricsRegistry, context);
+        if (server.getThreadPool() instanceof QueuedThreadPool) {
+            managementServlet.setThreadPool((QueuedThreadPool) server.getThreadPool());
+        }
+        return managementServlet;
+    }
+
+    /**
+     * 다시 로드된 {@code server.threads.max}, {@code server.threads.min}, {@code server.threads.idle-timeout}을
+     * 실행 중인 스레드 풀에 적용한다. 줄어든 크기는 유휴 스레드가 종료되면서 반영되며, 처리 중인 요청은 영향을 받지 않는다.
+     */
+    private void resizeThreadPool(Set<String> changedKeys) {
+        if (!changedKeys.contains(MAX_THREADS_PROPERTY) && !changedKeys.contains(MIN_THREADS_PROPERTY)
+            && !changedKeys.contains(THREAD_IDLE_TIMEOUT_PROPERTY)) {
+            return;
+        }
+
+        Environment environment = context.getEnvironment();
+        int max = environment.getProperty(MAX_THREADS_PROPERTY, Integer.class, 200);
+        int min = environment.getProperty(MIN_THREADS_PROPERTY, Integer.class, 8);
+        int idleTimeout = environment.getProperty(THREAD_IDLE_TIMEOUT_PROPERTY, Integer.class, 60_000);
+        try {
+            validateThreadPoolSize(min, max);
+        } catch (IllegalStateException e) {
+            System.err.println("Ignoring thread pool resize: " + e.getMessage());
+            return;
+        }
+
+        // 항상 min <= max를 유지하도록 줄일 때는 min부터, 늘릴 때는 max부터 바꾼다.
+        if (max < threadPool.getMinThreads()) {
+            threadPool.setMinThreads(min);
+            threadPool.setMaxThreads(max);
+        } else {
+            threadPool.setMaxThreads(max);
+            threadPool.setMinThreads(min);
+        }
+        threadPool.setIdleTimeout(idleTimeout);
+        System.out.println("Resized HTTP thread pool to min=" + min + ", max=" + max + ", idle-timeout=" + idleTimeout + "ms");
+    }
+
+    private static void validateThreadPoolSize(int min, int max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalStateException(
+                "Invalid thread pool size: " + MIN_THREADS_PROPERTY + "=" + min + ", " + MAX_THREADS_PROPERTY + "=" + max);
+        }
+    }
+
+    private String[] splitCommaDelimited(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new String[0];
+        }
+
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(token -> !token.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    /**
+     * 설정 하나로 HTTP 또는 HTTPS Connector를 만든다. 포트, Bind 주소, 유휴 제한 시간,
+     * Acceptor/Selector 수는 Connector마다 독립적으로 적용된다.
+     */
+    private Connector createConnector(ConnectorProperties properties) throws IOException {
         // form-urlencoded 요청을 POST, PUT, PATCH, DELETE에서도 파싱 가능하게 설정
         HttpConfiguration httpConfig = new HttpConfiguration();
         httpConfig.setFormEncodedMethods("POST", "PUT", "PATCH", "DELETE");
 
-        if(sslEnabled) {
-            return createSslConnector(server);
-        } else {
-            ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(httpConfig));
-            connector.setPort(serverPort);
-            return connector;
+        ConnectionFactory[] connectionFactories = properties.isSslEnabled()
+            ? createSslConnectionFactories(properties, httpConfig)
+            : new ConnectionFactory[]{new HttpConnectionFactory(httpConfig)};
+
+        if (properties.isUnixSocket()) {
+            return UnixSocketConnectors.create(server, properties, connectionFactories);
         }
 
+        ServerConnector connector = new ServerConnector(server, properties.getAcceptors(), properties.getSelectors(),
+            connectionFactories);
+        connector.setName(properties.getName());
+        connector.setPort(properties.getPort());
+        if (!properties.getAddress().isEmpty()) {
+            connector.setHost(properties.getAddress());
+        }
+        connector.setIdleTimeout(properties.getIdleTimeout());
+        return connector;
     }
 
-    private ServerConnector createSslConnector(Server server) {
+    private ConnectionFactory[] createSslConnectionFactories(ConnectorProperties properties,
+        HttpConfiguration httpsConfig) {
         // 1. SslContextFactory 설정
-        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
-        sslContextFactory.setKeyStorePath(keyStorePath);
-        sslContextFactory.setKeyStorePassword(keyStorePassword);
-        sslContextFactory.setKeyStoreType(keyStoreType);
+        SslContextFactory.Server sslContextFactory = createSslContextFactory(properties);
 
         // 2. HTTPS HttpConfiguration
-        HttpConfiguration httpsConfig = new HttpConfiguration();
         httpsConfig.setSecureScheme("https");
-        httpsConfig.setSecurePort(serverPort);
+        httpsConfig.setSecurePort(properties.getPort());
         httpsConfig.addCustomizer(new SecureRequestCustomizer());
 
         // 3. 연결 팩토리 구성 (SSL → HTTP/1.1)
@@ -161,30 +460,108 @@ public class jettyWebServer implements WebServer {
             new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.toString());
         HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpsConfig);
 
-        // 4. ServerConnector 생성
-        ServerConnector sslConnector = new ServerConnector(
-            server, sslConnectionFactory, httpConnectionFactory
-        );
-        sslConnector.setPort(serverPort);
-        sslConnector.setIdleTimeout(30000);
+        return new ConnectionFactory[]{sslConnectionFactory, httpConnectionFactory};
+    }
+
+    /**
+     * Key Store, 프로토콜/Cipher 목록, 세션 재개 캐시, OCSP Stapling을 적용한 SslContextFactory를 만든다.
+     *
+     * <p>세션 캐시가 있으면 재접속한 클라이언트는 인증서 교환과 키 합의를 생략하는 약식 핸드셰이크로 연결된다.
+     * {@code ssl.reload-interval}이 지정되면 {@link KeyStoreScanner}가 Key Store 파일의 변경을 감지하여
+     * 서버 재시작 없이 새 인증서로 교체하며, 이미 맺어진 연결은 그대로 유지된다.
+     */
+    private SslContextFactory.Server createSslContextFactory(ConnectorProperties properties) {
+        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+        sslContextFactory.setKeyStorePath(properties.getKeyStorePath());
+        sslContextFactory.setKeyStorePassword(properties.getKeyStorePassword());
+        sslContextFactory.setKeyStoreType(properties.getKeyStoreType());
+
+        String[] protocols = properties.getIncludeProtocols();
+        if (protocols.length > 0) {
+            sslContextFactory.setIncludeProtocols(protocols);
+        }
+        String[] cipherSuites = properties.getIncludeCipherSuites();
+        if (cipherSuites.length > 0) {
+            sslContextFactory.setIncludeCipherSuites(cipherSuites);
+            // 클라이언트의 순서 대신 설정한 순서(빠르고 안전한 Cipher 우선)로 협상한다.
+            sslContextFactory.setUseCipherSuitesOrder(true);
+        }
+        if (properties.getSessionCacheSize() >= 0) {
+            sslContextFactory.setSslSessionCacheSize(properties.getSessionCacheSize());
+        }
+        if (properties.getSessionTimeout() >= 0) {
+            sslContextFactory.setSslSessionTimeout(properties.getSessionTimeout());
+        }
+        if (properties.isOcspStapling() && !Boolean.getBoolean(OCSP_STAPLING_SYSTEM_PROPERTY)) {
+            // JSSE의 서버 측 Stapling은 JVM 전역 설정이며 첫 TLS 핸드셰이크 전에만 적용되므로,
+            // 실행 중에 바꾸지 않고 JVM 시작 옵션으로 지정하도록 한다.
+            throw new IllegalStateException("Connector '" + properties.getName() + "' sets ssl.ocsp-stapling=true "
+                + "but the JVM was not started with -D" + OCSP_STAPLING_SYSTEM_PROPERTY + "=true");
+        }
 
-        return sslConnector;
+        if (properties.getReloadInterval() > 0) {
+            KeyStoreScanner keyStoreScanner = new KeyStoreScanner(sslContextFactory);
+            keyStoreScanner.setScanInterval(properties.getReloadInterval());
+            server.addBean(keyStoreScanner);
+        }
+        return sslContextFactory;
     }
 
+    /**
+     * 서버를 정지한다. 종료 Hook과 직접 호출이 겹쳐도 한 번만 수행한다.
+     *
+     * <p>{@code server.shutdown=graceful}(기본값)이면 다음 순서로 정지한다.
+     * <ol>
+     *   <li>Readiness를 내리고 새 요청을 {@code 503}으로 거절 (관리 포트의 {@code /health}도 503)</li>
+     *   <li>애플리케이션 Connector의 새 연결 수락 중단, 관리 Connector는 상태 조회를 위해 유지</li>
+     *   <li>처리 중인 요청과 비동기 요청이 끝날 때까지 최대 {@code server.shutdown.timeout}(기본 30초) 대기</li>
+     *   <li>Jetty 정지</li>
+     * </ol>
+     */
     @Override
     public void stop() {
+        if (server == null || !stopped.compareAndSet(false, true)) {
+            return;
+        }
+        if (threadPoolResizer != null) {
+            context.getEnvironment().removePropertyChangeListener(threadPoolResizer);
+        }
+
         try {
-            // 1. 그레이스풀 셧다운: 최대 5초 동안 열린 요청을 처리하고 커넥션을 정리
-            server.setStopAtShutdown(true);
-            server.setStopTimeout(5_000);
+            if (gracefulShutdown && shutdownHandler != null) {
+                drainRequests();
+            }
 
-            // 2. 서버 정지 요청
             server.stop();
-
-            // 3. 실제 스레드 종료를 대기
             server.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while stopping Web Server.", ex);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to stop Web Server.", ex);
         }
     }
+
+    private void drainRequests() throws Exception {
+        shutdownHandler.shutdown();
+        if (managementServlet != null) {
+            managementServlet.setAcceptingTraffic(false);
+        }
+
+        for (int i = 0; i < applicationConnectors.size(); i++) {
+            Connector connector = applicationConnectors.get(i);
+            if (connector instanceof NetworkConnector) {
+                ((NetworkConnector) connector).close();
+            } else if (connectorProperties.get(i).isUnixSocket()) {
+                UnixSocketConnectors.close(connector);
+            }
+        }
+
+        System.out.println("Waiting for " + shutdownHandler.getActiveRequests()
+            + " active request(s) to complete (timeout " + shutdownTimeoutMillis + "ms)");
+        if (!shutdownHandler.awaitInactive(shutdownTimeoutMillis)) {
+            System.err.println("Graceful shutdown timed out with "
+                + shutdownHandler.getActiveRequests() + " active request(s)");
+        }
+    }
 }
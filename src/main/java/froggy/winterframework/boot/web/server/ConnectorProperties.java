@@ -0,0 +1,210 @@
+package froggy.winterframework.boot.web.server;
+
+import froggy.winterframework.core.env.Environment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 하나의 Connector(수신 포트) 설정.
+ *
+ * <p>같은 키 구조를 Prefix만 바꿔 읽는다. {@code server.}를 Prefix로 읽으면 기존 단일 Connector 설정
+ * ({@code server.port}, {@code server.ssl.*})과 같고, {@code server.connectors[0].}처럼 인덱스를 붙이면
+ * 여러 Connector를 각자 다른 포트와 설정으로 연다.
+ *
+ * <pre>
+ * server.connectors[0].port=8080
+ * server.connectors[1].port=8443
+ * server.connectors[1].ssl.enabled=true
+ * server.connectors[1].ssl.key-store=keystore.p12
+ * server.connectors[1].ssl.key-store-password=changeit
+ * server.connectors[1].idle-timeout=60000
+ * server.connectors[1].max-connections=2000
+ * server.connectors[2].unix-socket=/var/run/winter/http.sock
+ * </pre>
+ *
+ * <ul>
+ *   <li>{@code port} - 수신 포트, 0이면 임의 포트</li>
+ *   <li>{@code unix-socket} - TCP 포트 대신 수신할 Unix Domain Socket 경로 (같은 호스트의 Sidecar Proxy용)</li>
+ *   <li>{@code address} - Bind 주소, 없으면 모든 주소</li>
+ *   <li>{@code idle-timeout} - 유휴 연결 제한 시간 (ms), 기본 30000</li>
+ *   <li>{@code acceptors}, {@code selectors} - Acceptor/Selector 스레드 수, -1이면 Jetty 기본값</li>
+ *   <li>{@code max-connections} - 이 Connector의 최대 연결 수, 초과하면 새 연결 수락을 멈춘다. 0이면 제한 없음</li>
+ *   <li>{@code ssl.enabled}, {@code ssl.key-store}, {@code ssl.key-store-type}, {@code ssl.key-store-password}</li>
+ *   <li>{@code ssl.enabled-protocols} - 허용할 프로토콜 (예: {@code TLSv1.3,TLSv1.2}), 없으면 Jetty 기본값</li>
+ *   <li>{@code ssl.ciphers} - 허용할 Cipher Suite (정규식 가능), 나열한 순서가 서버 선호 순서가 된다</li>
+ *   <li>{@code ssl.session-cache-size}, {@code ssl.session-timeout} - 세션 재개용 캐시 크기와 유지 시간 (초), -1이면 JDK 기본값</li>
+ *   <li>{@code ssl.ocsp-stapling} - 핸드셰이크에 OCSP 응답을 함께 보낸다.
+ *       JVM을 {@code -Djdk.tls.server.enableStatusRequestExtension=true}로 시작해야 하며, 없으면 시작에 실패한다</li>
+ *   <li>{@code ssl.reload-interval} - Key Store 파일 변경 확인 주기 (초), 0이면 다시 읽지 않음</li>
+ * </ul>
+ */
+public class ConnectorProperties {
+
+    /** 인덱스 Connector 설정의 Prefix */
+    public static final String INDEXED_PREFIX = "server.connectors";
+
+    private static final long DEFAULT_IDLE_TIMEOUT = 30_000L;
+
+    private final String name;
+    private final int port;
+    private final String unixSocket;
+    private final String address;
+    private final long idleTimeout;
+    private final int acceptors;
+    private final int selectors;
+    private final int maxConnections;
+    private final boolean sslEnabled;
+    private final String keyStorePath;
+    private final String keyStoreType;
+    private final String keyStorePassword;
+    private final String[] includeProtocols;
+    private final String[] includeCipherSuites;
+    private final int sessionCacheSize;
+    private final int sessionTimeout;
+    private final boolean ocspStapling;
+    private final int reloadInterval;
+
+    private ConnectorProperties(Environment environment, String prefix, String defaultName, int defaultPort) {
+        this.name = environment.getProperty(prefix + "name", defaultName);
+        this.port = environment.getProperty(prefix + "port", Integer.class, defaultPort);
+        this.unixSocket = environment.getProperty(prefix + "unix-socket", "");
+        this.address = environment.getProperty(prefix + "address", "");
+        this.idleTimeout = environment.getProperty(prefix + "idle-timeout", Long.class, DEFAULT_IDLE_TIMEOUT);
+        this.acceptors = environment.getProperty(prefix + "acceptors", Integer.class, -1);
+        this.selectors = environment.getProperty(prefix + "selectors", Integer.class, -1);
+        this.maxConnections = environment.getProperty(prefix + "max-connections", Integer.class, 0);
+        this.sslEnabled = environment.getProperty(prefix + "ssl.enabled", Boolean.class, false);
+        if (sslEnabled) {
+            this.keyStorePath = environment.getProperty(prefix + "ssl.key-store", String.class);
+            this.keyStoreType = environment.getProperty(prefix + "ssl.key-store-type", "PKCS12");
+            this.keyStorePassword = environment.getProperty(prefix + "ssl.key-store-password", String.class);
+            this.includeProtocols = splitCommaDelimited(environment.getProperty(prefix + "ssl.enabled-protocols", ""));
+            this.includeCipherSuites = splitCommaDelimited(environment.getProperty(prefix + "ssl.ciphers", ""));
+            this.sessionCacheSize = environment.getProperty(prefix + "ssl.session-cache-size", Integer.class, -1);
+            this.sessionTimeout = environment.getProperty(prefix + "ssl.session-timeout", Integer.class, -1);
+            this.ocspStapling = environment.getProperty(prefix + "ssl.ocsp-stapling", Boolean.class, false);
+            this.reloadInterval = environment.getProperty(prefix + "ssl.reload-interval", Integer.class, 0);
+        } else {
+            this.keyStorePath = null;
+            this.keyStoreType = null;
+            this.keyStorePassword = null;
+            this.includeProtocols = new String[0];
+            this.includeCipherSuites = new String[0];
+            this.sessionCacheSize = -1;
+            this.sessionTimeout = -1;
+            this.ocspStapling = false;
+            this.reloadInterval = 0;
+        }
+    }
+
+    /**
+     * 애플리케이션 Connector 설정 목록을 읽는다.
+     *
+     * <p>{@code server.connectors[0].port}(또는 {@code unix-socket})부터 인덱스가 끊길 때까지 읽고,
+     * 인덱스 설정이 없으면 {@code server.port}(기본 8080), {@code server.ssl.*}로 Connector 하나를 만든다.
+     */
+    public static List<ConnectorProperties> bindAll(Environment environment) {
+        List<ConnectorProperties> connectors = new ArrayList<>();
+        for (int i = 0; environment.containsProperty(indexedPrefix(i) + "port")
+            || environment.containsProperty(indexedPrefix(i) + "unix-socket"); i++) {
+            connectors.add(new ConnectorProperties(environment, indexedPrefix(i), "connector-" + i, 0));
+        }
+
+        if (connectors.isEmpty()) {
+            connectors.add(new ConnectorProperties(environment, "server.", "connector-0", 8080));
+        }
+        return connectors;
+    }
+
+    private static String indexedPrefix(int index) {
+        return INDEXED_PREFIX + "[" + index + "].";
+    }
+
+    private static String[] splitCommaDelimited(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new String[0];
+        }
+
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(token -> !token.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getUnixSocket() {
+        return unixSocket;
+    }
+
+    public boolean isUnixSocket() {
+        return !unixSocket.isEmpty();
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    public int getSelectors() {
+        return selectors;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public boolean isSslEnabled() {
+        return sslEnabled;
+    }
+
+    public String getKeyStorePath() {
+        return keyStorePath;
+    }
+
+    public String getKeyStoreType() {
+        return keyStoreType;
+    }
+
+    public String getKeyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public String[] getIncludeProtocols() {
+        return includeProtocols.clone();
+    }
+
+    public String[] getIncludeCipherSuites() {
+        return includeCipherSuites.clone();
+    }
+
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public int getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    public boolean isOcspStapling() {
+        return ocspStapling;
+    }
+
+    public int getReloadInterval() {
+        return reloadInterval;
+    }
+}
@@ -2,7 +2,15 @@ package froggy.winterframework.boot.web.server;
 
 public interface WebServer {
 
+    /**
+     * 서버를 시작한다. 요청을 받을 준비가 되면 반환하며, 서버 종료까지 대기하지 않는다.
+     */
     void start() throws Exception;
 
     void stop();
+
+    /**
+     * 애플리케이션 요청을 받는 포트. 시작 후에는 실제로 바인딩된 포트({@code server.port=0}이면 임의 포트)를 반환한다.
+     */
+    int getPort();
 }
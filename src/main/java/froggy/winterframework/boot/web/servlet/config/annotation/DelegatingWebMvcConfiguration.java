@@ -5,6 +5,7 @@ import froggy.winterframework.context.ApplicationContext;
 import froggy.winterframework.context.annotation.Configuration;
 import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
 import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
+import froggy.winterframework.web.servlet.cache.ResponseCacheStore;
 import java.util.Collections;
 import java.util.List;
 
@@ -41,4 +42,29 @@ public class DelegatingWebMvcConfiguration extends WebMvcConfigurationSupport {
         }
     }
 
+    @Override
+    protected void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (WebMvcConfigurer configurer : configurerComposite) {
+            configurer.addResourceHandlers(registry);
+        }
+    }
+
+    @Override
+    protected void addInterceptors(InterceptorRegistry registry) {
+        for (WebMvcConfigurer configurer : configurerComposite) {
+            configurer.addInterceptors(registry);
+        }
+    }
+
+    @Override
+    protected ResponseCacheStore getResponseCacheStore() {
+        for (WebMvcConfigurer configurer : configurerComposite) {
+            ResponseCacheStore store = configurer.getResponseCacheStore();
+            if (store != null) {
+                return store;
+            }
+        }
+        return super.getResponseCacheStore();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package froggy.winterframework.boot.web.servlet.config.annotation;
+
+import froggy.winterframework.web.servlet.HandlerInterceptor;
+import froggy.winterframework.web.servlet.handler.MappedInterceptor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하나의 {@link HandlerInterceptor}에 적용할 경로 패턴과 순서를 설정하는 클래스.
+ *
+ * @see InterceptorRegistry
+ * @see MappedInterceptor
+ */
+public class InterceptorRegistration {
+
+    private final HandlerInterceptor interceptor;
+    private final List<String> includePatterns = new ArrayList<>();
+    private final List<String> excludePatterns = new ArrayList<>();
+    private int order;
+
+    InterceptorRegistration(HandlerInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * 인터셉터를 적용할 라우트 패턴을 추가한다.
+     *
+     * @param patterns {@code /api/**}, {@code /users/*} 형태의 패턴
+     * @return 현재 Registration
+     */
+    public InterceptorRegistration addPathPatterns(String... patterns) {
+        addPatterns(includePatterns, patterns);
+        return this;
+    }
+
+    /**
+     * 인터셉터를 적용하지 않을 라우트 패턴을 추가한다. 포함 패턴보다 우선한다.
+     *
+     * @param patterns {@code /api/public/**} 형태의 패턴
+     * @return 현재 Registration
+     */
+    public InterceptorRegistration excludePathPatterns(String... patterns) {
+        addPatterns(excludePatterns, patterns);
+        return this;
+    }
+
+    /**
+     * 실행 순서를 설정한다. 값이 작을수록 먼저 {@code preHandle}이 호출된다. 기본값은 0.
+     *
+     * @param order 순서 값
+     * @return 현재 Registration
+     */
+    public InterceptorRegistration order(int order) {
+        this.order = order;
+        return this;
+    }
+
+    int getOrder() {
+        return order;
+    }
+
+    MappedInterceptor getMappedInterceptor() {
+        return new MappedInterceptor(interceptor, new ArrayList<>(includePatterns), new ArrayList<>(excludePatterns));
+    }
+
+    private void addPatterns(List<String> target, String... patterns) {
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.trim().isEmpty()) {
+                throw new IllegalArgumentException("Interceptor path pattern must not be empty");
+            }
+            target.add(pattern.trim());
+        }
+    }
+}
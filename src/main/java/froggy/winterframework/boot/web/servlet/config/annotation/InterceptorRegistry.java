@@ -0,0 +1,51 @@
+package froggy.winterframework.boot.web.servlet.config.annotation;
+
+import froggy.winterframework.web.servlet.HandlerInterceptor;
+import froggy.winterframework.web.servlet.handler.MappedInterceptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link WebMvcConfigurer#addInterceptors(InterceptorRegistry)}에서 {@link HandlerInterceptor}를 등록하는 클래스.
+ *
+ * <pre>{@code
+ * registry.addInterceptor(new AuthInterceptor())
+ *     .addPathPatterns("/api/**")
+ *     .excludePathPatterns("/api/public/**");
+ * }</pre>
+ */
+public class InterceptorRegistry {
+
+    private final List<InterceptorRegistration> registrations = new ArrayList<>();
+
+    /**
+     * 인터셉터를 등록한다. 경로 패턴을 지정하지 않으면 모든 라우트에 적용된다.
+     *
+     * @param interceptor 등록할 인터셉터
+     * @return 경로 패턴과 순서를 설정할 Registration
+     */
+    public InterceptorRegistration addInterceptor(HandlerInterceptor interceptor) {
+        if (interceptor == null) {
+            throw new IllegalArgumentException("Interceptor must not be null");
+        }
+
+        InterceptorRegistration registration = new InterceptorRegistration(interceptor);
+        registrations.add(registration);
+        return registration;
+    }
+
+    /**
+     * 순서 값 오름차순(같으면 등록 순)으로 정렬된 인터셉터 목록을 반환한다.
+     */
+    protected List<MappedInterceptor> getInterceptors() {
+        List<InterceptorRegistration> sorted = new ArrayList<>(registrations);
+        Collections.sort(sorted, (r1, r2) -> Integer.compare(r1.getOrder(), r2.getOrder()));
+
+        List<MappedInterceptor> interceptors = new ArrayList<>(sorted.size());
+        for (InterceptorRegistration registration : sorted) {
+            interceptors.add(registration.getMappedInterceptor());
+        }
+        return interceptors;
+    }
+}
@@ -0,0 +1,63 @@
+package froggy.winterframework.boot.web.servlet.config.annotation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 하나의 정적 리소스 매핑(URL 패턴과 리소스 위치)을 설정하는 클래스.
+ *
+ * @see ResourceHandlerRegistry
+ */
+public class ResourceHandlerRegistration {
+
+    private final List<String> pathPatterns;
+    private final List<String> locations = new ArrayList<>();
+    private Integer cachePeriod;
+
+    ResourceHandlerRegistration(String... pathPatterns) {
+        this.pathPatterns = Collections.unmodifiableList(Arrays.asList(pathPatterns));
+    }
+
+    /**
+     * 리소스를 찾을 위치를 추가한다. 먼저 추가한 위치부터 조회한다.
+     *
+     * @param resourceLocations {@code classpath:/static/}, {@code file:/var/www/} 형태의 위치
+     * @return 현재 Registration
+     */
+    public ResourceHandlerRegistration addResourceLocations(String... resourceLocations) {
+        for (String location : resourceLocations) {
+            if (location == null || location.trim().isEmpty()) {
+                throw new IllegalArgumentException("Resource location must not be empty");
+            }
+            locations.add(location.trim());
+        }
+        return this;
+    }
+
+    /**
+     * Cache-Control max-age(초)를 설정한다.
+     * 0이면 {@code no-cache}, 설정하지 않으면 헤더를 추가하지 않는다.
+     * 파일명에 콘텐츠 해시가 포함된 요청은 이 값과 관계없이 장기 캐시된다.
+     *
+     * @param cachePeriod 캐시 기간(초)
+     * @return 현재 Registration
+     */
+    public ResourceHandlerRegistration setCachePeriod(Integer cachePeriod) {
+        this.cachePeriod = cachePeriod;
+        return this;
+    }
+
+    List<String> getPathPatterns() {
+        return pathPatterns;
+    }
+
+    List<String> getLocations() {
+        return locations;
+    }
+
+    int getCachePeriod() {
+        return cachePeriod != null ? cachePeriod : -1;
+    }
+}
@@ -0,0 +1,109 @@
+package froggy.winterframework.boot.web.servlet.config.annotation;
+
+import froggy.winterframework.web.servlet.handler.ResourceHandlerMapping;
+import froggy.winterframework.web.servlet.resource.ResourceCache;
+import froggy.winterframework.web.servlet.resource.ResourceHttpRequestHandler;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link WebMvcConfigurer#addResourceHandlers(ResourceHandlerRegistry)}에서 정적 리소스 매핑을 등록하는 클래스.
+ *
+ * <pre>{@code
+ * registry.addResourceHandler("/static/**")
+ *     .addResourceLocations("classpath:/static/")
+ *     .setCachePeriod(3600);
+ * }</pre>
+ */
+public class ResourceHandlerRegistry {
+
+    private static final int DEFAULT_CACHE_MAX_ENTRY_SIZE = 64 * 1024;
+    private static final long DEFAULT_CACHE_MAX_TOTAL_SIZE = 16L * 1024 * 1024;
+
+    private final List<ResourceHandlerRegistration> registrations = new ArrayList<>();
+    private int cacheMaxEntrySize = DEFAULT_CACHE_MAX_ENTRY_SIZE;
+    private long cacheMaxTotalSize = DEFAULT_CACHE_MAX_TOTAL_SIZE;
+
+    /**
+     * 정적 리소스를 제공할 URL 패턴을 등록한다.
+     *
+     * @param pathPatterns {@code /static/**} 형태의 URL 패턴
+     * @return 리소스 위치를 설정할 Registration
+     */
+    public ResourceHandlerRegistration addResourceHandler(String... pathPatterns) {
+        if (pathPatterns == null || pathPatterns.length == 0) {
+            throw new IllegalArgumentException("At least one path pattern is required for a resource handler");
+        }
+
+        ResourceHandlerRegistration registration = new ResourceHandlerRegistration(pathPatterns);
+        registrations.add(registration);
+        return registration;
+    }
+
+    /**
+     * 메모리에 캐시할 리소스 하나의 최대 크기(bytes)를 설정한다. 이보다 큰 파일은 캐시하지 않고 직접 전송한다.
+     */
+    public ResourceHandlerRegistry setCacheMaxEntrySize(int cacheMaxEntrySize) {
+        this.cacheMaxEntrySize = cacheMaxEntrySize;
+        return this;
+    }
+
+    /**
+     * 리소스 캐시 전체의 최대 크기(bytes)를 설정한다.
+     */
+    public ResourceHandlerRegistry setCacheMaxTotalSize(long cacheMaxTotalSize) {
+        this.cacheMaxTotalSize = cacheMaxTotalSize;
+        return this;
+    }
+
+    /**
+     * 등록된 매핑으로 {@link ResourceHandlerMapping}을 생성한다.
+     * 모든 핸들러는 하나의 {@link ResourceCache}를 공유한다.
+     */
+    protected ResourceHandlerMapping getHandlerMapping() {
+        ResourceCache resourceCache = new ResourceCache(cacheMaxEntrySize, cacheMaxTotalSize);
+        List<ResourceHttpRequestHandler> handlers = new ArrayList<>();
+
+        for (ResourceHandlerRegistration registration : registrations) {
+            if (registration.getLocations().isEmpty()) {
+                throw new IllegalStateException(
+                    "No resource locations registered for " + registration.getPathPatterns());
+            }
+
+            for (String pathPattern : registration.getPathPatterns()) {
+                handlers.add(new ResourceHttpRequestHandler(
+                    toPathPrefix(pathPattern),
+                    registration.getLocations(),
+                    registration.getCachePeriod(),
+                    resourceCache
+                ));
+            }
+        }
+        return new ResourceHandlerMapping(handlers);
+    }
+
+    /**
+     * {@code /static/**}, {@code /static/*}, {@code /static/} 형태의 패턴을 {@code /static} Prefix로 변환한다.
+     */
+    private String toPathPrefix(String pathPattern) {
+        String prefix = pathPattern.trim();
+        if (prefix.endsWith("/**")) {
+            prefix = prefix.substring(0, prefix.length() - 3);
+        } else if (prefix.endsWith("/*")) {
+            prefix = prefix.substring(0, prefix.length() - 2);
+        }
+
+        while (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+
+        if (prefix.contains("*")) {
+            throw new IllegalArgumentException("Unsupported resource handler pattern: " + pathPattern);
+        }
+
+        if (!prefix.isEmpty() && !prefix.startsWith("/")) {
+            prefix = "/" + prefix;
+        }
+        return prefix;
+    }
+}
@@ -3,12 +3,17 @@ package froggy.winterframework.boot.web.servlet.config.annotation;
 import froggy.winterframework.beans.factory.annotation.Autowired;
 import froggy.winterframework.context.ApplicationContext;
 import froggy.winterframework.context.annotation.Bean;
+import froggy.winterframework.core.env.Environment;
 import froggy.winterframework.validation.LocalValidatorFactoryBean;
 import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
 import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
 import froggy.winterframework.web.servlet.ExceptionResolver;
+import froggy.winterframework.web.servlet.cache.LruResponseCacheStore;
+import froggy.winterframework.web.servlet.cache.ResponseCache;
+import froggy.winterframework.web.servlet.cache.ResponseCacheStore;
 import froggy.winterframework.web.servlet.handler.HandlerExceptionResolverComposite;
 import froggy.winterframework.web.servlet.handler.RequestMappingHandlerMapping;
+import froggy.winterframework.web.servlet.handler.ResourceHandlerMapping;
 import froggy.winterframework.web.servlet.mvc.method.annotation.DefaultControllerHandlerAdapter;
 import froggy.winterframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
 import froggy.winterframework.web.servlet.mvc.support.DefaultHandlerExceptionResolver;
@@ -21,6 +26,8 @@ import java.util.List;
  */
 public class WebMvcConfigurationSupport {
 
+    private static final long DEFAULT_RESPONSE_CACHE_SIZE = 32L * 1024 * 1024;
+
     protected final ApplicationContext context;
     private final List<HandlerMethodArgumentResolver> argumentResolvers = new LinkedList<>();
     private final List<HandlerMethodReturnValueHandler> returnValueHandlers = new LinkedList<>();
@@ -34,6 +41,10 @@ public class WebMvcConfigurationSupport {
     public RequestMappingHandlerMapping requestMappingHandlerMapping() {
         RequestMappingHandlerMapping mapping = createRequestMappingHandlerMapping();
 
+        InterceptorRegistry registry = new InterceptorRegistry();
+        addInterceptors(registry);
+        mapping.setInterceptors(registry.getInterceptors());
+        mapping.setDefaultTimeout(getDefaultRequestTimeout());
         return mapping;
     }
 
@@ -41,12 +52,34 @@ public class WebMvcConfigurationSupport {
         return new RequestMappingHandlerMapping(context);
     }
 
+    protected void addInterceptors(InterceptorRegistry registry) {
+    }
+
+    /**
+     * {@code @Timeout}이 없는 라우트의 제한 시간 (ms). 기본값은 {@code server.request-timeout}, 없으면 0 (제한 없음).
+     */
+    protected long getDefaultRequestTimeout() {
+        Environment environment = context.getEnvironment();
+        return environment != null ? environment.getProperty("server.request-timeout", Long.class, 0L) : 0L;
+    }
+
+    @Bean
+    public ResourceHandlerMapping resourceHandlerMapping() {
+        ResourceHandlerRegistry registry = new ResourceHandlerRegistry();
+        addResourceHandlers(registry);
+        return registry.getHandlerMapping();
+    }
+
+    protected void addResourceHandlers(ResourceHandlerRegistry registry) {
+    }
+
     @Bean
     public DefaultControllerHandlerAdapter defaultControllerHandlerAdapter() {
         DefaultControllerHandlerAdapter adapter = createDefaultControllerHandlerAdapter();
 
         adapter.addArgumentResolvers(getArgumentResolvers());
         adapter.addReturnValueHandlers(getReturnValueHandlers());
+        adapter.setResponseCache(new ResponseCache(getResponseCacheStore()));
         return adapter;
     }
 
@@ -56,6 +89,13 @@ public class WebMvcConfigurationSupport {
         return new DefaultControllerHandlerAdapter(validatorFactoryBean);
     }
 
+    /**
+     * {@code @CacheResponse} 응답을 보관할 저장소를 반환한다. 기본값은 전체 {@value #DEFAULT_RESPONSE_CACHE_SIZE} bytes의 LRU 저장소.
+     */
+    protected ResponseCacheStore getResponseCacheStore() {
+        return new LruResponseCacheStore(DEFAULT_RESPONSE_CACHE_SIZE);
+    }
+
     protected ExceptionHandlerExceptionResolver exceptionHandlerExceptionResolver() {
         ExceptionHandlerExceptionResolver resolver = createExceptionHandlerExceptionResolver();
         resolver.initArgumentResolvers();
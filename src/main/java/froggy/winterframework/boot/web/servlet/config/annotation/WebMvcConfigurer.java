@@ -2,6 +2,7 @@ package froggy.winterframework.boot.web.servlet.config.annotation;
 
 import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
 import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
+import froggy.winterframework.web.servlet.cache.ResponseCacheStore;
 import java.util.List;
 
 /**
@@ -23,4 +24,26 @@ public interface WebMvcConfigurer {
      */
     default void addReturnValueHandlers(List<HandlerMethodReturnValueHandler> returnValueHandlers) {
     }
+
+    /**
+     * 정적 리소스 매핑을 추가
+     * @param registry 리소스 핸들러 Registry
+     */
+    default void addResourceHandlers(ResourceHandlerRegistry registry) {
+    }
+
+    /**
+     * 라우트에 적용할 HandlerInterceptor를 추가
+     * @param registry 인터셉터 Registry
+     */
+    default void addInterceptors(InterceptorRegistry registry) {
+    }
+
+    /**
+     * {@code @CacheResponse} 응답을 보관할 저장소를 지정
+     * @return 사용할 저장소, 기본 저장소를 사용하려면 {@code null}
+     */
+    default ResponseCacheStore getResponseCacheStore() {
+        return null;
+    }
 }
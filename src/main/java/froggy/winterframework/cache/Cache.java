@@ -0,0 +1,52 @@
+package froggy.winterframework.cache;
+
+/**
+ * 이름으로 구분되는 Key-Value 캐시.
+ *
+ * <p>{@code null} 값도 캐시할 수 있도록 조회 결과를 {@link ValueWrapper}로 감싸 반환한다.
+ * 구현체는 여러 스레드에서 동시에 호출되므로 Thread-safe 해야 한다.
+ */
+public interface Cache {
+
+    /**
+     * 캐시 이름을 반환한다.
+     */
+    String getName();
+
+    /**
+     * 키에 해당하는 값을 조회한다.
+     *
+     * @param key 캐시 키
+     * @return 캐시된 값을 감싼 {@link ValueWrapper}, 없거나 만료되었으면 {@code null}
+     */
+    ValueWrapper get(Object key);
+
+    /**
+     * 값을 저장한다. 같은 키의 기존 값은 교체된다.
+     *
+     * @param key   캐시 키
+     * @param value 저장할 값 ({@code null} 허용)
+     */
+    void put(Object key, Object value);
+
+    /**
+     * 키에 해당하는 값을 제거한다.
+     */
+    void evict(Object key);
+
+    /**
+     * 모든 값을 제거한다.
+     */
+    void clear();
+
+    /**
+     * 캐시 조회 결과.
+     */
+    interface ValueWrapper {
+
+        /**
+         * 캐시된 값을 반환한다.
+         */
+        Object get();
+    }
+}
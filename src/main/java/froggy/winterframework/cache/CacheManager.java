@@ -0,0 +1,22 @@
+package froggy.winterframework.cache;
+
+import java.util.Collection;
+
+/**
+ * 이름으로 {@link Cache}를 관리하는 매니저.
+ */
+public interface CacheManager {
+
+    /**
+     * 이름에 해당하는 캐시를 반환한다.
+     *
+     * @param name 캐시 이름
+     * @return 캐시, 제공할 수 없으면 {@code null}
+     */
+    Cache getCache(String name);
+
+    /**
+     * 관리 중인 캐시 이름 목록을 반환한다.
+     */
+    Collection<String> getCacheNames();
+}
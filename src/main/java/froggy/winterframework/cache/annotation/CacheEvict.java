@@ -0,0 +1,31 @@
+package froggy.winterframework.cache.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메소드 실행 시 캐시된 값을 제거하는 어노테이션.
+ *
+ * <p>기본적으로 메소드 인자로 생성한 키의 값을 메소드가 정상 종료된 후 제거한다.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+
+    /**
+     * 값을 제거할 캐시 이름.
+     */
+    String[] value();
+
+    /**
+     * {@code true}이면 인자와 관계없이 캐시의 모든 값을 제거한다.
+     */
+    boolean allEntries() default false;
+
+    /**
+     * {@code true}이면 메소드 실행 전에 제거한다. 메소드에서 예외가 발생해도 제거된다.
+     */
+    boolean beforeInvocation() default false;
+}
@@ -0,0 +1,23 @@
+package froggy.winterframework.cache.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메소드의 반환값을 캐시하는 어노테이션.
+ *
+ * <p>같은 인자로 다시 호출되면 메소드를 실행하지 않고 캐시된 값을 반환한다.
+ * 캐시 키는 메소드 인자 전체로 생성한다.
+ * 인터페이스를 구현한 Bean에만 적용되며, 인터페이스를 통해 호출해야 한다(같은 객체 내부 호출은 캐시되지 않음).
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+
+    /**
+     * 사용할 캐시 이름.
+     */
+    String[] value();
+}
@@ -0,0 +1,97 @@
+package froggy.winterframework.cache.annotation;
+
+import froggy.winterframework.beans.factory.annotation.Autowired;
+import froggy.winterframework.cache.CacheManager;
+import froggy.winterframework.cache.interceptor.CachingBeanPostProcessor;
+import froggy.winterframework.cache.support.LocalCacheManager;
+import froggy.winterframework.context.annotation.Bean;
+import froggy.winterframework.context.annotation.Configuration;
+import froggy.winterframework.core.env.Environment;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Cacheable}, {@link CacheEvict} 처리를 위한 컴포넌트를 Bean으로 등록하는 구성 클래스<br>
+ *
+ * {@link CachingConfigurer} Bean이 {@link CacheManager}를 제공하면 그것을 사용하고,
+ * 없으면 {@link LocalCacheManager}를 사용한다.
+ *
+ * <pre>
+ * winter.cache.maximum-size=10000  # 캐시별 최대 항목 수
+ * winter.cache.ttl=10m             # 항목 유지 시간, 0이면 만료되지 않음
+ * </pre>
+ * {@link LocalCacheManager}를 사용할 때 두 설정이 다시 로드되면 실행 중인 캐시에 바로 적용된다.
+ */
+@Configuration
+public class CachingConfiguration {
+
+    private static final String MAXIMUM_SIZE_PROPERTY = "winter.cache.maximum-size";
+    private static final String TTL_PROPERTY = "winter.cache.ttl";
+
+    private final Environment environment;
+    private final List<CachingConfigurer> configurers;
+    private CacheManager cacheManager;
+
+    @Autowired
+    public CachingConfiguration(Environment environment, List<CachingConfigurer> configurers) {
+        this.environment = environment;
+        this.configurers = configurers != null ?
+            Collections.unmodifiableList(configurers) :
+            Collections.emptyList();
+    }
+
+    /**
+     * {@link #cachingBeanPostProcessor()}와 같은 인스턴스를 공유하도록 한 번만 생성한다.
+     */
+    @Bean
+    public synchronized CacheManager cacheManager() {
+        if (cacheManager == null) {
+            cacheManager = resolveCacheManager();
+        }
+        return cacheManager;
+    }
+
+    private CacheManager resolveCacheManager() {
+        for (CachingConfigurer configurer : configurers) {
+            CacheManager configured = configurer.cacheManager();
+            if (configured != null) {
+                return configured;
+            }
+        }
+        LocalCacheManager localCacheManager = new LocalCacheManager(
+            environment.getProperty(MAXIMUM_SIZE_PROPERTY, Integer.class, LocalCacheManager.DEFAULT_MAXIMUM_SIZE),
+            resolveTtlMillis(), TimeUnit.MILLISECONDS);
+        environment.addPropertyChangeListener(changedKeys -> resize(localCacheManager, changedKeys));
+        return localCacheManager;
+    }
+
+    private void resize(LocalCacheManager localCacheManager, Set<String> changedKeys) {
+        if (!changedKeys.contains(MAXIMUM_SIZE_PROPERTY) && !changedKeys.contains(TTL_PROPERTY)) {
+            return;
+        }
+
+        int maximumSize = environment.getProperty(MAXIMUM_SIZE_PROPERTY, Integer.class,
+            LocalCacheManager.DEFAULT_MAXIMUM_SIZE);
+        long ttlMillis = resolveTtlMillis();
+        try {
+            localCacheManager.resize(maximumSize, ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Ignoring cache resize: " + e.getMessage());
+            return;
+        }
+        System.out.println("Resized local caches to maximum-size=" + maximumSize + ", ttl=" + ttlMillis + "ms");
+    }
+
+    private long resolveTtlMillis() {
+        return environment.getProperty(TTL_PROPERTY, Duration.class,
+            Duration.ofMillis(LocalCacheManager.DEFAULT_TTL_MILLIS)).toMillis();
+    }
+
+    @Bean
+    public CachingBeanPostProcessor cachingBeanPostProcessor() {
+        return new CachingBeanPostProcessor(cacheManager());
+    }
+}
@@ -0,0 +1,18 @@
+package froggy.winterframework.cache.annotation;
+
+import froggy.winterframework.cache.CacheManager;
+
+/**
+ * 캐시 기능을 확장하기 위한 인터페이스<br>
+ * 구현한 Bean은 자동으로 감지되어 {@link CachingConfiguration}에 적용된다.
+ */
+public interface CachingConfigurer {
+
+    /**
+     * {@link Cacheable}, {@link CacheEvict}에 사용할 {@link CacheManager}를 지정
+     * @return 사용할 CacheManager, 기본 CacheManager를 사용하려면 {@code null}
+     */
+    default CacheManager cacheManager() {
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package froggy.winterframework.cache.interceptor;
+
+import froggy.winterframework.cache.Cache;
+import froggy.winterframework.cache.CacheManager;
+import froggy.winterframework.cache.annotation.CacheEvict;
+import froggy.winterframework.cache.annotation.Cacheable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * {@link Cacheable}, {@link CacheEvict}가 선언된 메소드 호출을 가로채 캐시를 적용하는 JDK Proxy 핸들러.
+ */
+class CacheInvocationHandler implements InvocationHandler {
+
+    private final Object target;
+    private final Map<Method, CacheOperation> operations;
+    private final CacheManager cacheManager;
+
+    CacheInvocationHandler(Object target, Map<Method, CacheOperation> operations, CacheManager cacheManager) {
+        this.target = target;
+        this.operations = operations;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+
+        CacheOperation operation = operations.get(method);
+        if (operation == null) {
+            return invokeTarget(method, args);
+        }
+
+        Object key = SimpleKey.of(args);
+        CacheEvict cacheEvict = operation.getCacheEvict();
+        if (cacheEvict != null && cacheEvict.beforeInvocation()) {
+            evict(cacheEvict, key);
+        }
+
+        Object result = (operation.getCacheable() != null)
+            ? invokeCacheable(operation.getCacheable(), method, args, key)
+            : invokeTarget(method, args);
+
+        if (cacheEvict != null && !cacheEvict.beforeInvocation()) {
+            evict(cacheEvict, key);
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 이름 순서대로 조회하여 처음 적중한 값을 반환하고,
+     * 모두 미적중이면 메소드를 실행하여 결과를 모든 캐시에 저장한다.
+     */
+    private Object invokeCacheable(Cacheable cacheable, Method method, Object[] args, Object key)
+        throws Throwable {
+        for (String cacheName : cacheable.value()) {
+            Cache.ValueWrapper cached = getCache(cacheName).get(key);
+            if (cached != null) {
+                return cached.get();
+            }
+        }
+
+        Object result = invokeTarget(method, args);
+        for (String cacheName : cacheable.value()) {
+            getCache(cacheName).put(key, result);
+        }
+        return result;
+    }
+
+    private void evict(CacheEvict cacheEvict, Object key) {
+        for (String cacheName : cacheEvict.value()) {
+            Cache cache = getCache(cacheName);
+            if (cacheEvict.allEntries()) {
+                cache.clear();
+            } else {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private Cache getCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Cannot find cache named '" + cacheName + "' in " + cacheManager);
+        }
+        return cache;
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                "Failed to invoke cached method: " + target.getClass() + "#" + method.getName(), e);
+        }
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return invokeTarget(method, args);
+        }
+    }
+}
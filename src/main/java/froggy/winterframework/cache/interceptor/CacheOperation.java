@@ -0,0 +1,26 @@
+package froggy.winterframework.cache.interceptor;
+
+import froggy.winterframework.cache.annotation.CacheEvict;
+import froggy.winterframework.cache.annotation.Cacheable;
+
+/**
+ * 하나의 메소드에 선언된 {@link Cacheable}, {@link CacheEvict} 설정.
+ */
+final class CacheOperation {
+
+    private final Cacheable cacheable;
+    private final CacheEvict cacheEvict;
+
+    CacheOperation(Cacheable cacheable, CacheEvict cacheEvict) {
+        this.cacheable = cacheable;
+        this.cacheEvict = cacheEvict;
+    }
+
+    Cacheable getCacheable() {
+        return cacheable;
+    }
+
+    CacheEvict getCacheEvict() {
+        return cacheEvict;
+    }
+}
@@ -0,0 +1,133 @@
+package froggy.winterframework.cache.interceptor;
+
+import froggy.winterframework.beans.factory.config.BeanPostProcessor;
+import froggy.winterframework.cache.CacheManager;
+import froggy.winterframework.cache.annotation.CacheEvict;
+import froggy.winterframework.cache.annotation.Cacheable;
+import froggy.winterframework.stereotype.Controller;
+import froggy.winterframework.utils.WinterUtils;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Cacheable}, {@link CacheEvict}가 선언된 메소드를 가진 Bean을 JDK Proxy로 감싸는 BeanPostProcessor.
+ *
+ * <p>Bean이 구현한 인터페이스의 메소드 중 구현 클래스 또는 인터페이스에 어노테이션이 선언된 메소드만 캐시를 적용한다.
+ * Proxy는 인터페이스만 구현하므로 캐시 대상 Bean은 인터페이스 타입으로 주입받아야 한다.
+ * Handler({@link Controller}) Bean은 매핑 정보를 구현 클래스에서 읽으므로 감싸지 않는다.
+ */
+public class CachingBeanPostProcessor implements BeanPostProcessor {
+
+    private final CacheManager cacheManager;
+
+    /** Bean 클래스별 캐시 대상 메소드. 대상이 없으면 빈 Map */
+    private final ConcurrentMap<Class<?>, Map<Method, CacheOperation>> operationCache = new ConcurrentHashMap<>();
+
+    public CachingBeanPostProcessor(CacheManager cacheManager) {
+        if (cacheManager == null) {
+            throw new IllegalArgumentException("CacheManager must not be null");
+        }
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 캐시 어노테이션이 선언된 메소드가 있는 Bean 클래스만 대상으로 한다.
+     */
+    @Override
+    public boolean supportsBeanType(Class<?> beanType) {
+        return !WinterUtils.hasAnnotation(beanType, Controller.class) && !getOperations(beanType).isEmpty();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> beanClass = bean.getClass();
+        Map<Method, CacheOperation> operations = getOperations(beanClass);
+        if (operations.isEmpty()) {
+            return bean;
+        }
+
+        Set<Class<?>> interfaces = getAllInterfaces(beanClass);
+        return Proxy.newProxyInstance(
+            beanClass.getClassLoader(),
+            interfaces.toArray(new Class<?>[0]),
+            new CacheInvocationHandler(bean, operations, cacheManager)
+        );
+    }
+
+    private Map<Method, CacheOperation> getOperations(Class<?> beanClass) {
+        return operationCache.computeIfAbsent(beanClass, this::findOperations);
+    }
+
+    /**
+     * 인터페이스 메소드 중 캐시 어노테이션이 선언된 메소드를 찾는다.
+     *
+     * @throws IllegalStateException 인터페이스에 선언되지 않은 메소드에 어노테이션이 있는 경우
+     */
+    private Map<Method, CacheOperation> findOperations(Class<?> beanClass) {
+        Map<Method, CacheOperation> operations = new HashMap<>();
+        Set<String> coveredSignatures = new LinkedHashSet<>();
+
+        for (Class<?> iface : getAllInterfaces(beanClass)) {
+            for (Method interfaceMethod : iface.getMethods()) {
+                Method implMethod = findImplementation(beanClass, interfaceMethod);
+                Cacheable cacheable = findAnnotation(implMethod, interfaceMethod, Cacheable.class);
+                CacheEvict cacheEvict = findAnnotation(implMethod, interfaceMethod, CacheEvict.class);
+
+                if (cacheable != null || cacheEvict != null) {
+                    operations.put(interfaceMethod, new CacheOperation(cacheable, cacheEvict));
+                    coveredSignatures.add(signatureOf(interfaceMethod));
+                }
+            }
+        }
+
+        for (Method method : beanClass.getMethods()) {
+            boolean annotated = method.isAnnotationPresent(Cacheable.class)
+                || method.isAnnotationPresent(CacheEvict.class);
+            if (annotated && !coveredSignatures.contains(signatureOf(method))) {
+                throw new IllegalStateException(
+                    "Caching annotations require the method to be declared on an interface implemented by the bean: "
+                        + beanClass.getName() + "#" + method.getName());
+            }
+        }
+
+        return operations.isEmpty() ? Collections.emptyMap() : operations;
+    }
+
+    private Method findImplementation(Class<?> beanClass, Method interfaceMethod) {
+        try {
+            return beanClass.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return interfaceMethod;
+        }
+    }
+
+    private <A extends Annotation> A findAnnotation(
+        Method implMethod, Method interfaceMethod, Class<A> annotationType) {
+        A annotation = implMethod.getAnnotation(annotationType);
+        return annotation != null ? annotation : interfaceMethod.getAnnotation(annotationType);
+    }
+
+    private String signatureOf(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.append(parameterType.getName()).append(',');
+        }
+        return signature.append(')').toString();
+    }
+
+    private Set<Class<?>> getAllInterfaces(Class<?> beanClass) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = beanClass; current != null; current = current.getSuperclass()) {
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        return interfaces;
+    }
+}
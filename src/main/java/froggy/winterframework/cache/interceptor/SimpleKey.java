@@ -0,0 +1,57 @@
+package froggy.winterframework.cache.interceptor;
+
+import java.util.Arrays;
+
+/**
+ * 메소드 인자 전체로 만든 캐시 키.
+ *
+ * <p>인자가 없으면 {@link #EMPTY}, 배열이 아닌 인자 하나면 그 인자 자체를 키로 사용한다.
+ */
+public final class SimpleKey {
+
+    public static final SimpleKey EMPTY = new SimpleKey();
+
+    private final Object[] params;
+    private final int hashCode;
+
+    private SimpleKey(Object... params) {
+        this.params = params.clone();
+        this.hashCode = Arrays.deepHashCode(this.params);
+    }
+
+    /**
+     * 메소드 인자로 캐시 키를 생성한다.
+     *
+     * @param params 메소드 인자
+     * @return 캐시 키
+     */
+    public static Object of(Object... params) {
+        if (params == null || params.length == 0) {
+            return EMPTY;
+        }
+
+        if (params.length == 1) {
+            Object param = params[0];
+            if (param != null && !param.getClass().isArray()) {
+                return param;
+            }
+        }
+        return new SimpleKey(params);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+            || (other instanceof SimpleKey && Arrays.deepEquals(params, ((SimpleKey) other).params));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleKey " + Arrays.deepToString(params);
+    }
+}
@@ -0,0 +1,181 @@
+package froggy.winterframework.cache.support;
+
+import froggy.winterframework.cache.Cache;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 메모리에 값을 보관하는 기본 {@link Cache} 구현체.
+ *
+ * <p>항목 수가 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거하고,
+ * TTL이 지난 항목은 조회 시 제거한다. 적중/미적중/제거 횟수를 함께 집계한다.
+ * 최대 항목 수와 TTL은 {@link #resize(int, long)}로 실행 중에 바꿀 수 있다.
+ */
+public class LocalCache implements Cache {
+
+    private final String name;
+    private volatile int maximumSize;
+    private volatile long ttlMillis;
+    private final LinkedHashMap<Object, Entry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param name        캐시 이름
+     * @param maximumSize 보관할 최대 항목 수
+     * @param ttlMillis   항목 유지 시간(ms), 0 이하면 만료되지 않음
+     */
+    public LocalCache(String name, int maximumSize, long ttlMillis) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > LocalCache.this.maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        synchronized (entries) {
+            entries.put(key, new Entry(value, expiresAt));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 최대 항목 수와 TTL을 바꾼다. 항목 수가 새 상한을 넘으면 오래 사용되지 않은 항목부터 바로 제거하며,
+     * 새 TTL은 이후 저장되는 항목부터 적용된다.
+     *
+     * @param maximumSize 보관할 최대 항목 수
+     * @param ttlMillis   항목 유지 시간(ms), 0 이하면 만료되지 않음
+     */
+    public void resize(int maximumSize, long ttlMillis) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+
+        synchronized (entries) {
+            this.maximumSize = maximumSize;
+            this.ttlMillis = ttlMillis;
+            Iterator<Object> iterator = entries.keySet().iterator();
+            while (entries.size() > maximumSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 전체 조회 중 적중 비율을 반환한다. 조회가 없었으면 {@code 0}.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalCache[" + name + ", size=" + size() + ", hits=" + getHitCount()
+            + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private static final class Entry implements ValueWrapper {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package froggy.winterframework.cache.support;
+
+import froggy.winterframework.cache.Cache;
+import froggy.winterframework.cache.CacheManager;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청된 이름의 {@link LocalCache}를 필요할 때 생성하는 기본 {@link CacheManager}.
+ *
+ * <p>모든 캐시는 같은 최대 항목 수와 TTL을 사용하며, {@link #resize(int, long, TimeUnit)}로
+ * 이미 생성된 캐시까지 실행 중에 바꿀 수 있다.
+ */
+public class LocalCacheManager implements CacheManager {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private volatile int maximumSize;
+    private volatile long ttlMillis;
+    private final ConcurrentMap<String, LocalCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시별 최대 {@value #DEFAULT_MAXIMUM_SIZE}개 항목, 10분 TTL로 생성한다.
+     */
+    public LocalCacheManager() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param maximumSize 캐시별 최대 항목 수
+     * @param ttl         항목 유지 시간, 0 이하면 만료되지 않음
+     * @param unit        {@code ttl}의 시간 단위
+     */
+    public LocalCacheManager(int maximumSize, long ttl, TimeUnit unit) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlMillis = unit.toMillis(ttl);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new LocalCache(cacheName, maximumSize, ttlMillis));
+    }
+
+    /**
+     * 이후 생성될 캐시와 이미 생성된 모든 캐시의 최대 항목 수와 TTL을 바꾼다.
+     *
+     * @see LocalCache#resize(int, long)
+     */
+    public synchronized void resize(int maximumSize, long ttl, TimeUnit unit) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlMillis = unit.toMillis(ttl);
+        for (LocalCache cache : caches.values()) {
+            cache.resize(maximumSize, ttlMillis);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
@@ -3,8 +3,11 @@ package froggy.winterframework.context;
 import froggy.winterframework.beans.factory.config.BeanFactoryPostProcessor;
 import froggy.winterframework.beans.factory.support.BeanFactory;
 import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.core.startup.StartupReport;
+import froggy.winterframework.core.startup.StartupTimeline;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ({@link BeanFactory})를 포함하며, Bean을 조회하고 관리하는 역할.
@@ -25,9 +28,23 @@ public class ApplicationContext {
     /** 애플리케이션 전체 설정(properties, 환경변수 등)을 제공하는 Environment */
     private Environment environment;
 
+    /** 컨텍스트 생성 시각 (epoch millis) */
+    private final long startupDate;
+
+    /** 컨텍스트 초기화(Bean 등록~싱글톤 생성)에 걸린 시간 (nanos), 초기화 전에는 -1 */
+    private long startupDurationNanos = -1;
+
+    /** 기동 단계별 소요 시간 기록, 기동이 끝나면 {@link #startupReport}로 고정된다. */
+    private StartupTimeline startupTimeline;
+    private StartupReport startupReport;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     public ApplicationContext() {
+        startupDate = System.currentTimeMillis();
         beanFactory = new BeanFactory();
         beanFactoryPostProcessors = new ArrayList<>();
+        setStartupTimeline(new StartupTimeline("application"));
     }
 
     public BeanFactory getBeanFactory() {
@@ -42,6 +59,45 @@ public class ApplicationContext {
         this.environment = environment;
     }
 
+    public long getStartupDate() {
+        return startupDate;
+    }
+
+    public long getStartupDurationNanos() {
+        return startupDurationNanos;
+    }
+
+    public void setStartupDurationNanos(long startupDurationNanos) {
+        this.startupDurationNanos = startupDurationNanos;
+    }
+
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    /**
+     * 기동 단계를 기록할 {@link StartupTimeline}을 설정한다. {@link BeanFactory}의 Bean 생성도 같은 곳에 기록된다.
+     */
+    public void setStartupTimeline(StartupTimeline startupTimeline) {
+        this.startupTimeline = startupTimeline;
+        beanFactory.setStartupTimeline(startupTimeline);
+    }
+
+    /**
+     * 기동 기록을 마치고 보고서를 반환한다. 여러 번 호출해도 같은 보고서를 반환한다.
+     */
+    public StartupReport finishStartup() {
+        startupReport = startupTimeline.finish();
+        return startupReport;
+    }
+
+    /**
+     * @return 기동 보고서, {@link #finishStartup()} 호출 전에는 {@code null}
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
     public List<BeanFactoryPostProcessor> getBeanFactoryPostProcessors() {
         return beanFactoryPostProcessors;
     }
@@ -50,6 +106,20 @@ public class ApplicationContext {
         beanFactoryPostProcessors.add(postProcessor);
     }
 
+    /**
+     * 컨텍스트를 종료하고 싱글톤 Bean의 정리 콜백을 호출한다. 여러 번 호출되어도 한 번만 수행한다.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        beanFactory.destroySingletons();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
     /**
      * 특정 Bean을 조회하여 해당객체 반환.
      *
@@ -0,0 +1,22 @@
+package froggy.winterframework.core;
+
+/**
+ * 여러 구현체 중 적용 순서가 필요한 객체가 구현하는 인터페이스.
+ *
+ * <p>값이 작을수록 먼저 적용되며, 구현하지 않은 객체는 {@link #LOWEST_PRECEDENCE}로 취급한다.
+ */
+public interface Ordered {
+
+    /** 가장 먼저 적용되는 순서 값 */
+    int HIGHEST_PRECEDENCE = Integer.MIN_VALUE;
+
+    /** 가장 나중에 적용되는 순서 값 */
+    int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+
+    /**
+     * 적용 순서를 반환한다.
+     *
+     * @return 순서 값
+     */
+    int getOrder();
+}
@@ -0,0 +1,111 @@
+package froggy.winterframework.core.env;
+
+import java.util.Locale;
+
+/**
+ * 데이터 크기 설정값 ({@code 512KB}, {@code 10MB}, {@code 1GB} 등).
+ *
+ * <p>단위는 1024배씩 증가하며({@code B}, {@code KB}, {@code MB}, {@code GB}, {@code TB}),
+ * 단위가 없으면 byte로 해석한다.
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+    private static final long BYTES_PER_KB = 1024L;
+    private static final long BYTES_PER_MB = BYTES_PER_KB * 1024;
+    private static final long BYTES_PER_GB = BYTES_PER_MB * 1024;
+    private static final long BYTES_PER_TB = BYTES_PER_GB * 1024;
+
+    private final long bytes;
+
+    private DataSize(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public static DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, BYTES_PER_KB));
+    }
+
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, BYTES_PER_MB));
+    }
+
+    public static DataSize ofGigabytes(long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, BYTES_PER_GB));
+    }
+
+    /**
+     * 문자열을 데이터 크기로 변환한다.
+     *
+     * @param text {@code 10MB}, {@code 512kb}, {@code 1024} 형태의 값
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static DataSize parse(String text) {
+        String value = text.trim().toUpperCase(Locale.ROOT);
+        int unitStart = value.length();
+        while (unitStart > 0 && Character.isLetter(value.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+
+        String number = value.substring(0, unitStart).trim();
+        String unit = value.substring(unitStart);
+        try {
+            return new DataSize(Math.multiplyExact(Long.parseLong(number), unitBytes(unit, text)));
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid data size: '" + text + "'", e);
+        }
+    }
+
+    private static long unitBytes(String unit, String text) {
+        switch (unit) {
+            case "":
+            case "B":
+                return 1L;
+            case "KB":
+                return BYTES_PER_KB;
+            case "MB":
+                return BYTES_PER_MB;
+            case "GB":
+                return BYTES_PER_GB;
+            case "TB":
+                return BYTES_PER_TB;
+            default:
+                throw new IllegalArgumentException("Invalid data size unit '" + unit + "' in '" + text + "'");
+        }
+    }
+
+    public long toBytes() {
+        return bytes;
+    }
+
+    public long toKilobytes() {
+        return bytes / BYTES_PER_KB;
+    }
+
+    public long toMegabytes() {
+        return bytes / BYTES_PER_MB;
+    }
+
+    @Override
+    public int compareTo(DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof DataSize && bytes == ((DataSize) o).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
@@ -4,26 +4,302 @@ import froggy.winterframework.core.PropertySource;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 애플리케이션 설정 정보를 로드하고 조회기능을 제공하는 클래스.
  *
  * <p>Environment를 수동 주입받아 런타임에 프로퍼티 값을 조회할 수 있으며,</p>
  * <p>Bean 생성 과정에서 @Value 어노테이션을 감지하여 필드에 주입하는 역할을 함</p>
+ *
+ * <p>여러 {@link PropertySource}를 우선순위 순서로 보관하며, 같은 Key는 앞의 Source가 이긴다.
+ * <ol>
+ *   <li>{@value #COMMAND_LINE_SOURCE_NAME} - {@code --server.port=9090} 형태의 실행 인자</li>
+ *   <li>{@value #SYSTEM_PROPERTIES_SOURCE_NAME} - {@code -Dserver.port=9090}</li>
+ *   <li>{@value #SYSTEM_ENVIRONMENT_SOURCE_NAME} - {@code SERVER_PORT=9090} ({@link SystemEnvironmentPropertySource})</li>
+ *   <li>{@value #CONFIG_LOCATION_PROPERTY}에 나열한 외부 파일 - 뒤의 파일이 우선, {@link #reload()}로 다시 읽을 수 있다</li>
+ *   <li>{@code application-{profile}.properties} - {@value #ACTIVE_PROFILES_PROPERTY}에 나열한 순서로, 뒤의 Profile이 우선</li>
+ *   <li>{@code application.properties}</li>
+ *   <li>{@value #DEFAULT_PROPERTIES_SOURCE_NAME} - 프레임워크가 추가하는 기본값</li>
+ * </ol>
+ * Source가 바뀔 때마다 전체를 하나의 읽기 전용 Map으로 펼쳐 두므로 조회는 Map 조회 한 번으로 끝난다.
+ * 환경 변수는 파일에 있는 Key를 덮어쓰고, 파일에 없는 Key는 처음 조회할 때 한 번 찾아 기억한다.
+ * 스냅샷은 통째로 교체되므로 조회 중인 스레드는 이전 값이나 새 값 중 하나만 보며, 교체 후 바뀐 Key를
+ * {@link PropertyChangeListener}에 알린다.
+ *
+ * <p>문자열이 아닌 타입으로 조회한 값은 변환 결과를 캐시하므로 같은 Key를 반복 조회해도 다시 파싱하지 않는다.
+ * 지원하는 타입은 {@link PropertyConverter}를 참고한다.
  */
 public class Environment {
 
-    private PropertySource propertySource;
+    public static final String COMMAND_LINE_SOURCE_NAME = "commandLineArgs";
+    public static final String SYSTEM_PROPERTIES_SOURCE_NAME = "systemProperties";
+    public static final String SYSTEM_ENVIRONMENT_SOURCE_NAME = "systemEnvironment";
+    public static final String DEFAULT_PROPERTIES_SOURCE_NAME = "defaultProperties";
+
+    /** 활성 Profile 목록 (쉼표 구분) */
+    public static final String ACTIVE_PROFILES_PROPERTY = "winter.profiles.active";
+
+    /** 외부 설정 파일 경로 목록 (쉼표 구분) */
+    public static final String CONFIG_LOCATION_PROPERTY = "winter.config.location";
+
+    /** 환경 변수에서 찾지 못한 Key */
+    private static final String ABSENT = new String("<absent>");
+
+    /** 우선순위가 높은 순서 */
+    private final List<PropertySource> propertySources = new CopyOnWriteArrayList<>();
+    private SystemEnvironmentPropertySource systemEnvironment;
+    private List<String> activeProfiles = Collections.emptyList();
+    private List<Path> configFiles = Collections.emptyList();
+    private final List<PropertyChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** 모든 Source를 펼친 읽기 전용 스냅샷 */
+    private volatile Map<String, String> properties = Collections.emptyMap();
+    /** 스냅샷에 없어 환경 변수에서 찾은 값, 없으면 {@link #ABSENT} */
+    private final ConcurrentHashMap<String, String> environmentLookups = new ConcurrentHashMap<>();
+    /** 타입별 변환 결과. 원본 문자열이 바뀌면 다시 변환한다. */
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, ConvertedValue>> convertedValues =
+        new ConcurrentHashMap<>();
 
     public Environment() throws IOException {
-        this.propertySource = new PropertyLoader().load();
+        this(new String[0]);
+    }
+
+    /**
+     * @param args 애플리케이션 실행 인자, {@code --key=value}만 설정으로 사용한다
+     */
+    public Environment(String... args) throws IOException {
+        this(args, System.getProperties(), System.getenv());
     }
 
+    Environment(String[] args, Properties systemProperties, Map<String, String> systemEnvironment)
+        throws IOException {
+        PropertyLoader loader = new PropertyLoader();
+        propertySources.add(new PropertySource(COMMAND_LINE_SOURCE_NAME, parseCommandLine(args)));
+        propertySources.add(new PropertySource(SYSTEM_PROPERTIES_SOURCE_NAME, toMap(systemProperties)));
+        this.systemEnvironment = new SystemEnvironmentPropertySource(
+            SYSTEM_ENVIRONMENT_SOURCE_NAME, Collections.unmodifiableMap(new HashMap<>(systemEnvironment)));
+        propertySources.add(this.systemEnvironment);
+        propertySources.add(loader.load());
+        resolve();
+
+        // Profile 목록은 파일보다 우선하는 Source(실행 인자, -D, 환경 변수)로도 지정할 수 있다.
+        String profiles = lookupProperty(ACTIVE_PROFILES_PROPERTY);
+        if (profiles != null) {
+            activeProfiles = Collections.unmodifiableList(splitProfiles(profiles));
+            int applicationConfigIndex = propertySources.size() - 1;
+            for (String profile : activeProfiles) {
+                propertySources.add(applicationConfigIndex, loader.loadProfile(profile));
+            }
+            resolve();
+        }
+
+        String locations = lookupProperty(CONFIG_LOCATION_PROPERTY);
+        if (locations != null) {
+            List<Path> files = new ArrayList<>();
+            int externalConfigIndex = propertySources.indexOf(this.systemEnvironment) + 1;
+            for (String location : locations.split(",")) {
+                if (location.trim().isEmpty()) {
+                    continue;
+                }
+                Path file = Paths.get(location.trim()).toAbsolutePath().normalize();
+                files.add(file);
+                propertySources.add(externalConfigIndex, new PropertySource(fileSourceName(file), loadFile(file)));
+            }
+            configFiles = Collections.unmodifiableList(files);
+            resolve();
+        }
+    }
+
+    /**
+     * 우선순위가 높은 순서의 PropertySource 목록.
+     */
+    public List<PropertySource> getPropertySources() {
+        return Collections.unmodifiableList(propertySources);
+    }
+
+    /**
+     * 모든 Source를 우선순위대로 펼친 읽기 전용 PropertySource.
+     */
     public PropertySource getPropertySource() {
-        return propertySource;
+        return new PropertySource("resolved", properties);
+    }
+
+    public List<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    /**
+     * {@value #CONFIG_LOCATION_PROPERTY}로 지정한 외부 설정 파일의 절대 경로.
+     */
+    public List<Path> getConfigFiles() {
+        return configFiles;
+    }
+
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("PropertyChangeListener must not be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removePropertyChangeListener(PropertyChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 외부 설정 파일을 다시 읽어 스냅샷을 교체한다.
+     *
+     * <p>삭제된 파일은 빈 Source로 취급한다. 읽기에 실패한 파일(쓰기 도중 등)은 이전 내용을 유지한다.
+     *
+     * @return 값이 바뀐 Key, 없으면 빈 Set
+     */
+    public synchronized Set<String> reload() {
+        for (Path file : configFiles) {
+            String name = fileSourceName(file);
+            for (int i = 0; i < propertySources.size(); i++) {
+                if (name.equals(propertySources.get(i).getName())) {
+                    try {
+                        propertySources.set(i, new PropertySource(name, loadFile(file)));
+                    } catch (IOException | IllegalArgumentException e) {
+                        System.err.println("Failed to reload " + file + ", keeping previous values: " + e);
+                    }
+                    break;
+                }
+            }
+        }
+        return resolve();
+    }
+
+    /**
+     * 가장 높은 우선순위로 Source를 추가한다.
+     */
+    public void addFirst(PropertySource propertySource) {
+        propertySources.add(0, propertySource);
+        resolve();
+    }
+
+    /**
+     * 가장 낮은 우선순위로 Source를 추가한다.
+     */
+    public void addLast(PropertySource propertySource) {
+        propertySources.add(propertySource);
+        resolve();
+    }
+
+    /**
+     * 프레임워크 기본값을 추가한다. 다른 모든 Source에서 덮어쓸 수 있다.
+     */
+    public void addDefaultProperties(Map<String, String> defaults) {
+        for (PropertySource source : propertySources) {
+            if (DEFAULT_PROPERTIES_SOURCE_NAME.equals(source.getName())) {
+                source.getSource().putAll(defaults);
+                resolve();
+                return;
+            }
+        }
+        addLast(new PropertySource(DEFAULT_PROPERTIES_SOURCE_NAME, new HashMap<>(defaults)));
+    }
+
+    /**
+     * 모든 Source를 낮은 우선순위부터 덮어써 하나의 스냅샷으로 만든다.
+     * 환경 변수는 다른 Source에 있는 Key에 한해 이름을 바꿔 조회해 덮어쓴다.
+     *
+     * @return 이전 스냅샷과 비교해 바뀐 Key
+     */
+    private synchronized Set<String> resolve() {
+        Map<String, String> resolved = new HashMap<>();
+        for (int i = propertySources.size() - 1; i >= 0; i--) {
+            PropertySource source = propertySources.get(i);
+            if (source == systemEnvironment) {
+                for (Map.Entry<String, String> entry : resolved.entrySet()) {
+                    String value = systemEnvironment.getProperty(entry.getKey());
+                    if (value != null) {
+                        entry.setValue(value);
+                    }
+                }
+            } else {
+                resolved.putAll(source.getSource());
+            }
+        }
+
+        Map<String, String> previous = properties;
+        properties = Collections.unmodifiableMap(resolved);
+        environmentLookups.clear();
+
+        Set<String> changedKeys = diff(previous, resolved);
+        if (!changedKeys.isEmpty()) {
+            notifyListeners(changedKeys);
+        }
+        return changedKeys;
+    }
+
+    private static Set<String> diff(Map<String, String> previous, Map<String, String> current) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return Collections.unmodifiableSet(changed);
+    }
+
+    /**
+     * 한 리스너의 실패가 다른 리스너 호출이나 스냅샷 교체를 막지 않도록 예외를 기록만 한다.
+     */
+    private void notifyListeners(Set<String> changedKeys) {
+        for (PropertyChangeListener listener : listeners) {
+            try {
+                listener.onPropertyChange(changedKeys);
+            } catch (RuntimeException e) {
+                System.err.println("PropertyChangeListener " + listener + " failed: " + e);
+            }
+        }
+    }
+
+    /**
+     * 주어진 Key의 설정값이 존재하는지 확인한다.
+     *
+     * @param key key
+     * @return 존재하면 {@code true}
+     */
+    public boolean containsProperty(String key) {
+        return lookupProperty(key) != null;
+    }
+
+    /**
+     * 모든 설정 Key.
+     */
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    /**
+     * 환경 변수로만 지정된 {@code key} 하위 Key의 나머지 부분. {@link #getPropertyNames()}에는 환경 변수가
+     * 포함되지 않으므로, 하위 Key를 열거해야 하는 바인딩에서 함께 사용한다.
+     *
+     * @see SystemEnvironmentPropertySource#getChildNames(String)
+     */
+    public Set<String> getEnvironmentChildNames(String key) {
+        return systemEnvironment != null ? systemEnvironment.getChildNames(key) : Collections.<String>emptySet();
     }
 
     /**
@@ -80,60 +356,146 @@ public class Environment {
             return defaultValue;
         }
         // 있으면 문자열을 targetType으로 변환
-        return convert(raw, targetType);
+        return convert(key, raw, targetType);
     }
 
     private String lookupProperty(String key) {
         String k = (key.startsWith("{$") && key.endsWith("}"))
             ? key.substring(2, key.length()-1)
             : key;
-        return propertySource.getSource().get(k);
+        String value = properties.get(k);
+        if (value != null || systemEnvironment == null) {
+            return value;
+        }
+
+        // 파일에 없는 Key는 환경 변수로만 지정될 수 있으므로 한 번 찾아 결과를 기억한다.
+        String found = environmentLookups.computeIfAbsent(k, name -> {
+            String env = systemEnvironment.getProperty(name);
+            return env != null ? env : ABSENT;
+        });
+        return found == ABSENT ? null : found;
     }
 
-    private <T> T convert(String raw, Class<T> type) {
-        if (type == String.class) {
-            return (T) raw;
+    private static Map<String, String> parseCommandLine(String[] args) {
+        Map<String, String> map = new HashMap<>();
+        if (args == null) {
+            return map;
         }
-        if (type == Integer.class || type == int.class) {
-            return (T) Integer.valueOf(raw);
+
+        for (String arg : args) {
+            if (arg == null || !arg.startsWith("--") || arg.length() == 2) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                map.put(arg.substring(2), "true");
+            } else if (separator > 2) {
+                map.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
         }
-        if (type == Long.class || type == long.class) {
-            return (T) Long.valueOf(raw);
+        return map;
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
         }
-        if (type == Double.class || type == double.class) {
-            return (T) Double.valueOf(raw);
+        return map;
+    }
+
+    private static String fileSourceName(Path file) {
+        return "file:" + file;
+    }
+
+    /**
+     * 외부 설정 파일을 읽는다. 파일이 없으면 빈 Map을 반환해 나중에 생성되면 {@link #reload()}로 반영되게 한다.
+     */
+    private static Map<String, String> loadFile(Path file) throws IOException {
+        Properties prop = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            prop.load(input);
+        } catch (NoSuchFileException e) {
+            return new HashMap<>();
+        }
+        return toMap(prop);
+    }
+
+    private static List<String> splitProfiles(String profiles) {
+        List<String> result = new ArrayList<>();
+        for (String profile : profiles.split(",")) {
+            String trimmed = profile.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    private <T> T convert(String key, String raw, Class<T> type) {
+        if (type == String.class) {
+            return (T) raw;
         }
-        if (type == Float.class || type == float.class) {
-            return (T) Float.valueOf(raw);
+
+        ConcurrentHashMap<String, ConvertedValue> values =
+            convertedValues.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        ConvertedValue cached = values.get(key);
+        if (cached != null && cached.raw.equals(raw)) {
+            return (T) cached.value;
         }
-        if (type == Boolean.class || type == boolean.class) {
-            return (T) Boolean.valueOf(raw);
+
+        T value = PropertyConverter.convert(raw, type);
+        values.put(key, new ConvertedValue(raw, value));
+        return value;
+    }
+
+    private static final class ConvertedValue {
+        private final String raw;
+        private final Object value;
+
+        private ConvertedValue(String raw, Object value) {
+            this.raw = raw;
+            this.value = value;
         }
-        throw new IllegalArgumentException(
-            "Invalid conversion: raw value '" + raw + "' cannot be cast to " + type.getSimpleName()
-        );
     }
 
     /**
      * 설정 파일 로드를 담당하는 내부 클래스.
+     *
+     * <p>Thread Context ClassLoader(없으면 Environment를 로드한 ClassLoader)에서 파일을 찾는다.
      */
     public class PropertyLoader {
         private PropertySource load() throws IOException {
-            Properties prop = new Properties();
-            try (InputStream input = ClassLoader.getSystemClassLoader()
-                .getResourceAsStream("application.properties")) {
-                if (input == null) {
-                    throw new FileNotFoundException("application.properties not found in classpath");
-                }
-                prop.load(input);
+            Properties prop = loadResource("application.properties");
+            if (prop == null) {
+                throw new FileNotFoundException("application.properties not found in classpath");
             }
+            return new PropertySource("properties", toMap(prop));
+        }
+
+        /**
+         * {@code application-{profile}.properties}를 읽는다. 파일이 없으면 빈 Source를 반환한다.
+         */
+        private PropertySource loadProfile(String profile) throws IOException {
+            String name = "application-" + profile + ".properties";
+            Properties prop = loadResource(name);
+            return new PropertySource(name, prop != null ? toMap(prop) : new HashMap<>());
+        }
 
-            Map<String, String> map = new HashMap<>();
-            for (String name : prop.stringPropertyNames()) {
-                map.put(name, prop.getProperty(name));
+        private Properties loadResource(String name) throws IOException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = Environment.class.getClassLoader();
             }
 
-            return new PropertySource("properties", map);
+            try (InputStream input = classLoader.getResourceAsStream(name)) {
+                if (input == null) {
+                    return null;
+                }
+                Properties prop = new Properties();
+                prop.load(input);
+                return prop;
+            }
         }
     }
 }
\ No newline at end of file
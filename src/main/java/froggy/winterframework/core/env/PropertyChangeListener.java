@@ -0,0 +1,20 @@
+package froggy.winterframework.core.env;
+
+import java.util.Set;
+
+/**
+ * {@link Environment}의 설정 스냅샷이 교체된 뒤 호출되는 리스너.
+ *
+ * <p>새 스냅샷이 이미 적용된 상태로 호출되므로 {@link Environment#getProperty(String)}는 바뀐 값을 반환한다.
+ * 스냅샷을 교체한 스레드(파일 감시 스레드 등)에서 등록 순서대로 호출된다.
+ *
+ * @see Environment#addPropertyChangeListener(PropertyChangeListener)
+ */
+@FunctionalInterface
+public interface PropertyChangeListener {
+
+    /**
+     * @param changedKeys 값이 추가, 변경, 삭제된 Key (읽기 전용)
+     */
+    void onPropertyChange(Set<String> changedKeys);
+}
@@ -0,0 +1,156 @@
+package froggy.winterframework.core.env;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 설정 문자열을 대상 타입으로 변환한다.
+ *
+ * <ul>
+ *   <li>{@link String}, 모든 primitive 타입과 Wrapper, {@link BigDecimal}, {@link BigInteger}</li>
+ *   <li>Enum - 상수 이름, 또는 대소문자와 {@code -}/{@code _} 차이를 무시한 이름 ({@code read-only} → {@code READ_ONLY})</li>
+ *   <li>{@link Duration} - {@code 500ms}, {@code 30s}, {@code 5m}, {@code 2h}, {@code 1d}, ISO-8601({@code PT30S}), 단위가 없으면 ms</li>
+ *   <li>{@link DataSize} - {@code 512KB}, {@code 10MB}, 단위가 없으면 byte</li>
+ * </ul>
+ */
+public final class PropertyConverter {
+
+    private PropertyConverter() {
+    }
+
+    /**
+     * 문자열 하나로 변환할 수 있는 타입인지 확인한다.
+     */
+    public static boolean isSupported(Class<?> type) {
+        return type == String.class
+            || type.isPrimitive()
+            || type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+            || type == Boolean.class || type == Short.class || type == Byte.class || type == Character.class
+            || type == BigDecimal.class || type == BigInteger.class
+            || type == Duration.class || type == DataSize.class
+            || type.isEnum();
+    }
+
+    /**
+     * 문자열을 대상 타입으로 변환한다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 타입이거나 값의 형식이 올바르지 않은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T convert(String raw, Class<T> type) {
+        if (type == String.class) {
+            return (T) raw;
+        }
+
+        String value = raw.trim();
+        try {
+            if (type == Integer.class || type == int.class) {
+                return (T) Integer.valueOf(value);
+            }
+            if (type == Long.class || type == long.class) {
+                return (T) Long.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return (T) Boolean.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return (T) Double.valueOf(value);
+            }
+            if (type == Float.class || type == float.class) {
+                return (T) Float.valueOf(value);
+            }
+            if (type == Short.class || type == short.class) {
+                return (T) Short.valueOf(value);
+            }
+            if (type == Byte.class || type == byte.class) {
+                return (T) Byte.valueOf(value);
+            }
+            if ((type == Character.class || type == char.class) && value.length() == 1) {
+                return (T) Character.valueOf(value.charAt(0));
+            }
+            if (type == BigDecimal.class) {
+                return (T) new BigDecimal(value);
+            }
+            if (type == BigInteger.class) {
+                return (T) new BigInteger(value);
+            }
+            if (type == Duration.class) {
+                return (T) parseDuration(value);
+            }
+            if (type == DataSize.class) {
+                return (T) DataSize.parse(value);
+            }
+            if (type.isEnum()) {
+                return (T) parseEnum(value, type.asSubclass(Enum.class));
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new IllegalArgumentException(
+                "Invalid conversion: raw value '" + raw + "' cannot be cast to " + type.getSimpleName(), e);
+        }
+
+        throw new IllegalArgumentException(
+            "Invalid conversion: raw value '" + raw + "' cannot be cast to " + type.getSimpleName()
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("p") || value.startsWith("-P")) {
+            return Duration.parse(value);
+        }
+
+        String lower = value.toLowerCase(Locale.ROOT);
+        int unitStart = lower.length();
+        while (unitStart > 0 && Character.isLetter(lower.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        long amount = Long.parseLong(lower.substring(0, unitStart).trim());
+        switch (lower.substring(unitStart)) {
+            case "ns":
+                return Duration.ofNanos(amount);
+            case "us":
+                return Duration.ofNanos(Math.multiplyExact(amount, 1000L));
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Invalid duration unit in '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(String value, Class<E> enumType) {
+        for (E constant : enumType.getEnumConstants()) {
+            if (constant.name().equals(value)) {
+                return constant;
+            }
+        }
+
+        String normalized = normalizeEnumName(value);
+        for (E constant : enumType.getEnumConstants()) {
+            if (normalizeEnumName(constant.name()).equals(normalized)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + enumType.getSimpleName() + " for '" + value + "'");
+    }
+
+    private static String normalizeEnumName(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '-' && c != '_') {
+                sb.append(Character.toUpperCase(c));
+            }
+        }
+        return sb.toString();
+    }
+}
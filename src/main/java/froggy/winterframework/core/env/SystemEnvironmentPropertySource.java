@@ -0,0 +1,105 @@
+package froggy.winterframework.core.env;
+
+import froggy.winterframework.core.PropertySource;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OS 환경 변수를 설정 Key 형식으로 조회하는 PropertySource.
+ *
+ * <p>환경 변수 이름에는 {@code .}과 {@code -}를 쓸 수 없으므로 Key를 다음 이름으로 바꿔 조회한다.
+ * <ul>
+ *   <li>{@code server.port} → {@code SERVER_PORT}</li>
+ *   <li>{@code server.request-timeout} → {@code SERVER_REQUEST_TIMEOUT} 또는 {@code SERVER_REQUESTTIMEOUT}</li>
+ *   <li>{@code server.connectors[0].port} → {@code SERVER_CONNECTORS_0_PORT}</li>
+ * </ul>
+ * 환경 변수 이름에서 원래 Key를 되돌릴 수 없으므로, 하위 Key는 {@link #getChildNames(String)}로
+ * 부모 Key를 기준으로만 찾는다.
+ */
+public class SystemEnvironmentPropertySource extends PropertySource {
+
+    public SystemEnvironmentPropertySource(String name, Map<String, String> source) {
+        super(name, source);
+    }
+
+    /**
+     * 설정 Key에 대응하는 환경 변수 값을 반환한다.
+     *
+     * @param key 설정 Key (예: {@code server.port})
+     * @return 값, 없으면 {@code null}
+     */
+    public String getProperty(String key) {
+        Map<String, String> source = getSource();
+        String value = source.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = source.get(toEnvironmentName(key, '_'));
+        if (value == null && key.indexOf('-') >= 0) {
+            value = source.get(toEnvironmentName(key, (char) 0));
+        }
+        return value;
+    }
+
+    /**
+     * 설정 Key 아래에 값이 있는 환경 변수의 나머지 이름을 소문자 {@code .} 구분 형식으로 반환한다.
+     * 예를 들어 {@code app.users}에 대해 {@code APP_USERS_ALICE_ROLE}은 {@code alice.role}이 된다.
+     *
+     * @param key 부모 설정 Key
+     * @return 하위 이름, 없으면 빈 Set
+     */
+    public Set<String> getChildNames(String key) {
+        String prefix = toEnvironmentName(key, '_') + "_";
+        String compactPrefix = key.indexOf('-') >= 0 ? toEnvironmentName(key, (char) 0) + "_" : null;
+
+        Set<String> names = null;
+        for (String name : getSource().keySet()) {
+            String remainder;
+            if (name.startsWith(prefix)) {
+                remainder = name.substring(prefix.length());
+            } else if (compactPrefix != null && name.startsWith(compactPrefix)) {
+                remainder = name.substring(compactPrefix.length());
+            } else {
+                continue;
+            }
+            if (remainder.isEmpty()) {
+                continue;
+            }
+            if (names == null) {
+                names = new LinkedHashSet<>();
+            }
+            names.add(remainder.toLowerCase(Locale.ROOT).replace('_', '.'));
+        }
+        return names != null ? names : Collections.emptySet();
+    }
+
+    /**
+     * @param dashReplacement {@code -}를 바꿀 문자, 0이면 제거
+     */
+    private static String toEnvironmentName(String key, char dashReplacement) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '[') {
+                appendSeparator(sb);
+            } else if (c == '-') {
+                if (dashReplacement != 0) {
+                    appendSeparator(sb);
+                }
+            } else if (c != ']') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static void appendSeparator(StringBuilder sb) {
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '_') {
+            sb.append('_');
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package froggy.winterframework.core.startup;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 종료된 {@link StartupTimeline}의 단계 트리.
+ *
+ * <p>트리 출력({@link #print(PrintStream)}), JSON 변환({@link #toJson()}),
+ * 생성 시간이 긴 Bean 목록({@link #getSlowestBeans(int)})을 제공한다.
+ */
+public class StartupReport {
+
+    /** {@code BeanFactory}가 Bean마다 기록하는 단계 이름 */
+    public static final String BEAN_CREATE_STEP = "bean.create";
+
+    public static final int DEFAULT_SLOWEST_BEANS = 20;
+
+    private final StartupStep root;
+    private String json;
+
+    StartupReport(StartupStep root) {
+        this.root = root;
+    }
+
+    public StartupStep getRoot() {
+        return root;
+    }
+
+    public long getDurationNanos() {
+        return root.getDurationNanos();
+    }
+
+    /**
+     * 의존 Bean 생성 시간을 포함한 소요 시간이 긴 순서로 Bean 생성 단계를 반환한다.
+     *
+     * @param limit 최대 개수
+     */
+    public List<StartupStep> getSlowestBeans(int limit) {
+        List<StartupStep> beans = new ArrayList<>();
+        collect(root, BEAN_CREATE_STEP, beans);
+
+        Collections.sort(beans, new Comparator<StartupStep>() {
+            @Override
+            public int compare(StartupStep a, StartupStep b) {
+                return Long.compare(b.getDurationNanos(), a.getDurationNanos());
+            }
+        });
+        return beans.size() > limit ? new ArrayList<>(beans.subList(0, limit)) : beans;
+    }
+
+    /**
+     * 단계 트리와 생성 시간이 긴 Bean 목록을 출력한다.
+     */
+    public void print(PrintStream out) {
+        out.println("Startup timeline (total / self, ms)");
+        printStep(out, root, "");
+
+        out.println();
+        out.println("Slowest " + DEFAULT_SLOWEST_BEANS + " beans (total incl. dependencies / self, ms)");
+        for (StartupStep bean : getSlowestBeans(DEFAULT_SLOWEST_BEANS)) {
+            out.println(String.format(Locale.ROOT, "  %10.3f %10.3f  %s",
+                millis(bean.getDurationNanos()), millis(bean.getSelfNanos()), describe(bean)));
+        }
+    }
+
+    /**
+     * 보고서를 JSON으로 변환한다. 결과는 캐시된다.
+     *
+     * <pre>
+     * {"durationMillis":..,"root":{"name":..,"tags":{..},"startMillis":..,"durationMillis":..,
+     *  "selfMillis":..,"children":[..]},"slowestBeans":[..]}
+     * </pre>
+     */
+    public synchronized String toJson() {
+        if (json == null) {
+            StringBuilder sb = new StringBuilder(4096);
+            sb.append("{\"durationMillis\":").append(format(millis(getDurationNanos())));
+            sb.append(",\"root\":");
+            appendStep(sb, root, true);
+            sb.append(",\"slowestBeans\":[");
+            List<StartupStep> beans = getSlowestBeans(DEFAULT_SLOWEST_BEANS);
+            for (int i = 0; i < beans.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendStep(sb, beans.get(i), false);
+            }
+            sb.append("]}");
+            json = sb.toString();
+        }
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupReport{durationMillis=" + format(millis(getDurationNanos())) + "}";
+    }
+
+    private void collect(StartupStep step, String name, List<StartupStep> result) {
+        if (name.equals(step.getName())) {
+            result.add(step);
+        }
+        for (StartupStep child : step.getChildren()) {
+            collect(child, name, result);
+        }
+    }
+
+    private void printStep(PrintStream out, StartupStep step, String indent) {
+        out.println(String.format(Locale.ROOT, "%10.3f %10.3f  %s%s",
+            millis(step.getDurationNanos()), millis(step.getSelfNanos()), indent, describe(step)));
+        for (StartupStep child : step.getChildren()) {
+            printStep(out, child, indent + "  ");
+        }
+    }
+
+    private String describe(StartupStep step) {
+        if (step.getTags().isEmpty()) {
+            return step.getName();
+        }
+        return step.getName() + " " + step.getTags();
+    }
+
+    private void appendStep(StringBuilder sb, StartupStep step, boolean withChildren) {
+        sb.append("{\"name\":");
+        appendString(sb, step.getName());
+        sb.append(",\"tags\":{");
+        boolean first = true;
+        for (Map.Entry<String, String> tag : step.getTags().entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            appendString(sb, tag.getKey());
+            sb.append(':');
+            appendString(sb, tag.getValue());
+        }
+        sb.append("},\"startMillis\":").append(format(millis(step.getStartNanos() - root.getStartNanos())));
+        sb.append(",\"durationMillis\":").append(format(millis(step.getDurationNanos())));
+        sb.append(",\"selfMillis\":").append(format(millis(step.getSelfNanos())));
+
+        if (withChildren) {
+            sb.append(",\"children\":[");
+            List<StartupStep> children = step.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendStep(sb, children.get(i), true);
+            }
+            sb.append(']');
+        }
+        sb.append('}');
+    }
+
+    private void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+}
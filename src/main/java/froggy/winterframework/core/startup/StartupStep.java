@@ -0,0 +1,106 @@
+package froggy.winterframework.core.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 과정의 한 단계와 그 소요 시간.
+ *
+ * <p>{@link StartupTimeline#start(String)}으로 시작하고 {@link #end()}로 종료한다.
+ * 진행 중에 시작된 단계는 자식 단계가 되며, 소요 시간은 자식 단계의 시간을 포함한다.
+ */
+public class StartupStep {
+
+    /** 기록이 끝났거나 기동 스레드가 아닌 곳에서 반환되는 빈 단계 */
+    static final StartupStep NO_OP = new StartupStep(null, "no-op", null, 0L);
+
+    private final StartupTimeline timeline;
+    private final String name;
+    private final StartupStep parent;
+    private final Map<String, String> tags = new LinkedHashMap<>(2);
+    private final List<StartupStep> children = new ArrayList<>();
+    private final long startNanos;
+    private long endNanos = -1;
+
+    StartupStep(StartupTimeline timeline, String name, StartupStep parent, long startNanos) {
+        this.timeline = timeline;
+        this.name = name;
+        this.parent = parent;
+        this.startNanos = startNanos;
+        if (parent != null) {
+            parent.children.add(this);
+        }
+    }
+
+    /**
+     * 단계에 부가 정보(Bean 이름, 클래스 등)를 추가한다.
+     */
+    public StartupStep tag(String key, String value) {
+        if (this != NO_OP) {
+            tags.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * 단계를 종료한다. 이미 종료된 단계면 무시한다.
+     */
+    public void end() {
+        if (this == NO_OP || endNanos >= 0) {
+            return;
+        }
+        endNanos = System.nanoTime();
+        timeline.onEnd(this);
+    }
+
+    void endAt(long nanos) {
+        if (endNanos < 0) {
+            endNanos = nanos;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public StartupStep getParent() {
+        return parent;
+    }
+
+    public Map<String, String> getTags() {
+        return Collections.unmodifiableMap(tags);
+    }
+
+    public List<StartupStep> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    public boolean isEnded() {
+        return endNanos >= 0;
+    }
+
+    /**
+     * 자식 단계를 포함한 소요 시간 (ns).
+     */
+    public long getDurationNanos() {
+        return (endNanos >= 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    /**
+     * 자식 단계를 제외한 소요 시간 (ns).
+     */
+    public long getSelfNanos() {
+        long self = getDurationNanos();
+        for (StartupStep child : children) {
+            self -= child.getDurationNanos();
+        }
+        return Math.max(self, 0L);
+    }
+}
@@ -0,0 +1,82 @@
+package froggy.winterframework.core.startup;
+
+/**
+ * 애플리케이션 기동 단계를 트리 형태로 기록한다.
+ *
+ * <p>생성한 스레드에서 {@link #finish()}를 호출하기 전까지만 기록하며, 그 외의 경우(다른 스레드, 기동 이후의
+ * 지연 생성 Bean 등)에는 기록하지 않는 {@link StartupStep}을 반환하므로 호출하는 쪽에서 분기할 필요가 없다.
+ */
+public class StartupTimeline {
+
+    private final Thread owner;
+    private final StartupStep root;
+    private StartupStep current;
+    private StartupReport report;
+
+    public StartupTimeline(String rootName) {
+        this.owner = Thread.currentThread();
+        this.root = new StartupStep(this, rootName, null, System.nanoTime());
+        this.current = root;
+    }
+
+    /**
+     * 현재 진행 중인 단계의 자식 단계를 시작한다.
+     *
+     * @param name 단계 이름 (예: {@code bean.create})
+     * @return 시작된 단계, 기록 중이 아니면 아무것도 기록하지 않는 단계
+     */
+    public StartupStep start(String name) {
+        if (report != null || Thread.currentThread() != owner) {
+            return StartupStep.NO_OP;
+        }
+
+        StartupStep step = new StartupStep(this, name, current, System.nanoTime());
+        current = step;
+        return step;
+    }
+
+    /**
+     * 종료된 단계의 부모를 현재 단계로 되돌린다. 자식 단계가 먼저 종료되지 않았다면 함께 종료한다.
+     */
+    void onEnd(StartupStep step) {
+        if (report != null) {
+            return;
+        }
+
+        StartupStep cursor = current;
+        while (cursor != null && cursor != step) {
+            cursor = cursor.getParent();
+        }
+        if (cursor == null) {
+            return;
+        }
+
+        closeUntil(step);
+        current = step.getParent() != null ? step.getParent() : root;
+    }
+
+    /**
+     * 기록을 마치고 열려 있는 단계를 모두 종료한 뒤 보고서를 반환한다. 이후 호출하면 같은 보고서를 반환한다.
+     */
+    public StartupReport finish() {
+        if (report == null) {
+            long now = System.nanoTime();
+            for (StartupStep step = current; step != null; step = step.getParent()) {
+                step.endAt(now);
+            }
+            report = new StartupReport(root);
+        }
+        return report;
+    }
+
+    public boolean isFinished() {
+        return report != null;
+    }
+
+    private void closeUntil(StartupStep step) {
+        long now = System.nanoTime();
+        for (StartupStep open = current; open != step; open = open.getParent()) {
+            open.endAt(now);
+        }
+    }
+}
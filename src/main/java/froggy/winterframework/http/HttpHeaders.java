@@ -18,7 +18,12 @@ import java.util.Map;
 public class HttpHeaders {
 
     public static final String CONTENT_TYPE = "content-type";
+    public static final String CONTENT_LENGTH = "content-length";
     public static final String LOCATION = "location";
+    public static final String ETAG = "etag";
+    public static final String LAST_MODIFIED = "last-modified";
+    public static final String IF_NONE_MATCH = "if-none-match";
+    public static final String IF_MODIFIED_SINCE = "if-modified-since";
 
     private final Map<String, List<String>> headers = new LinkedHashMap<>();
 
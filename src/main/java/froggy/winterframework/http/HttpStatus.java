@@ -11,6 +11,7 @@ public enum HttpStatus {
     NO_CONTENT(204),
     MOVED_PERMANENTLY(301),
     FOUND(302),
+    NOT_MODIFIED(304),
     TEMPORARY_REDIRECT(307),
     PERMANENT_REDIRECT(308),
     BAD_REQUEST(400),
@@ -1,6 +1,10 @@
 package froggy.winterframework.http;
 
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Status Code, Header, Body를 함께 가지는 HTTP Response 값.
@@ -80,6 +84,10 @@ public class ResponseEntity<T> {
         return status(HttpStatus.NO_CONTENT);
     }
 
+    public static Builder notModified() {
+        return status(HttpStatus.NOT_MODIFIED);
+    }
+
     public static Builder badRequest() {
         return status(HttpStatus.BAD_REQUEST);
     }
@@ -156,6 +164,34 @@ public class ResponseEntity<T> {
             return this;
         }
 
+        /**
+         * Response의 ETag를 설정한다.
+         * <p>따옴표가 없으면 강한 ETag 형식({@code "value"})으로 감싼다.
+         * GET/HEAD 요청의 If-None-Match와 일치하면 Body를 직렬화하지 않고 304로 응답한다.
+         */
+        public Builder eTag(String eTag) {
+            if (eTag == null || eTag.trim().isEmpty()) {
+                throw new IllegalArgumentException("ETag must not be null or empty");
+            }
+            if (!eTag.startsWith("\"") && !eTag.startsWith("W/\"")) {
+                eTag = "\"" + eTag + "\"";
+            }
+            this.headers.set(HttpHeaders.ETAG, eTag);
+            return this;
+        }
+
+        /**
+         * Response의 Last-Modified를 설정한다.
+         * <p>GET/HEAD 요청의 If-Modified-Since보다 변경되지 않았으면 Body를 직렬화하지 않고 304로 응답한다.
+         *
+         * @param lastModified epoch milliseconds
+         */
+        public Builder lastModified(long lastModified) {
+            ZonedDateTime dateTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC);
+            this.headers.set(HttpHeaders.LAST_MODIFIED, DateTimeFormatter.RFC_1123_DATE_TIME.format(dateTime));
+            return this;
+        }
+
         public Builder headers(HttpHeaders headers) {
             this.headers.putAll(headers);
             return this;
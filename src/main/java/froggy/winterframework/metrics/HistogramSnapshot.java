@@ -0,0 +1,82 @@
+package froggy.winterframework.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LatencyHistogram}의 특정 시점 누적값.
+ *
+ * <p>백분위수는 해당 순위가 속한 버킷의 상한으로 계산하므로 실제 값보다 최대 1/16만큼 클 수 있다.
+ * {@link LatencyHistogram#snapshot(HistogramSnapshot)}로 같은 인스턴스를 재사용할 수 있다.
+ */
+public class HistogramSnapshot {
+
+    final long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+    long count;
+    long sum;
+    long max;
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 기록된 값의 합계 (ns).
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMean(TimeUnit unit) {
+        return count == 0 ? 0 : unit.convert(sum / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 주어진 백분위수의 값을 반환한다.
+     *
+     * @param percentile 0 초과 100 이하의 백분위수 (예: 99.9)
+     * @param unit       반환 단위
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(percentile / 100.0 * count), 1L);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return unit.convert(Math.min(LatencyHistogram.bucketUpperBound(i), max), TimeUnit.NANOSECONDS);
+            }
+        }
+        return unit.convert(max, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 주어진 값 이하로 기록된 건수를 반환한다.
+     *
+     * <p>값이 걸친 버킷(하한이 기준 값 이하)은 전부 포함하므로, 기준 값보다 최대 1/16 큰 값까지 셀 수 있다.
+     * 걸친 버킷을 빼면 Prometheus의 {@code le} 버킷이 버킷 폭만큼 계속 적게 집계된다.
+     *
+     * @param valueNanos 기준 값 (ns)
+     */
+    public long getCountAtOrBelow(long valueNanos) {
+        if (valueNanos < 0) {
+            return 0;
+        }
+
+        int lastBucket = LatencyHistogram.bucketIndex(valueNanos);
+        long total = 0;
+        for (int i = 0; i <= lastBucket; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,151 @@
+package froggy.winterframework.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간(ns)을 로그-선형 버킷에 누적하는 Lock-free 히스토그램.
+ *
+ * <p>HdrHistogram과 같은 방식으로 2의 거듭제곱 구간마다 {@value #SUB_BUCKET_COUNT}개의 선형 버킷을 두어,
+ * 값의 크기와 관계없이 상대 오차를 1/{@value #SUB_BUCKET_COUNT} 이하로 유지한다.
+ * 2<sup>{@value #MAX_EXPONENT}</sup>ns(약 68초) 이상은 별도의 Overflow 버킷({@link #OVERFLOW_INDEX})에 모은다.
+ *
+ * <p>버킷 배열 하나가 약 4KB이므로 처음에는 하나의 배열만 사용한다. CAS가 실패해 경합이 감지된 뒤에만
+ * 스레드 ID 기준으로 최대 {@value #MAX_STRIPES}개의 배열(stripe)로 나누며, 각 stripe는 처음 기록할 때 생성한다.
+ * 조회 시에는 모든 stripe를 합산한다.
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 36;
+    /** 2<sup>{@value #MAX_EXPONENT}</sup>ns 이상의 값을 모으는 버킷 */
+    static final int OVERFLOW_INDEX = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    static final int BUCKET_COUNT = OVERFLOW_INDEX + 1;
+    static final int MAX_STRIPES = 8;
+
+    private static final int STRIPES = stripeCount();
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    /** 첫 번째 stripe에서 CAS가 실패한 적이 있으면 이후 스레드별 stripe를 사용한다. */
+    private volatile boolean contended;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 지연 시간을 기록한다. 음수는 0으로 기록한다.
+     *
+     * @param valueNanos 지연 시간 (ns)
+     */
+    public void record(long valueNanos) {
+        long value = Math.max(valueNanos, 0L);
+
+        increment(bucketIndex(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public void record(long duration, TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+
+    /**
+     * 현재까지의 누적값을 새 스냅샷으로 반환한다.
+     */
+    public HistogramSnapshot snapshot() {
+        HistogramSnapshot snapshot = new HistogramSnapshot();
+        snapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 현재까지의 누적값을 주어진 스냅샷에 덮어쓴다. 주기적으로 조회할 때 스냅샷을 재사용하기 위해 사용한다.
+     *
+     * <p>기록과 동시에 조회하면 버킷 합계와 sum/max가 서로 약간 어긋날 수 있다.
+     */
+    public void snapshot(HistogramSnapshot target) {
+        long[] counts = target.counts;
+        Arrays.fill(counts, 0L);
+
+        long total = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long count = stripe.get(i);
+                counts[i] += count;
+                total += count;
+            }
+        }
+
+        target.count = total;
+        target.sum = sum.sum();
+        target.max = max.get();
+    }
+
+    private void increment(int bucket) {
+        if (!contended) {
+            AtomicLongArray base = stripe(0);
+            long current = base.get(bucket);
+            if (base.compareAndSet(bucket, current, current + 1)) {
+                return;
+            }
+            contended = true;
+        }
+        stripe((int) Thread.currentThread().getId() & (STRIPES - 1)).incrementAndGet(bucket);
+    }
+
+    private AtomicLongArray stripe(int index) {
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    /**
+     * 값이 속하는 버킷 인덱스를 계산한다.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return OVERFLOW_INDEX;
+        }
+
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 버킷에 들어가는 가장 큰 값(포함)을 반환한다.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        if (index == OVERFLOW_INDEX) {
+            return Long.MAX_VALUE;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static int stripeCount() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        return Integer.highestOneBit(Math.max(processors, 1) * 2 - 1);
+    }
+}
@@ -0,0 +1,29 @@
+package froggy.winterframework.metrics;
+
+import froggy.winterframework.beans.factory.annotation.Autowired;
+import froggy.winterframework.context.annotation.Bean;
+import froggy.winterframework.context.annotation.Configuration;
+import froggy.winterframework.core.env.Environment;
+
+/**
+ * {@link MetricsRegistry}를 Bean으로 등록하는 구성 클래스.
+ *
+ * <pre>
+ * management.metrics.enabled=true   # 기본값, false이면 요청 지표를 기록하지 않음
+ * </pre>
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    private final Environment environment;
+
+    @Autowired
+    public MetricsConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public MetricsRegistry metricsRegistry() {
+        return new MetricsRegistry(environment.getProperty("management.metrics.enabled", Boolean.class, true));
+    }
+}
@@ -0,0 +1,140 @@
+package froggy.winterframework.metrics;
+
+import froggy.winterframework.web.bind.annotation.RequestMethod;
+import froggy.winterframework.web.method.RequestMappingInfo;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 애플리케이션 지표를 보관하는 레지스트리.
+ *
+ * <p>{@code DispatcherServlet}이 매칭된 {@link RequestMappingInfo}별로 {@link RouteMetrics}를 기록하며,
+ * 다른 컴포넌트도 이름으로 카운터, 지연 시간 히스토그램, 게이지를 등록해 사용할 수 있다.
+ * {@code management.metrics.enabled=false}이면 요청 지표를 기록하지 않는다.
+ */
+public class MetricsRegistry {
+
+    /** RequestMappingInfo에 매칭되지 않은 요청 (정적 리소스, 404 등) */
+    public static final String OTHER_ROUTE = "OTHER";
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<RequestMappingInfo, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final RouteMetrics otherRoute = new RouteMetrics(OTHER_ROUTE);
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, DoubleSupplier>> routeGauges = new ConcurrentHashMap<>();
+
+    public MetricsRegistry() {
+        this(true);
+    }
+
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 요청 지표를 기록할지 여부.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 라우트의 지표를 반환하며, 처음 조회하면 생성한다.
+     *
+     * @param requestMappingInfo 매칭된 매핑 정보, {@code null}이면 {@link #OTHER_ROUTE}
+     */
+    public RouteMetrics getRouteMetrics(RequestMappingInfo requestMappingInfo) {
+        if (requestMappingInfo == null) {
+            return otherRoute;
+        }
+
+        RouteMetrics metrics = routes.get(requestMappingInfo);
+        if (metrics == null) {
+            metrics = routes.computeIfAbsent(requestMappingInfo, info -> new RouteMetrics(routeName(info)));
+        }
+        return metrics;
+    }
+
+    /**
+     * 요청이 한 번 이상 기록된 라우트의 지표 목록.
+     */
+    public Collection<RouteMetrics> getRouteMetrics() {
+        return Collections.unmodifiableCollection(routes.values());
+    }
+
+    public RouteMetrics getOtherRouteMetrics() {
+        return otherRoute;
+    }
+
+    /**
+     * 이름에 해당하는 누적 카운터를 반환하며, 없으면 생성한다.
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * 이름에 해당하는 지연 시간 히스토그램을 반환하며, 없으면 생성한다.
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * 조회 시점에 값을 계산하는 게이지를 등록한다. 같은 이름이 있으면 교체한다.
+     */
+    public void gauge(String name, DoubleSupplier valueSupplier) {
+        gauges.put(name, valueSupplier);
+    }
+
+    /**
+     * 라우트별 게이지를 등록한다. {@code route} 라벨로 구분되며, 같은 이름과 라우트가 있으면 교체한다.
+     */
+    public void gauge(String name, RequestMappingInfo requestMappingInfo, DoubleSupplier valueSupplier) {
+        routeGauges.computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+            .put(routeName(requestMappingInfo), valueSupplier);
+    }
+
+    public Map<String, LongAdder> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    public Map<String, DoubleSupplier> getGauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    /**
+     * 게이지 이름 → (라우트 이름 → 값) 목록.
+     */
+    public Map<String, Map<String, DoubleSupplier>> getRouteGauges() {
+        return Collections.unmodifiableMap(routeGauges);
+    }
+
+    private String routeName(RequestMappingInfo info) {
+        String methods;
+        if (info.getHttpMethods().size() == RequestMethod.values().length) {
+            methods = "ANY";
+        } else {
+            StringBuilder sb = new StringBuilder();
+            for (RequestMethod method : info.getHttpMethods()) {
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(method.name());
+            }
+            methods = sb.toString();
+        }
+        return methods + " " + (info.getUrlPattern().isEmpty() ? "/" : info.getUrlPattern());
+    }
+}
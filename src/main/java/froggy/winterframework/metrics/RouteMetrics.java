@@ -0,0 +1,144 @@
+package froggy.winterframework.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하나의 라우트({@code RequestMappingInfo})에 대한 요청 지표.
+ *
+ * <p>모든 값은 {@link LongAdder} 또는 {@link LatencyHistogram}으로 누적하므로
+ * 여러 요청 스레드가 동시에 기록해도 잠금이 없다.
+ */
+public class RouteMetrics {
+
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    /** 인덱스 1~5는 1xx~5xx, 0은 그 외 상태 코드 */
+    private final LongAdder[] statusClassCounts = new LongAdder[6];
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder concurrencyLimited = new LongAdder();
+    private final ConcurrentHashMap<Class<? extends Throwable>, LongAdder> exceptionCounts = new ConcurrentHashMap<>();
+
+    public RouteMetrics(String route) {
+        this.route = route;
+        for (int i = 0; i < statusClassCounts.length; i++) {
+            statusClassCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 요청 처리 시작을 기록한다. 반드시 {@link #requestCompleted}와 짝을 이뤄 호출해야 한다.
+     */
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * {@link #requestStarted()} 이후 요청 처리 완료를 기록한다.
+     */
+    public void requestCompleted(int status, long latencyNanos, long requestBytes, long responseBytes,
+        Throwable exception) {
+        inFlight.decrement();
+        record(status, latencyNanos, requestBytes, responseBytes, exception);
+    }
+
+    /**
+     * 진행 중 요청 수를 변경하지 않고 처리 결과만 기록한다.
+     *
+     * @param status        응답 상태 코드
+     * @param latencyNanos  처리 시간 (ns)
+     * @param requestBytes  Request Body 크기, 알 수 없으면 0 이하
+     * @param responseBytes Response Body 크기, 알 수 없으면 0 이하
+     * @param exception     처리 중 발생한 예외, 없으면 {@code null}
+     */
+    public void record(int status, long latencyNanos, long requestBytes, long responseBytes, Throwable exception) {
+        latency.record(latencyNanos);
+        statusClassCounts[statusClassIndex(status)].increment();
+
+        if (requestBytes > 0) {
+            bytesIn.add(requestBytes);
+        }
+        if (responseBytes > 0) {
+            bytesOut.add(responseBytes);
+        }
+        if (exception != null) {
+            exceptionCounts.computeIfAbsent(exception.getClass(), type -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * {@code @RateLimit}으로 거절된 요청을 기록한다. 응답 자체는 {@link #record}로 따로 기록된다.
+     */
+    public void rateLimited() {
+        rateLimited.increment();
+    }
+
+    /**
+     * {@code @MaxConcurrency}로 거절된 요청을 기록한다. 응답 자체는 {@link #record}로 따로 기록된다.
+     */
+    public void concurrencyLimited() {
+        concurrencyLimited.increment();
+    }
+
+    private int statusClassIndex(int status) {
+        int statusClass = status / 100;
+        return (statusClass >= 1 && statusClass <= 5) ? statusClass : 0;
+    }
+
+    /**
+     * 라우트 이름 (예: {@code GET /api/items/{id}}).
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * 상태 코드 분류별 응답 수.
+     *
+     * @param statusClass 1~5 (1xx~5xx), 그 외 값은 분류되지 않은 상태 코드
+     */
+    public long getStatusClassCount(int statusClass) {
+        return statusClassCounts[(statusClass >= 1 && statusClass <= 5) ? statusClass : 0].sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getConcurrencyLimited() {
+        return concurrencyLimited.sum();
+    }
+
+    /**
+     * 예외 타입별 발생 수. ExceptionResolver가 응답으로 변환한 예외도 포함한다.
+     */
+    public Map<Class<? extends Throwable>, Long> getExceptionCounts() {
+        Map<Class<? extends Throwable>, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<Class<? extends Throwable>, LongAdder> entry : exceptionCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+}
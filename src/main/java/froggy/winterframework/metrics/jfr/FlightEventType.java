@@ -0,0 +1,199 @@
+package froggy.winterframework.metrics.jfr;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code jdk.jfr.EventFactory}로 런타임에 등록하는 JFR 이벤트 타입.
+ *
+ * <p>Java 8 타깃에서도 빌드되도록 {@code jdk.jfr} 클래스는 리플렉션으로만 참조하며,
+ * 호출 경로에서는 {@link MethodHandle}을 사용한다. JFR을 사용할 수 없는 JVM이거나 기록 중인 Recording이
+ * 이 이벤트를 켜지 않았으면 {@link #begin()}이 {@code null}을 반환하므로 이벤트 객체를 만들지 않는다.
+ *
+ * <pre>
+ * Object event = DISPATCH.begin();
+ * ... 측정할 구간 ...
+ * if (event != null) {
+ *     DISPATCH.commit(event, route, status);
+ * }
+ * </pre>
+ */
+public final class FlightEventType {
+
+    private static final MethodType OBJECT_RETURN = MethodType.methodType(Object.class);
+    private static final MethodType BOOLEAN_RETURN = MethodType.methodType(boolean.class);
+    private static final MethodType EVENT_ACTION = MethodType.methodType(void.class, Object.class);
+    private static final MethodType EVENT_SET = MethodType.methodType(void.class, Object.class, int.class, Object.class);
+
+    private final String name;
+    private final MethodHandle isEnabled;
+    private final MethodHandle newEvent;
+    private final MethodHandle begin;
+    private final MethodHandle set;
+    private final MethodHandle commit;
+
+    private FlightEventType(String name, MethodHandle isEnabled, MethodHandle newEvent, MethodHandle begin,
+        MethodHandle set, MethodHandle commit) {
+        this.name = name;
+        this.isEnabled = isEnabled;
+        this.newEvent = newEvent;
+        this.begin = begin;
+        this.set = set;
+        this.commit = commit;
+    }
+
+    /**
+     * 이벤트 타입을 등록한다. JFR을 사용할 수 없으면 항상 비활성인 타입을 반환한다.
+     *
+     * @param name        이벤트 이름 (예: {@code winter.Dispatch})
+     * @param label       JMC 등에 표시될 이름
+     * @param description 설명
+     * @param fieldNames  필드 이름, {@link #commit(Object, Object...)}의 값 순서와 같다
+     * @param fieldTypes  필드 타입 (primitive, {@link String}, {@link Class}, {@link Thread})
+     */
+    static FlightEventType create(String name, String label, String description,
+        String[] fieldNames, Class<?>[] fieldTypes) {
+        if (!JfrSupport.AVAILABLE) {
+            return disabled(name);
+        }
+
+        try {
+            return JfrSupport.register(name, label, description, fieldNames, fieldTypes);
+        } catch (Throwable e) {
+            return disabled(name);
+        }
+    }
+
+    private static FlightEventType disabled(String name) {
+        return new FlightEventType(name, null, null, null, null, null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 기록 중인 Recording이 이 이벤트를 수집하는지 여부.
+     */
+    public boolean isEnabled() {
+        if (isEnabled == null) {
+            return false;
+        }
+
+        try {
+            return (boolean) isEnabled.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트를 만들고 시작 시각을 기록한다.
+     *
+     * @return 시작된 이벤트, 비활성이면 {@code null}
+     */
+    public Object begin() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        try {
+            Object event = (Object) newEvent.invokeExact();
+            begin.invokeExact(event);
+            return event;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 필드 값을 설정하고 이벤트를 기록한다. 종료 시각은 이 시점이다.
+     *
+     * @param event  {@link #begin()}이 반환한 이벤트, {@code null}이면 무시한다
+     * @param values 등록 시 지정한 필드 순서대로의 값
+     */
+    public void commit(Object event, Object... values) {
+        if (event == null) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                set.invokeExact(event, i, values[i]);
+            }
+            commit.invokeExact(event);
+        } catch (Throwable e) {
+            // 이벤트 기록 실패가 요청 처리에 영향을 주지 않도록 무시한다.
+        }
+    }
+
+    /**
+     * {@code jdk.jfr} API 접근을 모아둔 내부 클래스.
+     */
+    private static final class JfrSupport {
+
+        static final boolean AVAILABLE = isJfrAvailable();
+
+        private static boolean isJfrAvailable() {
+            if (!Boolean.parseBoolean(System.getProperty("winter.jfr.enabled", "true"))) {
+                return false;
+            }
+
+            try {
+                Class.forName("jdk.jfr.EventFactory");
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+
+        static FlightEventType register(String name, String label, String description,
+            String[] fieldNames, Class<?>[] fieldTypes) throws Throwable {
+            ClassLoader loader = ClassLoader.getSystemClassLoader();
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, loader);
+            Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, loader);
+            Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", false, loader);
+            Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType", false, loader);
+            Class<?> eventClass = Class.forName("jdk.jfr.Event", false, loader);
+
+            Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Name"), name));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), label));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Description"), description));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Category"), new String[]{"Winter"}));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.StackTrace"), Boolean.FALSE));
+
+            Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class);
+            List<Object> fields = new ArrayList<>(fieldNames.length);
+            for (int i = 0; i < fieldNames.length; i++) {
+                fields.add(valueDescriptor.newInstance(fieldTypes[i], fieldNames[i]));
+            }
+
+            Object factory = eventFactoryClass.getMethod("create", List.class, List.class)
+                .invoke(null, annotations, fields);
+            Object eventType = eventFactoryClass.getMethod("getEventType").invoke(factory);
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle isEnabled = lookup.unreflect(eventTypeClass.getMethod("isEnabled"))
+                .bindTo(eventType).asType(BOOLEAN_RETURN);
+            MethodHandle newEvent = lookup.unreflect(eventFactoryClass.getMethod("newEvent"))
+                .bindTo(factory).asType(OBJECT_RETURN);
+            MethodHandle begin = lookup.unreflect(eventClass.getMethod("begin")).asType(EVENT_ACTION);
+            MethodHandle set = lookup.unreflect(eventClass.getMethod("set", int.class, Object.class)).asType(EVENT_SET);
+            MethodHandle commit = lookup.unreflect(eventClass.getMethod("commit")).asType(EVENT_ACTION);
+
+            return new FlightEventType(name, isEnabled, newEvent, begin, set, commit);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<? extends Annotation> annotation(String className) throws ClassNotFoundException {
+            return (Class<? extends Annotation>) Class.forName(className, false, ClassLoader.getSystemClassLoader());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package froggy.winterframework.metrics.jfr;
+
+/**
+ * Winter 요청 처리 구간을 기록하는 JFR 이벤트 목록.
+ *
+ * <p>모든 이벤트는 {@code Winter} 카테고리에 스택 트레이스 없이 등록되며, Recording이 진행 중일 때만 기록된다
+ * (예: {@code jcmd <pid> JFR.start}). Recording이 없으면 이벤트 객체를 만들지 않는다.
+ * {@code -Dwinter.jfr.enabled=false}이면 이벤트 타입을 등록하지 않는다.
+ */
+public final class WinterFlightEvents {
+
+    /** 요청 한 건의 전체 처리 */
+    public static final FlightEventType DISPATCH = FlightEventType.create(
+        "winter.Dispatch", "Request Dispatch", "DispatcherServlet request handling",
+        new String[]{"method", "uri", "route", "status", "requestId"},
+        new Class<?>[]{String.class, String.class, String.class, int.class, String.class}
+    );
+
+    /** 핸들러 파라미터 하나의 인자 해석 */
+    public static final FlightEventType ARGUMENT_RESOLUTION = FlightEventType.create(
+        "winter.ArgumentResolution", "Argument Resolution", "Handler argument resolution per resolver",
+        new String[]{"handler", "parameterIndex", "parameterType", "resolver"},
+        new Class<?>[]{String.class, int.class, Class.class, Class.class}
+    );
+
+    /** 핸들러 메소드 호출 */
+    public static final FlightEventType HANDLER_INVOCATION = FlightEventType.create(
+        "winter.HandlerInvocation", "Handler Invocation", "Controller method invocation",
+        new String[]{"handler"},
+        new Class<?>[]{String.class}
+    );
+
+    /** 반환값 처리 (View 결정 또는 Body Write) */
+    public static final FlightEventType RETURN_VALUE_HANDLING = FlightEventType.create(
+        "winter.ReturnValueHandling", "Return Value Handling", "Handler return value processing",
+        new String[]{"handler", "returnValueHandler"},
+        new Class<?>[]{String.class, Class.class}
+    );
+
+    /** 응답 Body의 JSON 직렬화 */
+    public static final FlightEventType JSON_SERIALIZATION = FlightEventType.create(
+        "winter.JsonSerialization", "JSON Serialization", "Response body serialization",
+        new String[]{"bodyType", "bytes"},
+        new Class<?>[]{Class.class, long.class}
+    );
+
+    /** 핸들러 예외의 ExceptionResolver 처리 */
+    public static final FlightEventType EXCEPTION_RESOLUTION = FlightEventType.create(
+        "winter.ExceptionResolution", "Exception Resolution", "Handler exception resolution",
+        new String[]{"exception", "resolved"},
+        new Class<?>[]{Class.class, boolean.class}
+    );
+
+    private WinterFlightEvents() {
+    }
+}
@@ -0,0 +1,160 @@
+package froggy.winterframework.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WinterMockDispatcher.LoadTest}의 측정 결과.
+ *
+ * <p>지연 시간은 모든 요청의 값을 정렬해 보관하므로 백분위수는 근사값이 아닌 정확한 값이다.
+ */
+public class LoadTestResult {
+
+    static final int MAX_STATUS = 599;
+
+    private final int threads;
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+    private final long errors;
+    private final Map<Integer, Long> statusCounts;
+
+    private LoadTestResult(int threads, long elapsedNanos, long[] sortedLatencies, long errors,
+        Map<Integer, Long> statusCounts) {
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencies = sortedLatencies;
+        this.errors = errors;
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * 측정 구간에서 처리한 전체 요청 수 (오류 포함).
+     */
+    public long getRequests() {
+        return sortedLatencies.length;
+    }
+
+    /**
+     * 처리 중 예외가 밖으로 전파된 요청 수.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 초당 처리한 요청 수.
+     */
+    public double getThroughput() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return sortedLatencies.length * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * 주어진 백분위수의 지연 시간을 반환한다 (nearest-rank).
+     *
+     * @param percentile 0 초과 100 이하의 백분위수 (예: 99.9)
+     * @param unit       반환 단위
+     */
+    public long getLatency(double percentile, TimeUnit unit) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+        }
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+        return unit.convert(sortedLatencies[Math.max(rank, 1) - 1], TimeUnit.NANOSECONDS);
+    }
+
+    public long getMeanLatency(TimeUnit unit) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        long sum = 0;
+        for (long latency : sortedLatencies) {
+            sum += latency;
+        }
+        return unit.convert(sum / sortedLatencies.length, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxLatency(TimeUnit unit) {
+        return getLatency(100, unit);
+    }
+
+    /**
+     * 상태 코드별 응답 수. 예외로 끝난 요청은 포함하지 않는다.
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "requests=%d, errors=%d, threads=%d, elapsed=%dms, throughput=%.1f req/s, "
+                + "latency(us) mean=%d p50=%d p90=%d p99=%d p99.9=%d max=%d, status=%s",
+            getRequests(), errors, threads, getElapsed(TimeUnit.MILLISECONDS), getThroughput(),
+            getMeanLatency(TimeUnit.MICROSECONDS),
+            getLatency(50, TimeUnit.MICROSECONDS),
+            getLatency(90, TimeUnit.MICROSECONDS),
+            getLatency(99, TimeUnit.MICROSECONDS),
+            getLatency(99.9, TimeUnit.MICROSECONDS),
+            getMaxLatency(TimeUnit.MICROSECONDS),
+            statusCounts);
+    }
+
+    /**
+     * 스레드별 측정값을 합쳐 결과를 만든다.
+     */
+    static final class Builder {
+
+        private final int threads;
+        private final long elapsedNanos;
+        private long[] latencies = new long[0];
+        private long errors;
+        private final long[] statusCounts = new long[MAX_STATUS + 1];
+
+        Builder(int threads, long elapsedNanos) {
+            this.threads = threads;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        void merge(long[] workerLatencies, int count, long[] workerStatusCounts, long workerErrors) {
+            long[] merged = Arrays.copyOf(latencies, latencies.length + count);
+            System.arraycopy(workerLatencies, 0, merged, latencies.length, count);
+            latencies = merged;
+
+            errors += workerErrors;
+            for (int status = 0; status < statusCounts.length; status++) {
+                statusCounts[status] += workerStatusCounts[status];
+            }
+        }
+
+        LoadTestResult build() {
+            Arrays.sort(latencies);
+
+            Map<Integer, Long> counts = new TreeMap<>();
+            for (int status = 0; status < statusCounts.length; status++) {
+                if (statusCounts[status] > 0) {
+                    counts.put(status, statusCounts[status]);
+                }
+            }
+            return new LoadTestResult(threads, elapsedNanos, latencies, errors, counts);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package froggy.winterframework.mock;
+
+import froggy.winterframework.boot.WinterApplication;
+import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.mock.web.MockHttpServletRequest;
+import froggy.winterframework.mock.web.MockHttpServletResponse;
+import froggy.winterframework.web.DispatcherServlet;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+/**
+ * Embedded WAS와 소켓 없이 {@link DispatcherServlet}을 직접 호출하는 테스트/부하 측정용 Dispatcher.
+ *
+ * <p>{@link WinterApplication#initialize(Class)}로 실제 실행과 동일하게 컨텍스트를 초기화하고,
+ * 메모리 기반 {@link MockHttpServletRequest}/{@link MockHttpServletResponse}로 요청을 처리한다.
+ * 서블릿 컨테이너가 없으므로 Filter, JSP 렌더링, DefaultHandler 위임은 수행되지 않는다.
+ *
+ * <pre>
+ * WinterMockDispatcher dispatcher = WinterMockDispatcher.create(Application.class);
+ *
+ * MockHttpServletResponse response = dispatcher.perform("GET", "/api/hello");
+ *
+ * LoadTestResult result = dispatcher.load()
+ *     .threads(8)
+ *     .warmupRequests(10_000)
+ *     .requests(100_000)
+ *     .request(request -&gt; request.reset("GET", "/api/hello").addParameter("name", "Winter"))
+ *     .run();
+ * </pre>
+ */
+public class WinterMockDispatcher {
+
+    private final ApplicationContext context;
+    private final DispatcherServlet dispatcherServlet;
+
+    public WinterMockDispatcher(ApplicationContext context) {
+        this.context = context;
+        this.dispatcherServlet = new DispatcherServlet(context);
+        this.dispatcherServlet.init();
+    }
+
+    /**
+     * 애플리케이션 클래스 기준으로 컨텍스트를 초기화하여 Dispatcher를 생성한다.
+     *
+     * @param applicationClass 스캔 기준 패키지를 결정하는 애플리케이션 클래스
+     * @return 요청을 처리할 준비가 된 Dispatcher
+     */
+    public static WinterMockDispatcher create(Class<?> applicationClass) {
+        try {
+            return new WinterMockDispatcher(WinterApplication.initialize(applicationClass));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize application context: " + applicationClass.getName(), e);
+        }
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return context;
+    }
+
+    /**
+     * 주어진 Method와 URI로 요청을 한 번 처리한다.
+     */
+    public MockHttpServletResponse perform(String method, String requestURI) throws ServletException, IOException {
+        return perform(new MockHttpServletRequest(method, requestURI));
+    }
+
+    /**
+     * 요청을 한 번 처리하고 새 Response를 반환한다.
+     */
+    public MockHttpServletResponse perform(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        perform(request, response);
+        return response;
+    }
+
+    /**
+     * 재사용하는 Request/Response로 요청을 처리한다. Response는 호출 전에 비워두어야 한다.
+     */
+    public void perform(MockHttpServletRequest request, MockHttpServletResponse response)
+        throws ServletException, IOException {
+        dispatcherServlet.service((ServletRequest) request, (ServletResponse) response);
+    }
+
+    /**
+     * 멀티 스레드 부하 측정을 구성한다.
+     */
+    public LoadTest load() {
+        return new LoadTest();
+    }
+
+    /**
+     * 스레드마다 Request/Response를 하나씩 재사용하며 요청을 반복 처리하는 부하 측정.
+     *
+     * <p>요청 수({@link #requests(long)}) 또는 측정 시간({@link #duration(long, TimeUnit)}) 중
+     * 하나로 종료 조건을 정한다. 측정 시간을 지정하면 요청 수는 무시된다.
+     */
+    public class LoadTest {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private long warmupRequests;
+        private long requests = 10_000;
+        private long durationNanos;
+        private Consumer<MockHttpServletRequest> requestCustomizer = request -> { };
+
+        private LoadTest() {
+        }
+
+        public LoadTest threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * 측정 전에 처리할 요청 수. JIT 컴파일과 캐시가 안정화되도록 결과에는 포함하지 않는다.
+         */
+        public LoadTest warmupRequests(long warmupRequests) {
+            if (warmupRequests < 0) {
+                throw new IllegalArgumentException("warmupRequests must not be negative: " + warmupRequests);
+            }
+            this.warmupRequests = warmupRequests;
+            return this;
+        }
+
+        /**
+         * 모든 스레드가 나누어 처리할 전체 측정 요청 수.
+         */
+        public LoadTest requests(long requests) {
+            if (requests < 1) {
+                throw new IllegalArgumentException("requests must be positive: " + requests);
+            }
+            this.requests = requests;
+            return this;
+        }
+
+        /**
+         * 측정 시간. 지정하면 시간이 지날 때까지 요청을 반복한다.
+         */
+        public LoadTest duration(long duration, TimeUnit unit) {
+            if (duration < 1) {
+                throw new IllegalArgumentException("duration must be positive: " + duration);
+            }
+            this.durationNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * 매 요청 전에 비워진 Request를 채우는 함수를 지정한다.
+         */
+        public LoadTest request(Consumer<MockHttpServletRequest> requestCustomizer) {
+            this.requestCustomizer = requestCustomizer;
+            return this;
+        }
+
+        public LoadTest get(String requestURI) {
+            return request(request -> request.reset("GET", requestURI));
+        }
+
+        /**
+         * 부하 측정을 실행하고 모든 스레드가 끝날 때까지 대기한다.
+         *
+         * @return 처리량, 지연 시간 분포, 상태 코드별 건수
+         */
+        public LoadTestResult run() {
+            AtomicLong warmupRemaining = new AtomicLong(warmupRequests);
+            AtomicLong measuredRemaining = new AtomicLong(requests);
+            long[] startNanos = new long[1];
+            CyclicBarrier measurementStart = new CyclicBarrier(threads, () -> startNanos[0] = System.nanoTime());
+
+            List<Worker> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                Worker worker = new Worker(warmupRemaining, measuredRemaining, measurementStart, startNanos);
+                Thread thread = new Thread(worker, "winter-mock-load-" + i);
+                worker.thread = thread;
+                workers.add(worker);
+                thread.start();
+            }
+
+            for (Worker worker : workers) {
+                try {
+                    worker.thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for load test", e);
+                }
+            }
+            long elapsedNanos = System.nanoTime() - startNanos[0];
+
+            LoadTestResult.Builder result = new LoadTestResult.Builder(threads, elapsedNanos);
+            for (Worker worker : workers) {
+                if (worker.failure != null) {
+                    throw new IllegalStateException("Load test worker failed", worker.failure);
+                }
+                result.merge(worker.latencies, worker.count, worker.statusCounts, worker.errors);
+            }
+            return result.build();
+        }
+
+        /**
+         * 하나의 부하 스레드. Request/Response와 측정값을 스레드 안에서만 사용한다.
+         */
+        private final class Worker implements Runnable {
+
+            private final AtomicLong warmupRemaining;
+            private final AtomicLong measuredRemaining;
+            private final CyclicBarrier measurementStart;
+            private final long[] startNanos;
+
+            private final MockHttpServletRequest request = new MockHttpServletRequest();
+            private final MockHttpServletResponse response = new MockHttpServletResponse();
+            private final long[] statusCounts = new long[LoadTestResult.MAX_STATUS + 1];
+
+            private Thread thread;
+            private long[] latencies = new long[1024];
+            private int count;
+            private long errors;
+            private Throwable failure;
+
+            private Worker(AtomicLong warmupRemaining, AtomicLong measuredRemaining,
+                CyclicBarrier measurementStart, long[] startNanos) {
+                this.warmupRemaining = warmupRemaining;
+                this.measuredRemaining = measuredRemaining;
+                this.measurementStart = measurementStart;
+                this.startNanos = startNanos;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    while (warmupRemaining.getAndDecrement() > 0) {
+                        execute();
+                    }
+                    errors = 0;
+                    Arrays.fill(statusCounts, 0);
+
+                    measurementStart.await();
+
+                    if (durationNanos > 0) {
+                        long deadline = startNanos[0] + durationNanos;
+                        while (System.nanoTime() < deadline) {
+                            record(execute());
+                        }
+                    } else {
+                        while (measuredRemaining.getAndDecrement() > 0) {
+                            record(execute());
+                        }
+                    }
+                } catch (BrokenBarrierException e) {
+                    // 다른 스레드가 워밍업 중 실패했다. 원인은 해당 스레드의 failure에 남아 있다.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = e;
+                    measurementStart.reset();
+                } catch (Throwable e) {
+                    // Error도 기록하고 Barrier를 깨야 다른 스레드가 measurementStart에서 멈추지 않는다.
+                    failure = e;
+                    measurementStart.reset();
+                }
+            }
+
+            /**
+             * 요청을 한 번 처리하고 지연 시간(ns)을 반환한다. 처리 중 예외는 오류로 집계한다.
+             * {@link Error}는 집계하지 않고 {@link #run()}으로 전파되어 부하 측정을 실패시킨다.
+             */
+            private long execute() {
+                request.reset();
+                requestCustomizer.accept(request);
+                response.reset();
+
+                long start = System.nanoTime();
+                try {
+                    perform(request, response);
+                } catch (Exception e) {
+                    errors++;
+                    return System.nanoTime() - start;
+                }
+                long latency = System.nanoTime() - start;
+
+                int status = response.getStatus();
+                statusCounts[status >= 0 && status <= LoadTestResult.MAX_STATUS ? status : 0]++;
+                return latency;
+            }
+
+            private void record(long latency) {
+                if (count == latencies.length) {
+                    long[] grown = new long[latencies.length * 2];
+                    System.arraycopy(latencies, 0, grown, 0, count);
+                    latencies = grown;
+                }
+                latencies[count++] = latency;
+            }
+        }
+    }
+}
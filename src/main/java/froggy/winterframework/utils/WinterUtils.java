@@ -69,7 +69,17 @@ public class WinterUtils {
      * @return Handler(Controller)라면 {@code true}, 그렇지 않으면 {@code false}
      */
     public static boolean isHandler(Object bean) {
-        return bean.getClass().isAnnotationPresent(Controller.class);
+        return isHandlerType(bean.getClass());
+    }
+
+    /**
+     * 주어진 클래스가 Handler(Controller) 타입인지 판별.
+     *
+     * @param beanType 대상 클래스
+     * @return Handler(Controller) 타입이라면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public static boolean isHandlerType(Class<?> beanType) {
+        return beanType != null && beanType.isAnnotationPresent(Controller.class);
     }
 
     /**
@@ -2,18 +2,45 @@ package froggy.winterframework.web;
 
 import froggy.winterframework.beans.factory.support.BeanFactory;
 import froggy.winterframework.context.ApplicationContext;
+import froggy.winterframework.core.env.Environment;
+import froggy.winterframework.http.HttpHeaders;
+import froggy.winterframework.metrics.MetricsRegistry;
+import froggy.winterframework.metrics.RouteMetrics;
+import froggy.winterframework.metrics.jfr.WinterFlightEvents;
 import froggy.winterframework.utils.WinterUtils;
+import froggy.winterframework.web.accesslog.AccessLog;
+import froggy.winterframework.web.context.request.RequestContext;
+import froggy.winterframework.web.context.request.RequestDeadline;
+import froggy.winterframework.web.context.request.RequestIdGenerator;
 import froggy.winterframework.web.method.HandlerMethod;
+import froggy.winterframework.web.servlet.DeadlineExceededException;
 import froggy.winterframework.web.servlet.ExceptionResolver;
 import froggy.winterframework.web.servlet.HandlerAdapter;
+import froggy.winterframework.web.servlet.HandlerInterceptor;
+import froggy.winterframework.web.servlet.NoHandlerFoundException;
 import froggy.winterframework.web.servlet.handler.RequestMappingHandlerMapping;
+import froggy.winterframework.web.servlet.handler.ResourceHandlerMapping;
+import froggy.winterframework.web.servlet.limit.RequestLimiter;
+import froggy.winterframework.web.servlet.mvc.HttpRequestHandlerAdapter;
 import froggy.winterframework.web.servlet.mvc.method.annotation.DefaultControllerHandlerAdapter;
+import froggy.winterframework.web.servlet.resource.ResourceHttpRequestHandler;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
@@ -30,11 +57,18 @@ import javax.servlet.http.HttpServletResponse;
 public class DispatcherServlet extends HttpServlet {
 
     private static final String EXCEPTION_RESOLVER_BEAN_NAME = "exceptionResolverComposite";
+    private static final HandlerInterceptor[] NO_INTERCEPTORS = new HandlerInterceptor[0];
 
     private ApplicationContext context;
     private RequestMappingHandlerMapping requestMappingHandlerMapping;
+    private ResourceHandlerMapping resourceHandlerMapping;
     private List<HandlerAdapter> handlerAdapters = new ArrayList<>();
     private List<ExceptionResolver> exceptionResolvers = new ArrayList<>();
+    private MetricsRegistry metricsRegistry;
+    private AccessLog accessLog;
+    /** 요청 ID Header 이름, 요청 ID를 사용하지 않으면 {@code null} */
+    private String requestIdHeader;
+    private RequestIdGenerator requestIdGenerator;
 
     public DispatcherServlet(ApplicationContext context) {
         this.context = context;
@@ -48,6 +82,9 @@ public class DispatcherServlet extends HttpServlet {
         initHandlerAdapters();
         initHandlerMapping();
         initExceptionResolvers();
+        initMetricsRegistry();
+        initAccessLog();
+        initRequestIdGenerator();
     }
 
     private void initHandlerAdapters() {
@@ -60,6 +97,7 @@ public class DispatcherServlet extends HttpServlet {
             );
 
         handlerAdapters.add(adapter);
+        handlerAdapters.add(new HttpRequestHandlerAdapter());
     }
 
     private void initHandlerMapping() {
@@ -71,13 +109,61 @@ public class DispatcherServlet extends HttpServlet {
                 RequestMappingHandlerMapping.class
             );
 
-        try {
-            requestMappingHandlerMapping.afterPropertiesSet();
-        } catch (RuntimeException e) {
-            System.err.println("Critical error during initialization: \n" + e.getMessage());
-            e.printStackTrace();
-            System.exit(1);
+        resourceHandlerMapping =
+            beanFactory.getBean(
+                WinterUtils.resolveSimpleBeanName(ResourceHandlerMapping.class),
+                ResourceHandlerMapping.class
+            );
+    }
+
+    /**
+     * 요청 지표를 기록할 {@link MetricsRegistry}를 초기화한다. 비활성화되어 있으면 기록하지 않는다.
+     */
+    private void initMetricsRegistry() {
+        MetricsRegistry registry = context.getBeanFactory().getBean(
+            WinterUtils.resolveSimpleBeanName(MetricsRegistry.class),
+            MetricsRegistry.class
+        );
+        metricsRegistry = registry.isEnabled() ? registry : null;
+    }
+
+    /**
+     * 요청을 기록할 {@link AccessLog}를 초기화한다. 비활성화되어 있으면 기록하지 않는다.
+     */
+    private void initAccessLog() {
+        AccessLog log = context.getBeanFactory().getBean(
+            WinterUtils.resolveSimpleBeanName(AccessLog.class),
+            AccessLog.class
+        );
+        if (!log.isEnabled()) {
+            return;
         }
+
+        accessLog = log;
+        MetricsRegistry registry = context.getBeanFactory().getBean(
+            WinterUtils.resolveSimpleBeanName(MetricsRegistry.class),
+            MetricsRegistry.class
+        );
+        registry.gauge("winter_access_log_dropped_entries", accessLog::getDroppedCount);
+    }
+
+    /**
+     * 요청 ID Header와 생성기를 초기화한다.
+     *
+     * <pre>
+     * server.request-id.enabled=true       # 기본값
+     * server.request-id.header=X-Request-Id
+     * server.request-id.node=              # 생성하는 ID의 Prefix, 없으면 임의 값
+     * </pre>
+     */
+    private void initRequestIdGenerator() {
+        Environment environment = context.getEnvironment();
+        if (!environment.getProperty("server.request-id.enabled", Boolean.class, true)) {
+            return;
+        }
+
+        requestIdHeader = environment.getProperty("server.request-id.header", "X-Request-Id");
+        requestIdGenerator = new RequestIdGenerator(environment.getProperty("server.request-id.node", ""));
     }
 
     /**
@@ -95,8 +181,11 @@ public class DispatcherServlet extends HttpServlet {
      * HTTP 요청을 처리하는 메소드 (Front Controller 역할)
      *
      * <ol>
-     *   <li>정적 자원 요청은 서블릿 컨테이너의 DefaultHandler에 위임</li>
-     *   <li>요청 URI에 매핑된 Handler(Controller) 메소드를 실행</li>
+     *   <li>요청 ID를 Header에서 받거나 생성하여 {@link RequestContext}로 현재 스레드에 설정하고 응답 Header에 추가</li>
+     *   <li>요청 URI에 매핑된 Handler(Controller) 메소드를 라우트의 인터셉터와 함께 실행</li>
+     *   <li>핸들러가 {@link CompletionStage}를 반환하면 요청을 비동기로 전환하고, 결과가 완료되면 응답을 완료</li>
+     *   <li>매핑된 메소드가 없으면 등록된 정적 리소스 핸들러로 처리</li>
+     *   <li>정적 리소스 핸들러도 없으면 서블릿 컨테이너의 DefaultHandler에 위임</li>
      *   <li>예외 발생 시 ExceptionResolver를 통해 대체 결과를 생성</li>
      *   <li>최종 ModelAndView를 기반으로 응답을 완료</li>
      * </ol>
@@ -110,28 +199,376 @@ public class DispatcherServlet extends HttpServlet {
     protected void service(HttpServletRequest request, HttpServletResponse response)
         throws ServletException, IOException {
 
-        // 정적 자원 요청은 DefaultHandler로 위임한다.
-        if (isStaticResource(request, response)) {
-            RequestDispatcher dispatcher = request.getServletContext().getNamedDispatcher("default");
-            if (dispatcher != null) {
-                dispatcher.forward(request, response);
-                return;
+        long startNanos = (metricsRegistry != null || accessLog != null) ? System.nanoTime() : 0L;
+        Object dispatchEvent = WinterFlightEvents.DISPATCH.begin();
+        RouteMetrics routeMetrics = null;
+        ModelAndView modelAndView = null;
+        Exception dispatchException = null;
+        Throwable failure = null;
+        Object handler = null;
+        HandlerInterceptor[] interceptors = NO_INTERCEPTORS;
+        int preHandled = 0;
+        RequestLimiter acquiredLimiter = null;
+        AsyncDispatch asyncDispatch = null;
+        RequestContext requestContext = resolveRequestContext(request, response);
+        RequestContext previousContext = requestContext != null ? requestContext.attach() : null;
+        try {
+            try {
+                handler = getHandler(request);
+                routeMetrics = startRouteMetrics(handler);
+                if (handler instanceof HandlerMethod) {
+                    HandlerMethod handlerMethod = (HandlerMethod) handler;
+                    // 이미 늦은 요청은 토큰이나 동시 처리 슬롯을 쓰지 않고 바로 거절한다.
+                    resolveDeadline(request, handlerMethod).checkNotExpired();
+                    RequestLimiter limiter = handlerMethod.getRequestLimiter();
+                    if (limiter != null) {
+                        if (!acquireLimits(limiter, request, response, routeMetrics)) {
+                            return;
+                        }
+                        acquiredLimiter = limiter;
+                    }
+                    interceptors = handlerMethod.getInterceptors();
+                }
+
+                // preHandle이 false를 반환하면 인터셉터가 응답을 완료한 것으로 보고 처리를 중단한다.
+                for (; preHandled < interceptors.length; preHandled++) {
+                    if (!interceptors[preHandled].preHandle(request, response, handler)) {
+                        return;
+                    }
+                }
+
+                HandlerAdapter handlerAdapter = getHandlerAdapter(handler);
+                modelAndView = handlerAdapter.handle(request, response, handler);
+                CompletionStage<?> asyncResult = modelAndView.getAsyncResult();
+                if (asyncResult != null) {
+                    if (request.isAsyncSupported()) {
+                        // 이후 응답 완료와 정리 작업은 AsyncDispatch가 맡는다.
+                        AsyncDispatch dispatch = new AsyncDispatch(request, response, handler, handlerAdapter,
+                            interceptors, preHandled, acquiredLimiter, routeMetrics, startNanos, dispatchEvent);
+                        dispatch.start(asyncResult);
+                        asyncDispatch = dispatch;
+                        return;
+                    }
+                    modelAndView = awaitAsyncResult(request, response, handlerAdapter, handler, asyncResult);
+                }
+                applyPostHandle(interceptors, request, response, handler, modelAndView);
+            } catch (NoHandlerFoundException exception) {
+                // 매핑되지 않은 정적 자원 요청은 DefaultHandler로 위임한다.
+                if (forwardToDefaultServlet(request, response)) {
+                    return;
+                }
+                dispatchException = exception;
+            } catch (Exception exception) {
+                // Handler 실행 예외는 ExceptionResolver 체인으로 넘긴다.
+                dispatchException = exception;
+            }
+
+            processDispatchResult(request, response, handler, modelAndView, dispatchException);
+        } catch (ServletException | IOException | RuntimeException | Error exception) {
+            failure = exception;
+            throw exception;
+        } finally {
+            if (asyncDispatch == null) {
+                completeDispatch(request, response, handler, interceptors, preHandled, acquiredLimiter,
+                    routeMetrics, startNanos, dispatchEvent, dispatchException, failure);
+            }
+            if (requestContext != null) {
+                RequestContext.restore(previousContext);
             }
         }
+    }
 
-        ModelAndView modelAndView = null;
-        Exception dispatchException = null;
-        HandlerMethod handlerMethod = null;
+    /**
+     * 요청 Header의 ID가 유효하면 그대로 사용하고, 없거나 유효하지 않으면 새로 만든다.
+     * 만든 Context는 요청 속성에 보관하고, ID는 같은 Header로 응답에 추가한다.
+     *
+     * @return Context, 요청 ID를 사용하지 않으면 {@code null}
+     */
+    private RequestContext resolveRequestContext(HttpServletRequest request, HttpServletResponse response) {
+        if (requestIdGenerator == null) {
+            return null;
+        }
+
+        String requestId = request.getHeader(requestIdHeader);
+        if (!RequestIdGenerator.isValid(requestId)) {
+            requestId = requestIdGenerator.next();
+        }
+
+        RequestContext requestContext = new RequestContext(requestId);
+        request.setAttribute(RequestContext.ATTRIBUTE, requestContext);
+        response.setHeader(requestIdHeader, requestId);
+        return requestContext;
+    }
+
+    /**
+     * 요청 처리가 끝난 뒤 리미터 반환, afterCompletion 호출, 지표와 JFR 이벤트 기록을 수행한다.
+     * 비동기 요청은 응답이 완료될 때 {@link AsyncDispatch}가 호출한다.
+     */
+    private void completeDispatch(HttpServletRequest request, HttpServletResponse response, Object handler,
+        HandlerInterceptor[] interceptors, int preHandled, RequestLimiter acquiredLimiter, RouteMetrics routeMetrics,
+        long startNanos, Object dispatchEvent, Exception dispatchException, Throwable failure) {
+        if (acquiredLimiter != null) {
+            acquiredLimiter.release();
+        }
+        if (preHandled > 0) {
+            Exception completionException = failure instanceof Exception ? (Exception) failure : dispatchException;
+            triggerAfterCompletion(interceptors, preHandled, request, response, handler, completionException);
+        }
+        if (metricsRegistry != null) {
+            recordMetrics(request, response, routeMetrics, startNanos, dispatchException, failure);
+        }
+        if (accessLog != null) {
+            logAccess(request, response, handler, startNanos, failure);
+        }
+        if (dispatchEvent != null) {
+            commitDispatchEvent(dispatchEvent, request, response, handler, routeMetrics, failure);
+        }
+    }
+
+    /**
+     * 라우트의 제한 시간과 요청 Header로 {@link RequestDeadline}을 만들어 요청 속성에 보관한다.
+     */
+    private RequestDeadline resolveDeadline(HttpServletRequest request, HandlerMethod handlerMethod) {
+        RequestDeadline deadline =
+            RequestDeadline.resolve(handlerMethod.getTimeoutNanos(), request.getHeader(RequestDeadline.HEADER));
+        if (deadline.hasDeadline()) {
+            request.setAttribute(RequestDeadline.ATTRIBUTE, deadline);
+        }
+        return deadline;
+    }
+
+    /**
+     * 비동기를 지원하지 않는 환경(Mock 등)에서는 Deadline까지 현재 스레드에서 결과를 기다린다.
+     */
+    private ModelAndView awaitAsyncResult(HttpServletRequest request, HttpServletResponse response,
+        HandlerAdapter handlerAdapter, Object handler, CompletionStage<?> asyncResult) throws Exception {
+        RequestDeadline deadline = RequestDeadline.from(request);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        asyncResult.whenComplete((value, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(value);
+            }
+        });
+
+        Object result;
         try {
-            handlerMethod = requestMappingHandlerMapping.getHandlerMethod(request);
-            HandlerAdapter handlerAdapter = getHandlerAdapter(handlerMethod);
-            modelAndView = handlerAdapter.handle(request, response, handlerMethod);
-        } catch (Exception exception) {
-            // Handler 실행 예외는 ExceptionResolver 체인으로 넘긴다.
-            dispatchException = exception;
+            result = deadline.hasDeadline() ? future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS) : future.get();
+        } catch (TimeoutException e) {
+            cancelQuietly(asyncResult);
+            throw new DeadlineExceededException(deadline);
+        } catch (ExecutionException e) {
+            throw unwrapAsyncFailure(e.getCause());
+        }
+        return handlerAdapter.handleAsyncResult(request, response, handler, result);
+    }
+
+    private static Exception unwrapAsyncFailure(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception ? (Exception) cause : new ServletException("Async handler failed", cause);
+    }
+
+    private static void cancelQuietly(CompletionStage<?> asyncResult) {
+        try {
+            asyncResult.toCompletableFuture().cancel(true);
+        } catch (UnsupportedOperationException ignored) {
+            // 취소를 지원하지 않는 CompletionStage는 결과를 버리기만 한다.
+        }
+    }
+
+    /**
+     * 라우트의 요청 제한을 적용한다. 제한을 넘으면 미리 만들어 둔 429/503 응답을 Write한다.
+     *
+     * @return 요청을 계속 처리하면 {@code true}, 거절했으면 {@code false}
+     */
+    private boolean acquireLimits(RequestLimiter limiter, HttpServletRequest request, HttpServletResponse response,
+        RouteMetrics routeMetrics) throws IOException {
+        long retryAfterNanos = limiter.tryAcquirePermit(request);
+        if (retryAfterNanos > 0) {
+            if (routeMetrics != null) {
+                routeMetrics.rateLimited();
+            }
+            RequestLimiter.writeTooManyRequests(response, retryAfterNanos);
+            return false;
+        }
+
+        if (!limiter.tryAcquireConcurrency()) {
+            if (routeMetrics != null) {
+                routeMetrics.concurrencyLimited();
+            }
+            RequestLimiter.writeServiceUnavailable(response);
+            return false;
+        }
+        return true;
+    }
+
+    private void applyPostHandle(HandlerInterceptor[] interceptors, HttpServletRequest request,
+        HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].postHandle(request, response, handler, modelAndView);
+        }
+    }
+
+    /**
+     * preHandle이 {@code true}를 반환한 인터셉터의 afterCompletion을 역순으로 호출한다.
+     * afterCompletion의 예외는 응답에 영향을 주지 않도록 기록만 하고 무시한다.
+     */
+    private void triggerAfterCompletion(HandlerInterceptor[] interceptors, int preHandled,
+        HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        for (int i = preHandled - 1; i >= 0; i--) {
+            try {
+                interceptors[i].afterCompletion(request, response, handler, exception);
+            } catch (Exception ex) {
+                System.err.println("HandlerInterceptor.afterCompletion threw exception in "
+                    + interceptors[i].getClass().getName() + " - " + ex.getClass().getSimpleName() + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    private void commitDispatchEvent(Object dispatchEvent, HttpServletRequest request, HttpServletResponse response,
+        Object handler, RouteMetrics routeMetrics, Throwable failure) {
+        String route;
+        if (routeMetrics != null) {
+            route = routeMetrics.getRoute();
+        } else if (handler instanceof HandlerMethod && ((HandlerMethod) handler).getRequestMappingInfo() != null) {
+            route = ((HandlerMethod) handler).getRequestMappingInfo().getUrlPattern();
+        } else {
+            route = MetricsRegistry.OTHER_ROUTE;
+        }
+        RequestContext requestContext = RequestContext.from(request);
+        String requestId = requestContext != null ? requestContext.getRequestId() : null;
+
+        WinterFlightEvents.DISPATCH.commit(dispatchEvent, request.getMethod(), request.getRequestURI(), route,
+            resolveStatus(response, failure), requestId);
+    }
+
+    /**
+     * 매칭된 핸들러의 라우트에 진행 중 요청을 기록한다.
+     *
+     * @return 기록을 시작한 {@link RouteMetrics}, 지표를 기록하지 않으면 {@code null}
+     */
+    private RouteMetrics startRouteMetrics(Object handler) {
+        if (metricsRegistry == null || !(handler instanceof HandlerMethod)) {
+            return null;
+        }
+
+        RouteMetrics routeMetrics =
+            metricsRegistry.getRouteMetrics(((HandlerMethod) handler).getRequestMappingInfo());
+        routeMetrics.requestStarted();
+        return routeMetrics;
+    }
+
+    /**
+     * 요청 처리 결과를 라우트 지표에 기록한다.
+     *
+     * <p>응답 크기는 Content-Length 기준이며, 길이를 알 수 없는 응답(chunked)은 집계되지 않는다.
+     * 예외가 밖으로 전파되었으면 서블릿 컨테이너가 응답할 500으로 기록한다.
+     */
+    private void recordMetrics(HttpServletRequest request, HttpServletResponse response,
+        RouteMetrics routeMetrics, long startNanos, Exception dispatchException, Throwable failure) {
+        long latencyNanos = System.nanoTime() - startNanos;
+        int status = resolveStatus(response, failure);
+        Throwable exception = failure != null ? failure : dispatchException;
+        long requestBytes = request.getContentLengthLong();
+        long responseBytes = parseContentLength(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+
+        if (routeMetrics != null) {
+            routeMetrics.requestCompleted(status, latencyNanos, requestBytes, responseBytes, exception);
+        } else {
+            metricsRegistry.getOtherRouteMetrics().record(status, latencyNanos, requestBytes, responseBytes, exception);
         }
+    }
 
-        processDispatchResult(request, response, handlerMethod, modelAndView, dispatchException);
+    /**
+     * 접근 로그 항목을 링 버퍼에 넣는다. 파일 쓰기는 {@link AccessLog}의 Writer 스레드가 한다.
+     */
+    private void logAccess(HttpServletRequest request, HttpServletResponse response, Object handler,
+        long startNanos, Throwable failure) {
+        String route = handler instanceof HandlerMethod && ((HandlerMethod) handler).getRequestMappingInfo() != null
+            ? ((HandlerMethod) handler).getRequestMappingInfo().getUrlPattern()
+            : request.getRequestURI();
+        RequestContext requestContext = RequestContext.from(request);
+        accessLog.log(request.getRemoteAddr(), request.getMethod(), route, resolveStatus(response, failure),
+            parseContentLength(response.getHeader(HttpHeaders.CONTENT_LENGTH)), System.nanoTime() - startNanos,
+            requestContext != null ? requestContext.getRequestId() : null);
+    }
+
+    /**
+     * 예외가 밖으로 전파되었으면 서블릿 컨테이너가 응답할 500을, 아니면 응답의 상태 코드를 반환한다.
+     */
+    private int resolveStatus(HttpServletResponse response, Throwable failure) {
+        return (failure != null && !response.isCommitted())
+            ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+            : response.getStatus();
+    }
+
+    private long parseContentLength(String contentLength) {
+        if (contentLength == null) {
+            return -1L;
+        }
+
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * 요청을 처리할 핸들러를 찾는다.
+     *
+     * <p>{@link RequestMappingHandlerMapping}을 먼저 조회하고,
+     * 매핑된 메소드가 없을 때만 {@link ResourceHandlerMapping}을 조회한다.
+     *
+     * @param request HttpServletRequest 객체
+     * @return 요청을 처리할 핸들러
+     * @throws ServletException 매핑된 핸들러가 없는 경우
+     */
+    private Object getHandler(HttpServletRequest request) throws ServletException {
+        try {
+            return requestMappingHandlerMapping.getHandlerMethod(request);
+        } catch (NoHandlerFoundException exception) {
+            ResourceHttpRequestHandler resourceHandler = resourceHandlerMapping.getHandler(request);
+            if (resourceHandler != null) {
+                return resourceHandler;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * 정적 리소스로 보이는 요청을 서블릿 컨테이너의 DefaultHandler로 위임한다.
+     *
+     * @param request  HttpServletRequest 객체
+     * @param response HttpServletResponse 객체
+     * @return 위임했으면 {@code true}, 그렇지 않으면 {@code false}
+     * @throws ServletException 서블릿 예외 발생 시
+     * @throws IOException      입출력 예외 발생 시
+     */
+    private boolean forwardToDefaultServlet(HttpServletRequest request, HttpServletResponse response)
+        throws ServletException, IOException {
+        if (!isStaticResource(request)) {
+            return false;
+        }
+
+        // 서블릿 컨테이너 밖(Mock 환경 등)에서는 위임할 DefaultHandler가 없다.
+        ServletContext servletContext = request.getServletContext();
+        if (servletContext == null) {
+            return false;
+        }
+
+        RequestDispatcher dispatcher = servletContext.getNamedDispatcher("default");
+        if (dispatcher == null) {
+            return false;
+        }
+
+        dispatcher.forward(request, response);
+        return true;
     }
 
     /**
@@ -196,13 +633,19 @@ public class DispatcherServlet extends HttpServlet {
     ) throws ServletException, IOException {
 
         if (!response.isCommitted()) {
-            // 예외를 처리하지 못하면 다음 resolver로 넘기고, 먼저 처리한 resolver의 결과를 반환한다.
-            for (ExceptionResolver resolver : exceptionResolvers) {
-                ModelAndView resolvedModelAndView =
-                    resolver.resolveException(request, response, handler, exception);
-                if (resolvedModelAndView != null) {
-                    return resolvedModelAndView;
+            Object resolutionEvent = WinterFlightEvents.EXCEPTION_RESOLUTION.begin();
+            ModelAndView resolvedModelAndView = null;
+            try {
+                // 예외를 처리하지 못하면 다음 resolver로 넘기고, 먼저 처리한 resolver의 결과를 반환한다.
+                for (ExceptionResolver resolver : exceptionResolvers) {
+                    resolvedModelAndView = resolver.resolveException(request, response, handler, exception);
+                    if (resolvedModelAndView != null) {
+                        return resolvedModelAndView;
+                    }
                 }
+            } finally {
+                WinterFlightEvents.EXCEPTION_RESOLUTION.commit(
+                    resolutionEvent, exception.getClass(), resolvedModelAndView != null);
             }
         }
 
@@ -254,42 +697,20 @@ public class DispatcherServlet extends HttpServlet {
     }
 
     /**
-     * 정적 리소스 요청 여부를 확인하고 필요한 MIME 타입을 설정한다.
+     * 정적 리소스 요청 여부를 확인한다.
+     * MIME 타입은 DefaultHandler가 확장자로 결정하므로 여기서 설정하지 않는다.
      *
-     * @param request  HttpServletRequest 객체
-     * @param response HttpServletResponse 객체
-     * @return 정적 리소스 요청이면 {@code true}, 그렇지 않으면 {@code false}
+     * @param request HttpServletRequest 객체
+     * @return 루트 또는 확장자가 있는 경로면 {@code true}, 그렇지 않으면 {@code false}
      */
-    private boolean isStaticResource(HttpServletRequest request, HttpServletResponse response) {
+    private boolean isStaticResource(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
-
-
-        if (requestURI.equals("/") || requestURI.endsWith(".jsp") || requestURI.endsWith(".html")) {
-            response.setContentType("text/html"); // MIME 타입 설정
-            return true;
-        }
-
-        String accept = request.getHeader("Accept");
-        if (accept == null || accept.trim().isEmpty()) {
-            return false;
-        }
-
-        if (accept.startsWith("text/css")) {
-            response.setContentType("text/css");
-            return true;
-        }
-
-        if (accept.startsWith("/css")) {
-            response.setContentType("text/css");
-            return true;
-        }
-
-        if (accept.startsWith("image/")) {
-            response.setContentType("image/png");
+        if (requestURI.equals("/")) {
             return true;
         }
 
-        return false;
+        String lastSegment = requestURI.substring(requestURI.lastIndexOf('/') + 1);
+        return lastSegment.lastIndexOf('.') > 0;
     }
 
     /**
@@ -307,4 +728,151 @@ public class DispatcherServlet extends HttpServlet {
 
         throw new IllegalArgumentException("No adapter for handler [" + handler.getClass() + "]");
     }
+
+    /**
+     * {@link CompletionStage}를 반환한 요청의 비동기 처리 상태.
+     *
+     * <p>결과 완료, Deadline 초과(AsyncContext 타임아웃), 컨테이너 오류 중 먼저 일어난 하나만 응답을 Write한다.
+     * 동시 처리 슬롯과 인터셉터의 afterCompletion, 지표 기록은 응답이 완료된 뒤({@link #onComplete})에 처리하므로
+     * 비동기 요청도 실제 처리 시간 동안 Bulkhead를 점유하고, 지연 시간에 대기 시간이 포함된다.
+     */
+    private final class AsyncDispatch implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final Object handler;
+        private final HandlerAdapter handlerAdapter;
+        private final HandlerInterceptor[] interceptors;
+        private final int preHandled;
+        private final RequestLimiter acquiredLimiter;
+        private final RouteMetrics routeMetrics;
+        private final long startNanos;
+        private final Object dispatchEvent;
+        private final RequestDeadline deadline;
+        private final RequestContext requestContext;
+        private final AtomicBoolean resolved = new AtomicBoolean();
+        private AsyncContext asyncContext;
+        private CompletionStage<?> asyncResult;
+        private volatile Exception dispatchException;
+        private volatile Throwable failure;
+
+        private AsyncDispatch(HttpServletRequest request, HttpServletResponse response, Object handler,
+            HandlerAdapter handlerAdapter, HandlerInterceptor[] interceptors, int preHandled,
+            RequestLimiter acquiredLimiter, RouteMetrics routeMetrics, long startNanos, Object dispatchEvent) {
+            this.request = request;
+            this.response = response;
+            this.handler = handler;
+            this.handlerAdapter = handlerAdapter;
+            this.interceptors = interceptors;
+            this.preHandled = preHandled;
+            this.acquiredLimiter = acquiredLimiter;
+            this.routeMetrics = routeMetrics;
+            this.startNanos = startNanos;
+            this.dispatchEvent = dispatchEvent;
+            this.deadline = RequestDeadline.from(request);
+            this.requestContext = RequestContext.from(request);
+        }
+
+        /**
+         * 요청을 비동기로 전환한다. Deadline이 있으면 남은 시간을 AsyncContext 타임아웃으로 사용하고,
+         * 없으면 컨테이너 기본값(Jetty 30초)이 Deadline 초과로 응답되지 않도록 타임아웃을 사용하지 않는다.
+         * 결과가 이미 완료되었으면 현재 스레드에서 응답을 Write하며, 완료는 서블릿 처리가 끝난 뒤 반영된다.
+         */
+        private void start(CompletionStage<?> asyncResult) {
+            this.asyncResult = asyncResult;
+            asyncContext = request.startAsync(request, response);
+            asyncContext.setTimeout(deadline.hasDeadline()
+                ? Math.max(1L, deadline.remaining(TimeUnit.MILLISECONDS))
+                : 0L);
+            asyncContext.addListener(this);
+            asyncResult.whenComplete(this::onResult);
+        }
+
+        private void onResult(Object value, Throwable error) {
+            if (!resolved.compareAndSet(false, true)) {
+                return;
+            }
+
+            // 결과를 완료한 스레드에서도 반환값 처리와 postHandle이 같은 요청 Context를 보도록 한다.
+            RequestContext previous = requestContext != null ? requestContext.attach() : null;
+            try {
+                ModelAndView modelAndView = null;
+                Exception exception = error != null ? unwrapAsyncFailure(error) : null;
+                if (exception == null) {
+                    try {
+                        modelAndView = handlerAdapter.handleAsyncResult(request, response, handler, value);
+                        applyPostHandle(interceptors, request, response, handler, modelAndView);
+                    } catch (Exception ex) {
+                        exception = ex;
+                    }
+                }
+                writeAndComplete(modelAndView, exception);
+            } finally {
+                if (requestContext != null) {
+                    RequestContext.restore(previous);
+                }
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (!resolved.compareAndSet(false, true)) {
+                return;
+            }
+
+            cancelQuietly(asyncResult);
+            RequestContext previous = requestContext != null ? requestContext.attach() : null;
+            try {
+                writeAndComplete(null, new DeadlineExceededException(deadline));
+            } finally {
+                if (requestContext != null) {
+                    RequestContext.restore(previous);
+                }
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (!resolved.compareAndSet(false, true)) {
+                return;
+            }
+
+            failure = event.getThrowable();
+            cancelQuietly(asyncResult);
+            asyncContext.complete();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            RequestContext previous = requestContext != null ? requestContext.attach() : null;
+            try {
+                completeDispatch(request, response, handler, interceptors, preHandled, acquiredLimiter,
+                    routeMetrics, startNanos, dispatchEvent, dispatchException, failure);
+            } finally {
+                if (requestContext != null) {
+                    RequestContext.restore(previous);
+                }
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void writeAndComplete(ModelAndView modelAndView, Exception exception) {
+            dispatchException = exception;
+            try {
+                processDispatchResult(request, response, handler, modelAndView, exception);
+            } catch (Exception | Error ex) {
+                failure = ex;
+                System.err.println("Async request processing failed for " + request.getRequestURI()
+                    + " - " + ex.getClass().getSimpleName() + ": " + ex.getMessage());
+                if (!response.isCommitted()) {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+            } finally {
+                asyncContext.complete();
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package froggy.winterframework.web;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * MVC 패턴에서 Model(데이터)과 View(화면 정보)를 함께 관리하는 객체.
@@ -13,6 +14,7 @@ public class ModelAndView {
     private String view;
     private Map<String, Object> model;
     private boolean requestHandled;
+    private CompletionStage<?> asyncResult;
 
     public ModelAndView(String view) {
         this(view, new HashMap<String, Object>());
@@ -55,4 +57,15 @@ public class ModelAndView {
     public void setRequestHandled(boolean requestHandled) {
         this.requestHandled = requestHandled;
     }
+
+    /**
+     * 핸들러가 반환한 비동기 결과. 값이 있으면 DispatcherServlet이 요청을 비동기로 전환한다.
+     */
+    public CompletionStage<?> getAsyncResult() {
+        return asyncResult;
+    }
+
+    public void setAsyncResult(CompletionStage<?> asyncResult) {
+        this.asyncResult = asyncResult;
+    }
 }
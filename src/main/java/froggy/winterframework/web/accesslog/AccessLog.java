@@ -0,0 +1,345 @@
+package froggy.winterframework.web.accesslog;
+
+import froggy.winterframework.beans.factory.DisposableBean;
+import froggy.winterframework.beans.factory.InitializingBean;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드를 파일 I/O로 막지 않는 비동기 접근 로그.
+ *
+ * <p>{@code DispatcherServlet}이 요청을 마칠 때 {@link #log}로 항목을 링 버퍼에 넣기만 하고,
+ * 백그라운드 Writer 스레드가 버퍼를 비우며 여러 줄을 모아 {@link FileChannel}에 한 번에 쓴다.
+ * 버퍼가 가득 차면 요청 스레드는 기다리지 않고 항목을 버리며, 버린 수는 {@link #getDroppedCount()}로 조회한다.
+ *
+ * <p>한 줄의 형식은 다음과 같다. 응답 크기를 알 수 없으면(chunked) {@code -}, 지연 시간은 μs 단위,
+ * 마지막 값은 요청 ID({@code RequestContext})이며 없으면 {@code -}.
+ * <pre>
+ * 2026-01-01T09:00:00.123Z 10.0.0.1 GET /users/{id} 200 512 1834 k3f9x2-1a7
+ * </pre>
+ *
+ * <p>파일 크기가 {@code maxFileSize}를 넘거나 {@code rotateIntervalMillis}가 지나면
+ * 현재 파일을 {@code access.log.20260101-090000-123} 형태로 옮기고 새 파일에 이어 쓴다.
+ */
+public class AccessLog implements InitializingBean, DisposableBean {
+
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_FIELD_CHARS = 512;
+    /** 한 줄이 차지할 수 있는 최대 바이트 수, 남은 공간이 이보다 작으면 먼저 파일에 쓴다. */
+    private static final int MAX_LINE_BYTES = MAX_FIELD_CHARS * 4 + 128;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long REOPEN_INITIAL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long REOPEN_MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final DateTimeFormatter TIMESTAMP_SECONDS =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter ROTATED_SUFFIX =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final boolean enabled;
+    private final Path file;
+    private final long maxFileSize;
+    private final long rotateIntervalMillis;
+    private final AccessLogBuffer buffer;
+
+    // 이하 Writer 스레드 전용
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+    private final byte[] timestampPrefix = new byte[20];
+    private long timestampPrefixSecond = Long.MIN_VALUE;
+    private FileChannel channel;
+    private long fileSize;
+    private long fileOpenedMillis;
+    /** 파일을 다시 열지 못하는 동안의 재시도 간격, 열려 있으면 0 */
+    private long reopenBackoffNanos;
+    private long nextReopenNanos;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * @param enabled              {@code false}이면 Writer 스레드를 시작하지 않는다
+     * @param file                 로그 파일 경로
+     * @param bufferSize           링 버퍼의 항목 수, 2의 거듭제곱으로 올림한다
+     * @param maxFileSize          이 크기(byte)를 넘으면 파일을 교체, 0이면 크기로 교체하지 않음
+     * @param rotateIntervalMillis 이 시간(ms)이 지나면 파일을 교체, 0이면 시간으로 교체하지 않음
+     */
+    public AccessLog(boolean enabled, Path file, int bufferSize, long maxFileSize, long rotateIntervalMillis) {
+        this.enabled = enabled;
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.rotateIntervalMillis = rotateIntervalMillis;
+        this.buffer = new AccessLogBuffer(enabled ? bufferSize : 2);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        openFile();
+        running = true;
+        writer = new Thread(this::runWriter, "winter-access-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 접근 로그 항목을 기록한다. 버퍼가 가득 차면 기다리지 않고 버린다.
+     *
+     * @param client       클라이언트 주소
+     * @param method       HTTP Method
+     * @param route        매칭된 라우트의 URL 패턴, 없으면 요청 URI
+     * @param status       응답 상태 코드
+     * @param bytes        응답 크기, 알 수 없으면 -1
+     * @param latencyNanos 처리 시간 (ns)
+     * @param requestId    요청 ID, 없으면 {@code null}
+     * @return 기록했으면 {@code true}
+     */
+    public boolean log(String client, String method, String route, int status, long bytes, long latencyNanos,
+        String requestId) {
+        return buffer.offer(System.currentTimeMillis(), client, method, route, status, bytes, latencyNanos,
+            requestId);
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 항목 수.
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public int getBufferCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Writer 스레드를 멈춘다. 버퍼에 남은 항목을 모두 쓴 뒤 파일을 닫는다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void runWriter() {
+        try {
+            while (running) {
+                if (channel == null && !reopenIfDue()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    continue;
+                }
+                if (!drain()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                rotateIfNeeded();
+            }
+            if (channel != null || reopen()) {
+                drain();
+            }
+        } finally {
+            closeFile();
+        }
+    }
+
+    /**
+     * 버퍼의 항목을 모아 파일에 쓴다.
+     *
+     * @return 쓴 항목이 있으면 {@code true}
+     */
+    private boolean drain() {
+        boolean drained = false;
+        AccessLogEntry entry;
+        while ((entry = buffer.peek()) != null) {
+            if (writeBuffer.remaining() < MAX_LINE_BYTES) {
+                flush();
+            }
+            appendLine(entry);
+            buffer.release();
+            drained = true;
+        }
+        flush();
+        return drained;
+    }
+
+    private void appendLine(AccessLogEntry entry) {
+        appendTimestamp(entry.timestampMillis);
+        writeBuffer.put((byte) ' ');
+        appendField(entry.client);
+        writeBuffer.put((byte) ' ');
+        appendField(entry.method);
+        writeBuffer.put((byte) ' ');
+        appendField(entry.route);
+        writeBuffer.put((byte) ' ');
+        appendNumber(entry.status);
+        writeBuffer.put((byte) ' ');
+        if (entry.bytes >= 0) {
+            appendNumber(entry.bytes);
+        } else {
+            writeBuffer.put((byte) '-');
+        }
+        writeBuffer.put((byte) ' ');
+        appendNumber(TimeUnit.NANOSECONDS.toMicros(entry.latencyNanos));
+        writeBuffer.put((byte) ' ');
+        appendField(entry.requestId);
+        writeBuffer.put((byte) '\n');
+    }
+
+    /**
+     * 초 단위까지의 문자열은 초가 바뀔 때만 다시 만든다.
+     */
+    private void appendTimestamp(long timestampMillis) {
+        long second = Math.floorDiv(timestampMillis, 1000L);
+        if (second != timestampPrefixSecond) {
+            String prefix = TIMESTAMP_SECONDS.format(Instant.ofEpochSecond(second));
+            for (int i = 0; i < timestampPrefix.length; i++) {
+                timestampPrefix[i] = (byte) prefix.charAt(i);
+            }
+            timestampPrefixSecond = second;
+        }
+
+        int millis = (int) Math.floorMod(timestampMillis, 1000L);
+        writeBuffer.put(timestampPrefix);
+        writeBuffer.put((byte) ('0' + millis / 100));
+        writeBuffer.put((byte) ('0' + millis / 10 % 10));
+        writeBuffer.put((byte) ('0' + millis % 10));
+        writeBuffer.put((byte) 'Z');
+    }
+
+    /**
+     * 공백과 제어 문자, ASCII 밖의 문자는 {@code ?}로 바꿔 한 줄이 한 항목이 되도록 한다.
+     */
+    private void appendField(String value) {
+        if (value == null || value.isEmpty()) {
+            writeBuffer.put((byte) '-');
+            return;
+        }
+
+        int length = Math.min(value.length(), MAX_FIELD_CHARS);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            writeBuffer.put(c > ' ' && c < 0x7F ? (byte) c : (byte) '?');
+        }
+    }
+
+    private void appendNumber(long value) {
+        if (value < 0) {
+            writeBuffer.put((byte) '-');
+            value = -value;
+        }
+        if (value >= 10) {
+            appendNumber(value / 10);
+        }
+        writeBuffer.put((byte) ('0' + value % 10));
+    }
+
+    private void flush() {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                fileSize += channel.write(writeBuffer);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write access log '" + file + "': " + e.getMessage());
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void rotateIfNeeded() {
+        if (fileSize == 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean sizeExceeded = maxFileSize > 0 && fileSize >= maxFileSize;
+        boolean intervalElapsed = rotateIntervalMillis > 0 && now - fileOpenedMillis >= rotateIntervalMillis;
+        if (!sizeExceeded && !intervalElapsed) {
+            return;
+        }
+
+        closeFile();
+        try {
+            Path rotated = file.resolveSibling(file.getFileName() + "." + ROTATED_SUFFIX.format(Instant.ofEpochMilli(now)));
+            Files.move(file, rotated);
+        } catch (IOException e) {
+            System.err.println("Failed to rotate access log '" + file + "': " + e.getMessage());
+        }
+
+        reopen();
+    }
+
+    private boolean reopenIfDue() {
+        return System.nanoTime() - nextReopenNanos >= 0 && reopen();
+    }
+
+    /**
+     * 교체 후 파일을 다시 연다. 실패하면 Writer는 멈추지 않고 간격을 두 배씩 늘려(최대 30초) 다시 시도하며,
+     * 로그는 처음 실패했을 때 한 번만 남긴다. 그동안 들어온 항목은 버퍼에 남고, 버퍼가 가득 차면 버려진 항목으로 집계된다.
+     *
+     * @return 파일을 열었으면 {@code true}
+     */
+    private boolean reopen() {
+        try {
+            openFile();
+        } catch (IOException e) {
+            if (reopenBackoffNanos == 0) {
+                System.err.println("Failed to reopen access log '" + file + "', retrying: " + e.getMessage());
+                reopenBackoffNanos = REOPEN_INITIAL_BACKOFF_NANOS;
+            } else {
+                reopenBackoffNanos = Math.min(reopenBackoffNanos * 2, REOPEN_MAX_BACKOFF_NANOS);
+            }
+            nextReopenNanos = System.nanoTime() + reopenBackoffNanos;
+            return false;
+        }
+
+        if (reopenBackoffNanos != 0) {
+            System.out.println("Reopened access log '" + file + "'");
+            reopenBackoffNanos = 0;
+        }
+        return true;
+    }
+
+    private void openFile() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+        fileOpenedMillis = System.currentTimeMillis();
+    }
+
+    private void closeFile() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close access log '" + file + "': " + e.getMessage());
+        } finally {
+            channel = null;
+        }
+    }
+}
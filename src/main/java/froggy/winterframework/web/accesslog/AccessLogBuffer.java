@@ -0,0 +1,89 @@
+package froggy.winterframework.web.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 요청 스레드가 쓰고 Writer 스레드 하나가 읽는 고정 크기 링 버퍼.
+ *
+ * <p>슬롯마다 시퀀스 번호를 두어, 생산자는 쓰기 위치를 CAS로 확보하고 값을 채운 뒤 시퀀스를 올려 공개한다.
+ * 잠금이 없고 항목 객체는 미리 할당되어 재사용된다. 버퍼가 가득 차면 기다리지 않고 항목을 버리며 버린 수를 센다.
+ */
+final class AccessLogBuffer {
+
+    private final AccessLogEntry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    /** Writer 스레드만 접근한다. */
+    private long head;
+
+    AccessLogBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.entries = new AccessLogEntry[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new AccessLogEntry();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 항목을 추가한다. 버퍼가 가득 차면 기다리지 않고 버린다.
+     *
+     * @return 추가했으면 {@code true}
+     */
+    boolean offer(long timestampMillis, String client, String method, String route, int status, long bytes,
+        long latencyNanos, String requestId) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries[index].set(timestampMillis, client, method, route, status, bytes, latencyNanos, requestId);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // Writer가 아직 읽지 않은 슬롯까지 한 바퀴를 돌았다.
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 다음에 읽을 항목을 반환한다. Writer 스레드에서만 호출한다.
+     *
+     * @return 공개된 항목, 없으면 {@code null}
+     */
+    AccessLogEntry peek() {
+        int index = (int) (head & mask);
+        return sequences.get(index) == head + 1 ? entries[index] : null;
+    }
+
+    /**
+     * {@link #peek()}으로 읽은 항목의 슬롯을 생산자에게 돌려준다.
+     */
+    void release() {
+        int index = (int) (head & mask);
+        entries[index].clear();
+        sequences.lazySet(index, head + entries.length);
+        head++;
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+}
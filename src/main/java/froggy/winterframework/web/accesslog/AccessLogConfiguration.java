@@ -0,0 +1,40 @@
+package froggy.winterframework.web.accesslog;
+
+import froggy.winterframework.beans.factory.annotation.Autowired;
+import froggy.winterframework.context.annotation.Bean;
+import froggy.winterframework.context.annotation.Configuration;
+import froggy.winterframework.core.env.Environment;
+import java.nio.file.Paths;
+
+/**
+ * {@link AccessLog}를 Bean으로 등록하는 구성 클래스.
+ *
+ * <pre>
+ * server.access-log.enabled=false           # 기본값, true이면 요청마다 한 줄을 기록
+ * server.access-log.file=logs/access.log
+ * server.access-log.buffer-size=8192        # 링 버퍼 항목 수, 가득 차면 버림
+ * server.access-log.max-file-size=104857600 # byte, 0이면 크기로 교체하지 않음
+ * server.access-log.rotate-interval=0       # ms, 0이면 시간으로 교체하지 않음
+ * </pre>
+ */
+@Configuration
+public class AccessLogConfiguration {
+
+    private final Environment environment;
+
+    @Autowired
+    public AccessLogConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public AccessLog accessLog() {
+        return new AccessLog(
+            environment.getProperty("server.access-log.enabled", Boolean.class, false),
+            Paths.get(environment.getProperty("server.access-log.file", "logs/access.log")),
+            environment.getProperty("server.access-log.buffer-size", Integer.class, 8192),
+            environment.getProperty("server.access-log.max-file-size", Long.class, 100L * 1024 * 1024),
+            environment.getProperty("server.access-log.rotate-interval", Long.class, 0L)
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package froggy.winterframework.web.accesslog;
+
+/**
+ * {@link AccessLogBuffer}에 미리 할당되어 재사용되는 접근 로그 항목.
+ *
+ * <p>생산자가 슬롯을 확보한 뒤 값을 채우고, Writer 스레드가 읽은 뒤 슬롯을 반환하므로
+ * 한 시점에 하나의 스레드만 접근한다.
+ */
+final class AccessLogEntry {
+
+    long timestampMillis;
+    String client;
+    String method;
+    String route;
+    int status;
+    long bytes;
+    long latencyNanos;
+    String requestId;
+
+    void set(long timestampMillis, String client, String method, String route, int status, long bytes,
+        long latencyNanos, String requestId) {
+        this.timestampMillis = timestampMillis;
+        this.client = client;
+        this.method = method;
+        this.route = route;
+        this.status = status;
+        this.bytes = bytes;
+        this.latencyNanos = latencyNanos;
+        this.requestId = requestId;
+    }
+
+    /**
+     * 문자열 참조를 놓아 요청 객체가 슬롯에 붙잡혀 있지 않게 한다.
+     */
+    void clear() {
+        this.client = null;
+        this.method = null;
+        this.route = null;
+        this.requestId = null;
+    }
+}
@@ -0,0 +1,44 @@
+package froggy.winterframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 메소드의 직렬화된 응답(Body와 Header)을 캐시하는 어노테이션.
+ *
+ * <p>GET 요청에만 적용되며, 캐시가 유효한 동안에는 핸들러 메소드와 직렬화 과정을 건너뛰고
+ * 저장된 응답을 그대로 Write한다. 200 응답만 캐시하며 {@code Set-Cookie}가 포함된 응답은 캐시하지 않는다.
+ *
+ * <pre>{@code
+ * @CacheResponse(ttl = 30, key = {"id", "page"}, headers = "Accept-Language")
+ * @RequestMapping(value = "/items/{id}", method = RequestMethod.GET)
+ * }</pre>
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResponse {
+
+    /**
+     * 캐시 유지 시간.
+     */
+    long ttl() default 60;
+
+    /**
+     * {@link #ttl()}의 시간 단위.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 캐시 키에 포함할 {@link PathVariable}, {@link RequestParam} 이름.
+     * <p>비어 있으면 모든 경로 변수와 전체 Query String을 키로 사용한다.
+     */
+    String[] key() default {};
+
+    /**
+     * 캐시 키에 포함할 요청 Header 이름.
+     */
+    String[] headers() default {};
+}
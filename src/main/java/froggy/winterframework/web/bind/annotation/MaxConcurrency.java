@@ -0,0 +1,27 @@
+package froggy.winterframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메소드(또는 Controller의 모든 핸들러 메소드)를 동시에 처리할 수 있는 요청 수를 제한하는 어노테이션 (Bulkhead).
+ *
+ * <p>제한에 도달하면 대기하지 않고 즉시 {@code 503 Service Unavailable}과 {@code Retry-After: 1}로 응답한다.
+ * 메소드에 선언된 값이 클래스보다 우선하며, 클래스에 선언하면 메소드마다 별도의 한도를 가진다.
+ *
+ * <pre>{@code
+ * @MaxConcurrency(8)
+ * @RequestMapping(value = "/reports", method = RequestMethod.POST)
+ * }</pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxConcurrency {
+
+    /**
+     * 동시에 처리할 수 있는 최대 요청 수.
+     */
+    int value();
+}
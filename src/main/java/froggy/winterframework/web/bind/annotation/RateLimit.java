@@ -0,0 +1,51 @@
+package froggy.winterframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메소드(또는 Controller의 모든 핸들러 메소드)의 초당 요청 수를 토큰 버킷으로 제한하는 어노테이션.
+ *
+ * <p>허용량을 넘은 요청은 핸들러를 실행하지 않고 {@code 429 Too Many Requests}와
+ * 다음 토큰까지 남은 시간을 {@code Retry-After}(초)로 응답한다. 메소드에 선언된 값이 클래스보다 우선한다.
+ *
+ * <pre>{@code
+ * @RateLimit(permitsPerSecond = 10, burst = 20, keyBy = RateLimit.Key.HEADER, header = "X-Api-Key")
+ * @RequestMapping(value = "/search", method = RequestMethod.GET)
+ * }</pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 초당 보충되는 토큰 수.
+     */
+    double permitsPerSecond();
+
+    /**
+     * 버킷에 쌓일 수 있는 최대 토큰 수 (순간 허용량). 0 이하이면 {@link #permitsPerSecond()}를 올림한 값.
+     */
+    int burst() default 0;
+
+    /**
+     * 버킷을 나누는 기준. 기본값은 라우트 전체가 하나의 버킷을 공유한다.
+     */
+    Key keyBy() default Key.NONE;
+
+    /**
+     * {@link Key#HEADER}일 때 키로 사용할 요청 Header 이름. Header가 없는 요청은 하나의 버킷을 공유한다.
+     */
+    String header() default "";
+
+    enum Key {
+        /** 라우트 전체에 하나의 버킷 */
+        NONE,
+        /** {@link RateLimit#header()} 값별 버킷 */
+        HEADER,
+        /** 클라이언트 IP({@code ServletRequest#getRemoteAddr()})별 버킷 */
+        CLIENT_IP
+    }
+}
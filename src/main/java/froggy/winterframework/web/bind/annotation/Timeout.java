@@ -0,0 +1,40 @@
+package froggy.winterframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 메소드(또는 Controller의 모든 핸들러 메소드)의 처리 제한 시간을 지정하는 어노테이션.
+ *
+ * <p>요청이 시작되면 제한 시간이 {@code RequestDeadline}으로 변환되어 요청 범위에 보관된다.
+ * 요청의 {@code X-Request-Deadline}이 더 이르면 그 값이 사용된다. 메소드에 선언된 값이 클래스보다 우선하며,
+ * 둘 다 없으면 {@code server.request-timeout} 기본값을 사용한다.
+ *
+ * <ul>
+ *   <li>핸들러 호출 전에 이미 지났으면 핸들러를 호출하지 않고 503(요청 Header의 Deadline이면 504)으로 응답한다</li>
+ *   <li>{@code CompletionStage}를 반환하는 핸들러는 완료되기 전에 지나면 같은 상태 코드로 응답을 완료하고 결과를 취소한다</li>
+ *   <li>동기 핸들러는 스레드를 중단하지 않으므로, {@code RequestDeadline} 인자로 남은 시간을 확인해야 한다</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * @Timeout(500)
+ * @RequestMapping(value = "/search", method = RequestMethod.GET)
+ * }</pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+
+    /**
+     * 제한 시간. 0 이하면 기본값이 있더라도 제한 시간을 두지 않는다.
+     */
+    long value();
+
+    /**
+     * {@link #value()}의 단위. 기본값은 밀리초.
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
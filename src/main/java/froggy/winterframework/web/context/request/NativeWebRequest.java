@@ -26,4 +26,32 @@ public interface NativeWebRequest {
     String getParameter(String paramName);
     Object getAttribute(String name, int scope);
     void setAttribute(String name, Object value, int scope);
+
+    /**
+     * 주어진 ETag로 요청의 If-None-Match 조건을 검사한다.
+     * <p>변경되지 않았으면 응답 상태를 304로 설정하고 {@code true}를 반환한다.
+     * 핸들러는 {@code true}인 경우 Body 생성 없이 {@code null}을 반환하면 된다.
+     *
+     * @param eTag 현재 리소스의 ETag
+     * @return 변경되지 않았으면 {@code true}
+     */
+    boolean checkNotModified(String eTag);
+
+    /**
+     * 주어진 최종 수정 시각으로 요청의 If-Modified-Since 조건을 검사한다.
+     *
+     * @param lastModifiedTimestamp 현재 리소스의 최종 수정 시각 (epoch milliseconds)
+     * @return 변경되지 않았으면 {@code true}
+     */
+    boolean checkNotModified(long lastModifiedTimestamp);
+
+    /**
+     * ETag와 최종 수정 시각으로 요청의 조건부 헤더를 검사한다.
+     * <p>If-None-Match가 있으면 If-Modified-Since보다 우선한다.
+     *
+     * @param eTag                  현재 리소스의 ETag, 없으면 {@code null}
+     * @param lastModifiedTimestamp 현재 리소스의 최종 수정 시각, 없으면 음수
+     * @return 변경되지 않았으면 {@code true}
+     */
+    boolean checkNotModified(String eTag, long lastModifiedTimestamp);
 }
@@ -0,0 +1,120 @@
+package froggy.winterframework.web.context.request;
+
+import java.util.concurrent.Executor;
+import javax.servlet.ServletRequest;
+
+/**
+ * 요청 한 건을 식별하는 상관관계(Correlation) 정보.
+ *
+ * <p>{@code DispatcherServlet}이 요청 Header(기본 {@code X-Request-Id})의 값을 사용하거나 새 ID를 생성해 만들고,
+ * 요청 속성과 현재 스레드에 보관한 뒤 같은 Header로 응답에 돌려준다. 접근 로그와 JFR 요청 이벤트에도 기록된다.
+ * 핸들러 메소드의 인자로 받거나 {@link #current()}로 조회한다.
+ *
+ * <p>{@code CompletionStage}를 반환한 요청은 결과를 처리하는 스레드에서도 {@link #current()}가 유지된다.
+ * 핸들러가 직접 다른 스레드로 넘기는 작업은 {@link #wrap(Runnable)}이나 {@link #propagating(Executor)}로 감싸면
+ * 그 스레드에서도 같은 Context가 보인다.
+ *
+ * <pre>{@code
+ * public CompletionStage<Order> order(@PathVariable("id") long id, RequestContext requestContext) {
+ *     return CompletableFuture.supplyAsync(() -> repository.find(id), RequestContext.propagating(executor));
+ * }
+ * }</pre>
+ */
+public final class RequestContext {
+
+    /** 현재 요청의 Context를 보관하는 요청 속성 이름 */
+    public static final String ATTRIBUTE = RequestContext.class.getName();
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+
+    public RequestContext(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 요청의 Context.
+     *
+     * @return Context, 요청 처리 중이 아니면 {@code null}
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 요청 속성에 보관된 Context.
+     *
+     * @return Context, 없으면 {@code null}
+     */
+    public static RequestContext from(ServletRequest request) {
+        Object context = request.getAttribute(ATTRIBUTE);
+        return context instanceof RequestContext ? (RequestContext) context : null;
+    }
+
+    /**
+     * 현재 요청의 ID, 요청 처리 중이 아니면 {@code null}.
+     */
+    public static String currentRequestId() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context.requestId : null;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * 이 Context를 현재 스레드에 설정한다. 작업이 끝나면 반환값으로 {@link #restore(RequestContext)}를 호출해야 한다.
+     *
+     * @return 이전에 설정되어 있던 Context
+     */
+    public RequestContext attach() {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * {@link #attach()} 이전의 Context로 되돌린다.
+     *
+     * @param previous {@link #attach()}의 반환값
+     */
+    public static void restore(RequestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 실행하는 스레드에서 이 Context가 보이도록 작업을 감싼다.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            RequestContext previous = attach();
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 작업을 제출한 시점의 Context를 실행 스레드로 전달하는 Executor.
+     * 제출 시점에 Context가 없으면 작업을 그대로 넘긴다.
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> {
+            RequestContext context = CURRENT.get();
+            executor.execute(context != null ? context.wrap(task) : task);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return requestId;
+    }
+}
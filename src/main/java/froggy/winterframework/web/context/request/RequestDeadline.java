@@ -0,0 +1,172 @@
+package froggy.winterframework.web.context.request;
+
+import froggy.winterframework.web.servlet.DeadlineExceededException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletRequest;
+
+/**
+ * 요청 처리를 마쳐야 하는 시각.
+ *
+ * <p>{@code DispatcherServlet}이 라우트의 {@code @Timeout}(또는 {@code server.request-timeout})과
+ * 요청 Header {@value #HEADER} 중 더 이른 시각으로 만들어 요청 속성에 보관한다.
+ * 핸들러 메소드의 인자로 받아 남은 시간을 하위 호출의 제한 시간으로 넘기거나,
+ * 이미 늦은 작업을 시작하지 않도록 사용한다.
+ *
+ * <pre>{@code
+ * public Result search(@RequestParam("q") String q, RequestDeadline deadline) {
+ *     deadline.checkNotExpired();
+ *     return client.search(q, deadline.remaining(TimeUnit.MILLISECONDS));
+ * }
+ * }</pre>
+ */
+public final class RequestDeadline {
+
+    /** 호출자가 지정하는 Deadline Header. 값은 Epoch 밀리초. */
+    public static final String HEADER = "X-Request-Deadline";
+
+    /** 현재 요청의 Deadline을 보관하는 요청 속성 이름 */
+    public static final String ATTRIBUTE = RequestDeadline.class.getName();
+
+    /** Header 값을 이 범위 안으로 제한하여 잘못된 값으로 인한 오버플로를 막는다. */
+    private static final long MAX_HEADER_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private static final RequestDeadline NONE = new RequestDeadline(0L, 0L, Source.NONE);
+
+    /**
+     * Deadline이 정해진 근거.
+     */
+    public enum Source {
+        /** Deadline 없음 */
+        NONE,
+        /** 라우트의 {@code @Timeout} 또는 {@code server.request-timeout} */
+        TIMEOUT,
+        /** 요청 Header {@value RequestDeadline#HEADER} */
+        HEADER
+    }
+
+    /** {@link System#nanoTime()} 기준 시각 */
+    private final long deadlineNanos;
+    /** 하위 호출에 전달할 Epoch 밀리초 시각 */
+    private final long epochMillis;
+    private final Source source;
+
+    private RequestDeadline(long deadlineNanos, long epochMillis, Source source) {
+        this.deadlineNanos = deadlineNanos;
+        this.epochMillis = epochMillis;
+        this.source = source;
+    }
+
+    /**
+     * Deadline이 없는 인스턴스. 남은 시간은 항상 {@link Long#MAX_VALUE}다.
+     */
+    public static RequestDeadline none() {
+        return NONE;
+    }
+
+    /**
+     * 라우트 제한 시간과 요청 Header 중 더 이른 Deadline을 만든다.
+     *
+     * @param timeoutNanos 라우트 제한 시간 (ns), 0 이하면 없음
+     * @param headerValue  {@value #HEADER} 값, 없거나 숫자가 아니면 무시한다
+     * @return Deadline, 둘 다 없으면 {@link #none()}
+     */
+    public static RequestDeadline resolve(long timeoutNanos, String headerValue) {
+        if (timeoutNanos <= 0 && headerValue == null) {
+            return NONE;
+        }
+
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        RequestDeadline deadline = NONE;
+        if (timeoutNanos > 0) {
+            deadline = new RequestDeadline(nowNanos + timeoutNanos,
+                nowMillis + TimeUnit.NANOSECONDS.toMillis(timeoutNanos), Source.TIMEOUT);
+        }
+
+        long headerMillis = parseEpochMillis(headerValue);
+        if (headerMillis > 0) {
+            long remainingMillis = Math.max(-MAX_HEADER_MILLIS, Math.min(MAX_HEADER_MILLIS, headerMillis - nowMillis));
+            long headerNanos = nowNanos + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+            if (!deadline.hasDeadline() || headerNanos - deadline.deadlineNanos < 0) {
+                deadline = new RequestDeadline(headerNanos, nowMillis + remainingMillis, Source.HEADER);
+            }
+        }
+        return deadline;
+    }
+
+    /**
+     * 요청 속성에 보관된 Deadline을 반환한다.
+     *
+     * @return 현재 요청의 Deadline, 없으면 {@link #none()}
+     */
+    public static RequestDeadline from(ServletRequest request) {
+        Object deadline = request.getAttribute(ATTRIBUTE);
+        return deadline instanceof RequestDeadline ? (RequestDeadline) deadline : NONE;
+    }
+
+    public boolean hasDeadline() {
+        return source != Source.NONE;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * 남은 시간 (ns). 지났으면 0, Deadline이 없으면 {@link Long#MAX_VALUE}.
+     */
+    public long remainingNanos() {
+        if (!hasDeadline()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 남은 시간을 지정한 단위로 반환한다. 지났으면 0, Deadline이 없으면 {@link Long#MAX_VALUE}.
+     */
+    public long remaining(TimeUnit unit) {
+        return hasDeadline() ? unit.convert(remainingNanos(), TimeUnit.NANOSECONDS) : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return hasDeadline() && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Deadline이 지났으면 {@link DeadlineExceededException}을 던진다.
+     */
+    public void checkNotExpired() {
+        if (isExpired()) {
+            throw new DeadlineExceededException(this);
+        }
+    }
+
+    /**
+     * 하위 호출의 {@value #HEADER}에 그대로 전달할 값.
+     *
+     * @return Epoch 밀리초 문자열, Deadline이 없으면 {@code null}
+     */
+    public String toHeaderValue() {
+        return hasDeadline() ? Long.toString(epochMillis) : null;
+    }
+
+    private static long parseEpochMillis(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1L;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return hasDeadline()
+            ? "RequestDeadline[" + source + ", remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms]"
+            : "RequestDeadline[NONE]";
+    }
+}
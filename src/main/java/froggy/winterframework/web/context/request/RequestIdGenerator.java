@@ -0,0 +1,77 @@
+package froggy.winterframework.web.context.request;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code <node>-<counter>} 형태의 요청 ID를 만든다 (예: {@code k3f9x2-1a7}).
+ *
+ * <p>Node Prefix는 인스턴스마다 한 번 정하고, 이후에는 증가하는 카운터를 36진수로 붙이기만 하므로
+ * 요청마다 UUID나 난수를 만들지 않으며 ID 문자열 외의 할당이 없다.
+ * Prefix를 지정하지 않으면 임의 값을 사용하여 재시작이나 다른 인스턴스와 겹치지 않게 한다.
+ */
+public final class RequestIdGenerator {
+
+    /** 들어온 ID를 그대로 사용할 수 있는 최대 길이 */
+    public static final int MAX_REQUEST_ID_LENGTH = 128;
+
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    /** 36진수 long의 최대 자리 수 */
+    private static final int MAX_COUNTER_CHARS = 13;
+
+    private final char[] prefix;
+    private final AtomicLong counter = new AtomicLong();
+    private final ThreadLocal<char[]> scratch;
+
+    /**
+     * @param node Node Prefix, 비어 있으면 임의 값
+     */
+    public RequestIdGenerator(String node) {
+        String resolvedNode = node == null || node.trim().isEmpty() ? randomNode() : node.trim();
+        this.prefix = (resolvedNode + "-").toCharArray();
+        int length = prefix.length + MAX_COUNTER_CHARS;
+        this.scratch = ThreadLocal.withInitial(() -> new char[length]);
+    }
+
+    /**
+     * 새 요청 ID를 만든다.
+     */
+    public String next() {
+        long value = counter.incrementAndGet();
+        char[] buffer = scratch.get();
+        System.arraycopy(prefix, 0, buffer, 0, prefix.length);
+
+        int end = buffer.length;
+        int position = end;
+        do {
+            buffer[--position] = DIGITS[(int) (value % 36)];
+            value /= 36;
+        } while (value > 0);
+
+        int digits = end - position;
+        System.arraycopy(buffer, position, buffer, prefix.length, digits);
+        return new String(buffer, 0, prefix.length + digits);
+    }
+
+    /**
+     * 요청 Header로 받은 ID를 그대로 사용할 수 있는지 확인한다.
+     * 로그 한 줄을 깨뜨리거나 Header를 주입할 수 없도록 공백 없는 출력 가능한 ASCII만 허용한다.
+     */
+    public static boolean isValid(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            if (c <= ' ' || c >= 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String randomNode() {
+        return Long.toString(new SecureRandom().nextInt() & 0x7fffffffL, 36);
+    }
+}
@@ -1,5 +1,7 @@
 package froggy.winterframework.web.context.request;
 
+import froggy.winterframework.http.HttpHeaders;
+import java.util.Enumeration;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
@@ -12,6 +14,7 @@ public class ServletWebRequest implements NativeWebRequest {
 
     private final HttpServletRequest request;
     private final HttpServletResponse response;
+    private boolean notModified;
 
     public ServletWebRequest(HttpServletRequest request, HttpServletResponse response) {
         this.request = request;
@@ -73,4 +76,109 @@ public class ServletWebRequest implements NativeWebRequest {
             session.setAttribute(name, value);
         }
     }
+
+    @Override
+    public boolean checkNotModified(String eTag) {
+        return checkNotModified(eTag, -1);
+    }
+
+    @Override
+    public boolean checkNotModified(long lastModifiedTimestamp) {
+        return checkNotModified(null, lastModifiedTimestamp);
+    }
+
+    @Override
+    public boolean checkNotModified(String eTag, long lastModifiedTimestamp) {
+        if (this.notModified) {
+            return true;
+        }
+
+        // 조건부 GET은 안전한 메서드에만 적용한다.
+        if (!isSafeMethod()) {
+            return false;
+        }
+
+        String quotedETag = quoteETag(eTag);
+        boolean validated = false;
+        if (quotedETag != null) {
+            String ifNoneMatch = this.request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                this.notModified = matchesETag(quotedETag);
+                validated = true;
+            }
+        }
+
+        if (!validated && lastModifiedTimestamp >= 0) {
+            long ifModifiedSince = parseDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            if (ifModifiedSince != -1) {
+                // HTTP 날짜는 초 단위이므로 밀리초를 버리고 비교한다.
+                this.notModified = (lastModifiedTimestamp / 1000 * 1000) <= ifModifiedSince;
+            }
+        }
+
+        if (quotedETag != null && this.response.getHeader(HttpHeaders.ETAG) == null) {
+            this.response.setHeader(HttpHeaders.ETAG, quotedETag);
+        }
+        if (lastModifiedTimestamp >= 0 && this.response.getHeader(HttpHeaders.LAST_MODIFIED) == null) {
+            this.response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModifiedTimestamp);
+        }
+
+        if (this.notModified) {
+            this.response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        return this.notModified;
+    }
+
+    /**
+     * 이전 {@code checkNotModified} 호출로 304 응답이 결정되었는지 반환한다.
+     */
+    public boolean isNotModified() {
+        return this.notModified;
+    }
+
+    private boolean isSafeMethod() {
+        String method = this.request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * If-None-Match의 각 후보를 약한 비교(weak comparison)로 검사한다.
+     */
+    private boolean matchesETag(String eTag) {
+        String target = stripWeakPrefix(eTag);
+
+        Enumeration<String> ifNoneMatchHeaders = this.request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (ifNoneMatchHeaders != null && ifNoneMatchHeaders.hasMoreElements()) {
+            for (String candidate : ifNoneMatchHeaders.nextElement().split(",")) {
+                candidate = candidate.trim();
+                if ("*".equals(candidate) || stripWeakPrefix(candidate).equals(target)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long parseDateHeader(String headerName) {
+        try {
+            return this.request.getDateHeader(headerName);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 날짜 형식은 조건부 헤더가 없는 것으로 간주한다.
+            return -1;
+        }
+    }
+
+    private String quoteETag(String eTag) {
+        if (eTag == null || eTag.isEmpty()) {
+            return null;
+        }
+        if (eTag.startsWith("\"") || eTag.startsWith("W/\"")) {
+            return eTag;
+        }
+        return "\"" + eTag + "\"";
+    }
+
+    private String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
 }
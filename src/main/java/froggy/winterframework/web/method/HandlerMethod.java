@@ -1,7 +1,10 @@
 package froggy.winterframework.web.method;
 
 import froggy.winterframework.utils.WinterUtils;
+import froggy.winterframework.web.bind.annotation.CacheResponse;
 import froggy.winterframework.web.bind.annotation.PathVariable;
+import froggy.winterframework.web.servlet.HandlerInterceptor;
+import froggy.winterframework.web.servlet.limit.RequestLimiter;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 
@@ -13,12 +16,19 @@ import java.lang.reflect.Parameter;
  */
 public class HandlerMethod {
 
+    private static final HandlerInterceptor[] NO_INTERCEPTORS = new HandlerInterceptor[0];
+
     Object handlerInstance;
     Class<?> handlerType;
     private final Method method;
     private final Parameter[] parameters;
     private final Class<?>[] parameterTypes;
     private final Class<?> returnType;
+    private final CacheResponse cacheResponse;
+    private RequestMappingInfo requestMappingInfo;
+    private volatile HandlerInterceptor[] interceptors = NO_INTERCEPTORS;
+    private RequestLimiter requestLimiter;
+    private long timeoutNanos;
 
     private HandlerMethod(Object handlerInstance, Class<?> handlerType, Method method, Parameter[] parameters,
         Class<?>[] parameterTypes, Class<?> returnType) {
@@ -28,6 +38,7 @@ public class HandlerMethod {
         this.parameters = parameters;
         this.parameterTypes = parameterTypes;
         this.returnType = returnType;
+        this.cacheResponse = method.getAnnotation(CacheResponse.class);
     }
 
     public HandlerMethod(Object handlerInstance, Class<?> handlerType, Method method) {
@@ -96,6 +107,101 @@ public class HandlerMethod {
         return returnType;
     }
 
+    /**
+     * 비동기 결과를 처리할 때 사용할, 반환 타입만 결과 값의 타입으로 바꾼 사본을 만든다.
+     * {@code CompletionStage<ResponseEntity<T>>}의 결과를 {@code ResponseEntity} 처리기가 선택하도록 하는 데 사용한다.
+     *
+     * @param returnType 완료된 결과 값의 타입
+     * @return 매핑 정보를 공유하는 사본
+     */
+    public HandlerMethod withReturnType(Class<?> returnType) {
+        HandlerMethod copy = new HandlerMethod(handlerInstance, handlerType, method, parameters, parameterTypes,
+            returnType);
+        copy.requestMappingInfo = requestMappingInfo;
+        return copy;
+    }
+
+    /**
+     * 메소드에 선언된 {@link CacheResponse}를 반환.
+     *
+     * @return 응답 캐시 설정, 선언되지 않았으면 {@code null}
+     */
+    public CacheResponse getCacheResponse() {
+        return cacheResponse;
+    }
+
+    /**
+     * 이 메소드가 등록된 매핑 정보를 반환.
+     *
+     * @return 매핑 정보, HandlerMapping에 등록되지 않았으면 {@code null}
+     */
+    public RequestMappingInfo getRequestMappingInfo() {
+        return requestMappingInfo;
+    }
+
+    /**
+     * HandlerMapping에 등록될 때 매핑 정보를 설정.
+     *
+     * @param requestMappingInfo 등록된 매핑 정보
+     */
+    public void setRequestMappingInfo(RequestMappingInfo requestMappingInfo) {
+        this.requestMappingInfo = requestMappingInfo;
+    }
+
+    /**
+     * 이 라우트에 적용할 인터셉터를 실행 순서대로 반환.
+     *
+     * @return 등록 시 경로 패턴으로 걸러진 인터셉터 배열, 없으면 빈 배열 (수정하지 말 것)
+     */
+    public HandlerInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * HandlerMapping에 등록될 때 이 라우트에 적용할 인터셉터를 설정.
+     *
+     * @param interceptors 실행 순서대로 정렬된 인터셉터
+     */
+    public void setInterceptors(HandlerInterceptor[] interceptors) {
+        this.interceptors = interceptors.length == 0 ? NO_INTERCEPTORS : interceptors;
+    }
+
+    /**
+     * {@code @RateLimit}, {@code @MaxConcurrency}로 생성된 리미터를 반환.
+     *
+     * @return 리미터, 제한이 선언되지 않았으면 {@code null}
+     */
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * HandlerMapping에 등록될 때 리미터를 설정.
+     *
+     * @param requestLimiter 리미터, 제한이 없으면 {@code null}
+     */
+    public void setRequestLimiter(RequestLimiter requestLimiter) {
+        this.requestLimiter = requestLimiter;
+    }
+
+    /**
+     * {@code @Timeout} 또는 기본 제한 시간에서 계산된 이 라우트의 제한 시간을 반환.
+     *
+     * @return 제한 시간 (ns), 제한이 없으면 0
+     */
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * HandlerMapping에 등록될 때 제한 시간을 설정.
+     *
+     * @param timeoutNanos 제한 시간 (ns), 제한이 없으면 0
+     */
+    public void setTimeoutNanos(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+    }
+
     /**
      * 파라미터 목록에서 `@PathVariable` 애노테이션이 존재하는지 확인
      *
@@ -4,7 +4,6 @@ import froggy.winterframework.web.bind.annotation.RequestMethod;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -109,7 +108,7 @@ public class RequestMappingInfo {
 
     @Override
     public int hashCode() {
-        return Objects.hash(urlPattern);
+        return urlPattern.hashCode();
     }
 
 }
@@ -0,0 +1,147 @@
+package froggy.winterframework.web.method.annotation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import froggy.winterframework.http.HttpHeaders;
+import froggy.winterframework.metrics.jfr.WinterFlightEvents;
+import froggy.winterframework.web.context.request.NativeWebRequest;
+import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 반환값을 Response Body로 직렬화하는 ReturnValueHandler의 공통 상위 클래스.
+ *
+ * <p>Body를 스레드별로 재사용하는 버퍼에 먼저 직렬화하면서 FNV-1a 해시를 함께 계산한다.
+ * 200 응답에 ETag가 지정되지 않았다면 해시로 약한 ETag({@code W/"..."})를 만들어
+ * If-None-Match와 비교하고, 일치하면 Body 없이 304로 응답한다.
+ */
+public abstract class AbstractMessageConverterMethodProcessor implements HandlerMethodReturnValueHandler {
+
+    protected static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    /** 이 크기를 넘은 버퍼는 스레드에 보관하지 않고 버린다. */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<HashingByteArrayOutputStream> BUFFER =
+        ThreadLocal.withInitial(() -> new HashingByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    /**
+     * Body를 직렬화하여 Response에 Write한다.
+     *
+     * @param body       직렬화할 Body
+     * @param webRequest 현재 Request 컨텍스트
+     * @param response   Body를 Write할 Response
+     * @throws IOException 직렬화 또는 Write 실패 시
+     */
+    protected void writeWithMessageConverters(
+        Object body,
+        NativeWebRequest webRequest,
+        HttpServletResponse response
+    ) throws IOException {
+        HashingByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            Object serializationEvent = WinterFlightEvents.JSON_SERIALIZATION.begin();
+            serializeBody(body, buffer);
+            if (serializationEvent != null) {
+                WinterFlightEvents.JSON_SERIALIZATION.commit(
+                    serializationEvent, body != null ? body.getClass() : null, (long) buffer.size());
+            }
+
+            if (isETagCandidate(response) && webRequest.checkNotModified(buffer.weakETag())) {
+                return;
+            }
+
+            response.setContentLength(buffer.size());
+            ServletOutputStream outputStream = response.getOutputStream();
+            buffer.writeTo(outputStream);
+            outputStream.flush();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Body를 바이트로 직렬화한다. 기본 구현은 JSON으로 직렬화한다.
+     *
+     * @param body         직렬화할 Body
+     * @param outputStream 직렬화 결과를 담을 버퍼
+     * @throws IOException 직렬화 실패 시
+     */
+    protected void serializeBody(Object body, OutputStream outputStream) throws IOException {
+        OBJECT_MAPPER.writeValue(outputStream, body);
+    }
+
+    /**
+     * 자동 ETag를 붙일 응답인지 판단한다. 핸들러가 ETag를 직접 지정한 경우는 제외한다.
+     */
+    private boolean isETagCandidate(HttpServletResponse response) {
+        return response.getStatus() == HttpServletResponse.SC_OK
+            && response.getHeader(HttpHeaders.ETAG) == null;
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
+    /**
+     * Write되는 바이트로 FNV-1a 64bit 해시를 누적 계산하는 재사용 버퍼.
+     */
+    private static final class HashingByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private long hash = FNV_OFFSET_BASIS;
+
+        private HashingByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        @Override
+        public void write(int b) {
+            super.write(b);
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            long h = hash;
+            for (int i = off; i < off + len; i++) {
+                h = (h ^ (b[i] & 0xff)) * FNV_PRIME;
+            }
+            hash = h;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            hash = FNV_OFFSET_BASIS;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(buf, 0, count);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private String weakETag() {
+            return "W/\"" + Long.toHexString(hash) + "\"";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package froggy.winterframework.web.method.annotation;
+
+import froggy.winterframework.core.MethodParameter;
+import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.context.request.NativeWebRequest;
+import froggy.winterframework.web.context.request.RequestContext;
+import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
+import javax.servlet.ServletRequest;
+
+/**
+ * Handler Method의 {@link RequestContext} 파라미터에 현재 요청의 Context를 주입한다.
+ * {@code server.request-id.enabled=false}이면 {@code null}을 주입한다.
+ */
+public class RequestContextMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return RequestContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, NativeWebRequest webRequest,
+        ModelAndView mavContainer) throws Exception {
+        ServletRequest request = webRequest.getNativeRequest(ServletRequest.class);
+        return request != null ? RequestContext.from(request) : RequestContext.current();
+    }
+}
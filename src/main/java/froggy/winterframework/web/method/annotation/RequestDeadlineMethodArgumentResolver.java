@@ -0,0 +1,27 @@
+package froggy.winterframework.web.method.annotation;
+
+import froggy.winterframework.core.MethodParameter;
+import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.context.request.NativeWebRequest;
+import froggy.winterframework.web.context.request.RequestDeadline;
+import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
+import javax.servlet.ServletRequest;
+
+/**
+ * Handler Method의 {@link RequestDeadline} 파라미터에 현재 요청의 Deadline을 주입한다.
+ * Deadline이 없는 요청에는 {@link RequestDeadline#none()}을 주입하므로 {@code null}이 아니다.
+ */
+public class RequestDeadlineMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return RequestDeadline.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, NativeWebRequest webRequest,
+        ModelAndView mavContainer) throws Exception {
+        ServletRequest request = webRequest.getNativeRequest(ServletRequest.class);
+        return request != null ? RequestDeadline.from(request) : RequestDeadline.none();
+    }
+}
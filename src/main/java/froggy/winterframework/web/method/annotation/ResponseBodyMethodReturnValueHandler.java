@@ -1,22 +1,19 @@
 package froggy.winterframework.web.method.annotation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import froggy.winterframework.web.ModelAndView;
 import froggy.winterframework.web.bind.annotation.ResponseBody;
 import froggy.winterframework.web.context.request.NativeWebRequest;
 import froggy.winterframework.web.method.HandlerMethod;
-import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
 import java.io.IOException;
-import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 /**
  * Handler 메서드에 {@link ResponseBody} 어노테이션이 적용된 경우
  * 해당 메서드의 반환 값을 JSON 형식으로 변환하여 HttpResponse의 Body에 저장.
+ *
+ * <p>GET/HEAD 요청의 200 응답에는 Body 기반 약한 ETag를 붙이고, If-None-Match와 일치하면 304로 응답한다.
  */
-public class ResponseBodyMethodReturnValueHandler implements HandlerMethodReturnValueHandler {
+public class ResponseBodyMethodReturnValueHandler extends AbstractMessageConverterMethodProcessor {
 
     /**
      * Method 혹은 Handler 클래스에 @ResponseBody 어노테이션이 적용되어있는지 확인
@@ -47,18 +44,12 @@ public class ResponseBodyMethodReturnValueHandler implements HandlerMethodReturn
     ) {
         mavContainer.setRequestHandled(true);
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
         HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
         try {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
 
-            ServletOutputStream outputMessage = response.getOutputStream();
-            objectMapper.writeValue(outputMessage, returnValue);
-            outputMessage.flush();
+            writeWithMessageConverters(returnValue, webRequest, response);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
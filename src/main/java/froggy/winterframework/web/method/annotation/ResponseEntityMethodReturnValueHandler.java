@@ -1,16 +1,16 @@
 package froggy.winterframework.web.method.annotation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import froggy.winterframework.http.HttpHeaders;
 import froggy.winterframework.http.ResponseEntity;
 import froggy.winterframework.web.ModelAndView;
 import froggy.winterframework.web.context.request.NativeWebRequest;
 import froggy.winterframework.web.method.HandlerMethod;
-import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import javax.servlet.http.HttpServletResponse;
@@ -19,15 +19,15 @@ import javax.servlet.http.HttpServletResponse;
  * ResponseEntity 반환값을 Servlet Response로 Write하는 ReturnValueHandler.
  *
  * <p>Status Code, Header, Body를 Response에 직접 Write한다.
+ * ResponseEntity에 ETag 또는 Last-Modified가 지정되어 있으면 Body 직렬화 전에 조건부 요청을 검사하고,
+ * 지정되지 않았으면 직렬화된 Body로 약한 ETag를 계산한다.
  */
-public class ResponseEntityMethodReturnValueHandler implements HandlerMethodReturnValueHandler {
+public class ResponseEntityMethodReturnValueHandler extends AbstractMessageConverterMethodProcessor {
 
     private static final String APPLICATION_JSON = "application/json";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String TEXT_PLAIN = "text/plain";
 
-    private final ObjectMapper objectMapper = createObjectMapper();
-
     @Override
     public boolean supportsReturnType(HandlerMethod handlerMethod) {
         return ResponseEntity.class.isAssignableFrom(handlerMethod.getReturnType());
@@ -52,6 +52,10 @@ public class ResponseEntityMethodReturnValueHandler implements HandlerMethodRetu
 
         applyHeaders(response, responseEntity);
 
+        if (isNotModified(responseEntity, webRequest)) {
+            return;
+        }
+
         Object body = responseEntity.getBody();
         if (body == null) {
             return;
@@ -63,7 +67,7 @@ public class ResponseEntityMethodReturnValueHandler implements HandlerMethodRetu
             }
             applyDefaultCharacterEncoding(response, body);
 
-            writeBody(response, body);
+            writeWithMessageConverters(body, webRequest, response);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -123,31 +127,53 @@ public class ResponseEntityMethodReturnValueHandler implements HandlerMethodRetu
     }
 
     /**
-     * Body를 Response에 Write한다.
+     * ResponseEntity에 지정된 ETag, Last-Modified로 조건부 요청을 검사한다.
+     * 변경되지 않았으면 Body를 직렬화하지 않는다.
      */
-    private void writeBody(HttpServletResponse response, Object body) throws IOException {
+    private boolean isNotModified(ResponseEntity<?> responseEntity, NativeWebRequest webRequest) {
+        if (responseEntity.getStatusCode() != HttpServletResponse.SC_OK) {
+            return false;
+        }
+
+        HttpHeaders headers = responseEntity.getHeaders();
+        String eTag = headers.getFirst(HttpHeaders.ETAG);
+        long lastModified = parseLastModified(headers.getFirst(HttpHeaders.LAST_MODIFIED));
+        if (eTag == null && lastModified < 0) {
+            return false;
+        }
+
+        return webRequest.checkNotModified(eTag, lastModified);
+    }
+
+    private long parseLastModified(String lastModified) {
+        if (lastModified == null) {
+            return -1;
+        }
+
+        try {
+            return ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .toInstant()
+                .toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Body 타입에 따라 바이트로 직렬화한다.
+     */
+    @Override
+    protected void serializeBody(Object body, OutputStream outputStream) throws IOException {
         if (body instanceof String) {
-            String text = (String) body;
-            response.getOutputStream().write(text.getBytes(StandardCharsets.UTF_8));
-            response.getOutputStream().flush();
+            outputStream.write(((String) body).getBytes(StandardCharsets.UTF_8));
             return;
         }
 
         if (body instanceof byte[]) {
-            byte[] bytes = (byte[]) body;
-            response.getOutputStream().write(bytes);
-            response.getOutputStream().flush();
+            outputStream.write((byte[]) body);
             return;
         }
 
-        objectMapper.writeValue(response.getOutputStream(), body);
-        response.getOutputStream().flush();
-    }
-
-    private static ObjectMapper createObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return objectMapper;
+        super.serializeBody(body, outputStream);
     }
 }
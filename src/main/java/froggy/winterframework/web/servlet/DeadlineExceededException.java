@@ -0,0 +1,33 @@
+package froggy.winterframework.web.servlet;
+
+import froggy.winterframework.web.context.request.RequestDeadline;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청의 {@link RequestDeadline}이 지났을 때 발생하는 예외.
+ *
+ * <p>Deadline이 요청 Header에서 왔으면 호출자가 기다리지 않는 요청이므로 504,
+ * 서버의 제한 시간이면 503으로 응답한다.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final RequestDeadline deadline;
+
+    public DeadlineExceededException(RequestDeadline deadline) {
+        super("Request deadline exceeded (" + deadline.getSource() + ")");
+        this.deadline = deadline;
+    }
+
+    public RequestDeadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * 응답할 HTTP 상태 코드.
+     */
+    public int getStatus() {
+        return deadline.getSource() == RequestDeadline.Source.HEADER
+            ? HttpServletResponse.SC_GATEWAY_TIMEOUT
+            : HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+    }
+}
@@ -28,4 +28,19 @@ public interface HandlerAdapter {
      * @throws Exception 핸들러 실행 중 예외
      */
     ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception;
+
+    /**
+     * {@link ModelAndView#getAsyncResult()}가 완료된 뒤 그 결과 값으로 응답을 생성한다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler  요청을 처리한 핸들러 객체
+     * @param result   완료된 결과 값
+     * @return 처리 결과를 포함한 ModelAndView
+     * @throws Exception 결과 처리 중 예외
+     */
+    default ModelAndView handleAsyncResult(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Object result) throws Exception {
+        throw new IllegalStateException(getClass().getSimpleName() + " does not support async results");
+    }
 }
@@ -0,0 +1,54 @@
+package froggy.winterframework.web.servlet;
+
+import froggy.winterframework.web.ModelAndView;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 실행 전후에 공통 로직을 수행하는 인터셉터.
+ *
+ * <p>Servlet {@code Filter}와 달리 라우팅 이후에 실행되므로 매칭된 {@code HandlerMethod}를 참조할 수 있다.
+ * 적용 대상 라우트는 애플리케이션 시작 시 한 번 결정되며, 요청마다 경로를 비교하지 않는다.
+ *
+ * <p>실행 순서:
+ * <ol>
+ *   <li>{@link #preHandle} - 등록 순서대로</li>
+ *   <li>핸들러 실행</li>
+ *   <li>{@link #postHandle} - 역순, 핸들러가 예외 없이 끝난 경우에만</li>
+ *   <li>{@link #afterCompletion} - 역순, {@link #preHandle}이 {@code true}를 반환한 인터셉터만</li>
+ * </ol>
+ */
+public interface HandlerInterceptor {
+
+    /**
+     * 핸들러 실행 전에 호출된다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler  실행할 핸들러
+     * @return 계속 진행하려면 {@code true}, 응답을 직접 완료하고 처리를 중단하려면 {@code false}
+     * @throws Exception 처리 중 예외
+     */
+    default boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws Exception {
+        return true;
+    }
+
+    /**
+     * 핸들러 실행 후, 결과를 렌더링하기 전에 호출된다.
+     *
+     * @param modelAndView 핸들러 실행 결과, Body를 직접 Write한 경우 {@code isRequestHandled()}가 {@code true}
+     */
+    default void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+        ModelAndView modelAndView) throws Exception {
+    }
+
+    /**
+     * 요청 처리가 끝난 뒤 (렌더링 및 예외 처리 이후) 호출된다.
+     *
+     * @param ex 처리되지 않고 전파되는 예외 또는 ExceptionResolver가 처리한 예외, 없으면 {@code null}
+     */
+    default void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) throws Exception {
+    }
+}
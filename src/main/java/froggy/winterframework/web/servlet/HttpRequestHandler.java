@@ -0,0 +1,26 @@
+package froggy.winterframework.web.servlet;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Request/Response를 직접 처리하는 핸들러 인터페이스.
+ *
+ * <p>{@code @Controller} 메서드가 아닌 정적 리소스 등의 요청을 처리할 때 사용하며,
+ * 응답은 구현체가 직접 Write한다.
+ */
+public interface HttpRequestHandler {
+
+    /**
+     * 요청을 처리하고 응답을 Write한다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 예외 발생 시
+     * @throws IOException      입출력 예외 발생 시
+     */
+    void handleRequest(HttpServletRequest request, HttpServletResponse response)
+        throws ServletException, IOException;
+}
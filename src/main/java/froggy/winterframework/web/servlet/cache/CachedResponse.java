@@ -0,0 +1,110 @@
+package froggy.winterframework.web.servlet.cache;
+
+import froggy.winterframework.http.HttpHeaders;
+import froggy.winterframework.web.context.request.ServletWebRequest;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 캐시에 저장된 직렬화 응답. Body 바이트와 Content-Type, 응답 Header, 만료 시각을 보관한다.
+ */
+public final class CachedResponse {
+
+    private final byte[] body;
+    private final String contentType;
+    private final Map<String, List<String>> headers;
+    /** 저장된 ETag, Header 이름의 대소문자와 관계없이 생성 시 한 번 찾아 둔다. 없으면 {@code null} */
+    private final String eTag;
+    private final long expiresAt;
+
+    public CachedResponse(byte[] body, String contentType, Map<String, List<String>> headers, long expiresAt) {
+        this.body = body;
+        this.contentType = contentType;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.eTag = findETag(headers);
+        this.expiresAt = expiresAt;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * 만료 시각이 지났는지 확인한다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * 캐시 용량 계산에 사용할 대략적인 크기(bytes)를 반환한다.
+     */
+    public int getSize() {
+        int size = body.length;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            size += header.getKey().length();
+            for (String value : header.getValue()) {
+                size += value.length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 저장된 응답을 Response에 Write한다.
+     * 저장된 ETag가 If-None-Match와 일치하면 Body 없이 304로 응답한다.
+     *
+     * @param webRequest 현재 Request 컨텍스트
+     * @param response   Write할 Response
+     * @throws IOException Write 실패 시
+     */
+    public void writeTo(ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return;
+        }
+
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        response.setContentLength(body.length);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        outputStream.flush();
+    }
+
+    private static String findETag(Map<String, List<String>> headers) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (HttpHeaders.ETAG.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
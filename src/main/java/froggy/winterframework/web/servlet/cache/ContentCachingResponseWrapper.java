@@ -0,0 +1,201 @@
+package froggy.winterframework.web.servlet.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Body를 원본 Response 대신 메모리 버퍼에 Write하는 Response Wrapper.
+ *
+ * <p>Header와 Status는 원본 Response에 그대로 전달되며,
+ * 버퍼에 모인 Body는 {@link #copyBodyToResponse()} 호출 시 원본 Response로 복사된다.
+ * 이 Wrapper를 통해 설정된 Header는 따로 기록되므로({@link #getWrittenHeaders()}), 요청 ID처럼
+ * Wrapper를 만들기 전에 원본 Response에 설정된 요청별 Header와 구분할 수 있다.
+ */
+public class ContentCachingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream(1024);
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    /** 이 Wrapper를 통해 설정된 Header (이름은 대소문자 구분 없음) */
+    private final Map<String, List<String>> writtenHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    public ContentCachingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+
+        if (outputStream == null) {
+            outputStream = new ContentCachingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response");
+        }
+
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(content, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        super.setHeader(name, value);
+        if (value == null) {
+            writtenHeaders.remove(name);
+        } else {
+            List<String> values = new ArrayList<>(1);
+            values.add(value);
+            writtenHeaders.put(name, values);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        super.addHeader(name, value);
+        if (value != null) {
+            writtenHeaders.computeIfAbsent(name, n -> new ArrayList<>(1)).add(value);
+        }
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, Integer.toString(value));
+    }
+
+    /**
+     * 이 Wrapper를 통해 설정된 Header를 반환한다. 원본 Response에 이미 있던 Header는 포함하지 않는다.
+     */
+    public Map<String, List<String>> getWrittenHeaders() {
+        return Collections.unmodifiableMap(writtenHeaders);
+    }
+
+    /**
+     * Content-Length는 {@link #copyBodyToResponse()}에서 버퍼 크기로 설정한다.
+     */
+    @Override
+    public void setContentLength(int len) {
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+    }
+
+    /**
+     * 원본 Response를 Commit하지 않도록 버퍼만 Flush한다.
+     */
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        content.reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        content.reset();
+        writtenHeaders.clear();
+    }
+
+    /**
+     * 지금까지 Write된 Body를 반환한다.
+     */
+    public byte[] getContentAsByteArray() {
+        flushBuffer();
+        return content.toByteArray();
+    }
+
+    /**
+     * 버퍼에 모인 Body를 원본 Response로 복사한다.
+     *
+     * @throws IOException Write 실패 시
+     */
+    public void copyBodyToResponse() throws IOException {
+        flushBuffer();
+        if (content.size() == 0) {
+            return;
+        }
+
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        if (!response.isCommitted()) {
+            response.setContentLength(content.size());
+        }
+
+        ServletOutputStream responseOutputStream = response.getOutputStream();
+        content.writeTo(responseOutputStream);
+        responseOutputStream.flush();
+        content.reset();
+    }
+
+    private static String formatDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC));
+    }
+
+    private class ContentCachingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) {
+            content.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            content.write(b, off, len);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Async write is not supported while caching the response");
+        }
+    }
+}
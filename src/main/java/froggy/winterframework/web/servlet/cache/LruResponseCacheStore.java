@@ -0,0 +1,73 @@
+package froggy.winterframework.web.servlet.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 저장된 응답의 전체 크기(bytes)로 상한을 관리하는 기본 {@link ResponseCacheStore}.
+ *
+ * <p>상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ * 상한의 1/8보다 큰 응답은 다른 항목을 과도하게 밀어내므로 저장하지 않는다.
+ */
+public class LruResponseCacheStore implements ResponseCacheStore {
+
+    private final long maxTotalSize;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * @param maxTotalSize 저장소 전체의 최대 크기 (bytes)
+     */
+    public LruResponseCacheStore(long maxTotalSize) {
+        if (maxTotalSize <= 0) {
+            throw new IllegalArgumentException("Response cache size must be positive: " + maxTotalSize);
+        }
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(String key, CachedResponse response) {
+        int size = response.getSize();
+        if (size > maxTotalSize / 8) {
+            evict(key);
+            return;
+        }
+
+        evict(key);
+        entries.put(key, response);
+        totalSize += size;
+
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxTotalSize && iterator.hasNext()) {
+            totalSize -= iterator.next().getValue().getSize();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public synchronized void evict(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalSize -= removed.getSize();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        totalSize = 0;
+    }
+
+    /**
+     * 현재 저장된 응답의 전체 크기(bytes)를 반환한다.
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+}
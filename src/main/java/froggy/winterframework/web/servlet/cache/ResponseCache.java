@@ -0,0 +1,241 @@
+package froggy.winterframework.web.servlet.cache;
+
+import froggy.winterframework.web.bind.annotation.CacheResponse;
+import froggy.winterframework.web.method.HandlerMethod;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * {@link CacheResponse} 핸들러 메소드의 응답 캐시 조회와 저장을 조율하는 클래스.
+ *
+ * <p>같은 키에 대해 한 번에 한 스레드만 응답을 계산한다.
+ * <ul>
+ *     <li>캐시가 비어 있으면 다른 요청은 계산 중인 응답이 완료될 때까지 기다린 뒤 그 결과를 사용한다.</li>
+ *     <li>캐시가 만료되었으면 한 스레드가 다시 계산하는 동안 다른 요청에는 만료된 응답을 제공한다.</li>
+ * </ul>
+ */
+public class ResponseCache {
+
+    private static final String URI_TEMPLATE_VARIABLES_ATTRIBUTE = "uriTemplateVariables";
+    private static final long MAX_LOAD_WAIT_MILLIS = 10_000;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ResponseCacheStore store;
+    private final ConcurrentMap<String, CompletableFuture<CachedResponse>> loading = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, String> routeKeys = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("ResponseCacheStore must not be null");
+        }
+        this.store = store;
+    }
+
+    public ResponseCacheStore getStore() {
+        return store;
+    }
+
+    /**
+     * 라우트와 {@link CacheResponse}에 지정된 경로 변수, 요청 파라미터, Header 값으로 캐시 키를 생성한다.
+     *
+     * @param handlerMethod 요청을 처리할 핸들러 메소드
+     * @param cacheResponse 핸들러 메소드의 캐시 설정
+     * @param request       현재 요청
+     * @return 캐시 키
+     */
+    public String createKey(HandlerMethod handlerMethod, CacheResponse cacheResponse, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128);
+        key.append(routeKeys.computeIfAbsent(handlerMethod.getMethod(), Method::toGenericString));
+
+        Map<String, String> pathVariables = getPathVariables(request);
+        if (cacheResponse.key().length == 0) {
+            // 키가 지정되지 않으면 모든 경로 변수와 전체 Query String을 사용한다.
+            for (Map.Entry<String, String> pathVariable : new TreeMap<>(pathVariables).entrySet()) {
+                appendKeyPart(key, pathVariable.getKey(), pathVariable.getValue());
+            }
+            appendKeyPart(key, "?", request.getQueryString());
+        } else {
+            for (String name : cacheResponse.key()) {
+                String value = pathVariables.get(name);
+                if (value == null) {
+                    String[] values = request.getParameterValues(name);
+                    value = (values == null) ? null : String.join(",", values);
+                }
+                appendKeyPart(key, name, value);
+            }
+        }
+
+        for (String headerName : cacheResponse.headers()) {
+            appendKeyPart(key, headerName.toLowerCase(Locale.ROOT), request.getHeader(headerName));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시를 조회한다.
+     *
+     * @param key 캐시 키
+     * @return 조회 결과. 제공할 응답이 있거나, 호출한 스레드가 응답을 계산해야 하거나,
+     *         캐시 없이 처리해야 하는 경우 중 하나
+     */
+    public Lookup lookup(String key) {
+        CachedResponse cached = store.get(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return Lookup.hit(cached);
+        }
+
+        CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> inProgress = loading.putIfAbsent(key, future);
+        if (inProgress == null) {
+            return Lookup.load(key, future);
+        }
+
+        // 다른 스레드가 다시 계산하는 중이면 만료된 응답을 그대로 제공한다.
+        if (cached != null) {
+            return Lookup.hit(cached);
+        }
+
+        try {
+            CachedResponse loaded = inProgress.get(MAX_LOAD_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            if (loaded != null) {
+                return Lookup.hit(loaded);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 계산이 실패하거나 지연되면 캐시 없이 직접 처리한다.
+        }
+        return Lookup.bypass();
+    }
+
+    /**
+     * {@link #lookup(String)}에서 계산을 맡은 스레드가 결과를 등록한다.
+     * 기다리던 요청은 등록된 응답을 사용하며, {@code null}이면 각자 직접 처리한다.
+     *
+     * @param lookup   계산을 맡은 조회 결과
+     * @param response 캐시할 응답, 캐시할 수 없으면 {@code null}
+     */
+    public void complete(Lookup lookup, CachedResponse response) {
+        if (!lookup.isLoader()) {
+            throw new IllegalStateException("Lookup is not a loader: " + lookup.key);
+        }
+
+        try {
+            if (response != null) {
+                store.put(lookup.key, response);
+            }
+        } finally {
+            loading.remove(lookup.key, lookup.future);
+            lookup.future.complete(response);
+        }
+    }
+
+    /**
+     * 핸들러 실행이 끝난 Response로 캐시할 응답을 생성한다.
+     *
+     * @param responseWrapper Body를 버퍼링한 Response
+     * @param cacheResponse   핸들러 메소드의 캐시 설정
+     * @return 캐시할 응답, 200이 아니거나 {@code Set-Cookie}가 있으면 {@code null}
+     */
+    public CachedResponse createCachedResponse(ContentCachingResponseWrapper responseWrapper,
+        CacheResponse cacheResponse) {
+        if (responseWrapper.getStatus() != HttpServletResponse.SC_OK
+            || responseWrapper.containsHeader("Set-Cookie")) {
+            return null;
+        }
+
+        // 요청 ID처럼 핸들러 실행 전에 원본 Response에 설정된 요청별 Header는 다른 요청에 재생하지 않는다.
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : responseWrapper.getWrittenHeaders().entrySet()) {
+            if (isReplayableHeader(header.getKey())) {
+                headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+
+        long ttlMillis = cacheResponse.unit().toMillis(cacheResponse.ttl());
+        return new CachedResponse(
+            responseWrapper.getContentAsByteArray(),
+            responseWrapper.getContentType(),
+            headers,
+            System.currentTimeMillis() + ttlMillis
+        );
+    }
+
+    private boolean isReplayableHeader(String name) {
+        return !"Content-Type".equalsIgnoreCase(name)
+            && !"Content-Length".equalsIgnoreCase(name)
+            && !"Date".equalsIgnoreCase(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getPathVariables(HttpServletRequest request) {
+        Object pathVariables = request.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return (pathVariables instanceof Map) ? (Map<String, String>) pathVariables : new LinkedHashMap<>();
+    }
+
+    private void appendKeyPart(StringBuilder key, String name, String value) {
+        key.append(KEY_SEPARATOR).append(name).append('=');
+        if (value != null) {
+            key.append(value);
+        }
+    }
+
+    /**
+     * {@link #lookup(String)}의 조회 결과.
+     */
+    public static final class Lookup {
+
+        private static final Lookup BYPASS = new Lookup(null, null, null);
+
+        private final CachedResponse cachedResponse;
+        private final String key;
+        private final CompletableFuture<CachedResponse> future;
+
+        private Lookup(CachedResponse cachedResponse, String key, CompletableFuture<CachedResponse> future) {
+            this.cachedResponse = cachedResponse;
+            this.key = key;
+            this.future = future;
+        }
+
+        private static Lookup hit(CachedResponse cachedResponse) {
+            return new Lookup(cachedResponse, null, null);
+        }
+
+        private static Lookup load(String key, CompletableFuture<CachedResponse> future) {
+            return new Lookup(null, key, future);
+        }
+
+        private static Lookup bypass() {
+            return BYPASS;
+        }
+
+        /**
+         * 제공할 캐시 응답을 반환한다.
+         *
+         * @return 캐시 응답, 없으면 {@code null}
+         */
+        public CachedResponse getCachedResponse() {
+            return cachedResponse;
+        }
+
+        /**
+         * 호출한 스레드가 응답을 계산하고 {@link #complete(Lookup, CachedResponse)}를 호출해야 하는지 확인한다.
+         */
+        public boolean isLoader() {
+            return future != null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package froggy.winterframework.web.servlet.cache;
+
+/**
+ * {@link CachedResponse}를 보관하는 저장소.
+ *
+ * <p>만료된 항목도 바로 제거하지 않고 반환해야 한다.
+ * 만료된 항목은 한 스레드가 응답을 다시 계산하는 동안 다른 요청에 그대로 제공된다.
+ * 구현체는 여러 요청 스레드에서 동시에 호출되므로 Thread-safe 해야 한다.
+ *
+ * @see LruResponseCacheStore
+ */
+public interface ResponseCacheStore {
+
+    /**
+     * 키에 해당하는 응답을 반환한다.
+     *
+     * @return 저장된 응답(만료된 응답 포함), 없으면 {@code null}
+     */
+    CachedResponse get(String key);
+
+    /**
+     * 응답을 저장한다. 같은 키의 기존 응답은 교체된다.
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * 키에 해당하는 응답을 제거한다.
+     */
+    void evict(String key);
+
+    /**
+     * 모든 응답을 제거한다.
+     */
+    void clear();
+}
@@ -0,0 +1,141 @@
+package froggy.winterframework.web.servlet.handler;
+
+import froggy.winterframework.web.servlet.HandlerInterceptor;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 포함/제외 경로 패턴이 지정된 {@link HandlerInterceptor}.
+ *
+ * <p>패턴은 요청 URI가 아니라 라우트의 URL 패턴과 비교한다. 따라서 애플리케이션 시작 시
+ * {@link RequestMappingHandlerMapping}이 라우트마다 한 번만 판단할 수 있다.
+ *
+ * <ul>
+ *   <li>{@code **} - 0개 이상의 경로 세그먼트</li>
+ *   <li>{@code *} - 세그먼트 하나, 또는 세그먼트 안의 임의 문자열 (예: {@code *.json})</li>
+ *   <li>라우트의 {@code {id}} 세그먼트는 {@code *}, {@code **}, 또는 같은 형태의 {@code {..}} 세그먼트와만 일치한다</li>
+ * </ul>
+ * 포함 패턴이 없으면 모든 라우트에 적용된다.
+ */
+public class MappedInterceptor {
+
+    private final HandlerInterceptor interceptor;
+    private final List<String> includePatterns;
+    private final List<String> excludePatterns;
+
+    public MappedInterceptor(HandlerInterceptor interceptor, List<String> includePatterns,
+        List<String> excludePatterns) {
+        this.interceptor = interceptor;
+        this.includePatterns = includePatterns != null ? includePatterns : Collections.<String>emptyList();
+        this.excludePatterns = excludePatterns != null ? excludePatterns : Collections.<String>emptyList();
+    }
+
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * 라우트의 URL 패턴에 이 인터셉터를 적용할지 판단한다.
+     *
+     * @param urlPattern {@code RequestMappingInfo}의 URL 패턴 (예: {@code /users/{id}})
+     */
+    public boolean matches(String urlPattern) {
+        String route = urlPattern.isEmpty() ? "/" : urlPattern;
+
+        for (String pattern : excludePatterns) {
+            if (matchPath(pattern, route)) {
+                return false;
+            }
+        }
+
+        if (includePatterns.isEmpty()) {
+            return true;
+        }
+
+        for (String pattern : includePatterns) {
+            if (matchPath(pattern, route)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matchPath(String pattern, String path) {
+        String[] patternParts = tokenize(pattern);
+        String[] pathParts = tokenize(path);
+        return matchSegments(patternParts, 0, pathParts, 0);
+    }
+
+    private static boolean matchSegments(String[] pattern, int pi, String[] path, int si) {
+        while (pi < pattern.length) {
+            String segment = pattern[pi];
+            if ("**".equals(segment)) {
+                // 연속된 ** 는 하나로 취급하고, 남은 경로의 모든 위치에서 나머지 패턴을 시도한다.
+                while (pi + 1 < pattern.length && "**".equals(pattern[pi + 1])) {
+                    pi++;
+                }
+                if (pi + 1 == pattern.length) {
+                    return true;
+                }
+                for (int next = si; next <= path.length; next++) {
+                    if (matchSegments(pattern, pi + 1, path, next)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            if (si >= path.length || !matchSegment(segment, path[si])) {
+                return false;
+            }
+            pi++;
+            si++;
+        }
+        return si == path.length;
+    }
+
+    private static boolean matchSegment(String pattern, String segment) {
+        if (isVariable(segment)) {
+            return "*".equals(pattern) || isVariable(pattern);
+        }
+        if (pattern.indexOf('*') < 0) {
+            return pattern.equals(segment);
+        }
+        return matchWildcard(pattern, 0, segment, 0);
+    }
+
+    private static boolean matchWildcard(String pattern, int pi, String text, int ti) {
+        while (pi < pattern.length()) {
+            char c = pattern.charAt(pi);
+            if (c == '*') {
+                for (int next = ti; next <= text.length(); next++) {
+                    if (matchWildcard(pattern, pi + 1, text, next)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (ti >= text.length() || text.charAt(ti) != c) {
+                return false;
+            }
+            pi++;
+            ti++;
+        }
+        return ti == text.length();
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static String[] tokenize(String path) {
+        String trimmed = path.trim();
+        while (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/+");
+    }
+}
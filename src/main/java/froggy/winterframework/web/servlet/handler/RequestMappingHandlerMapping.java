@@ -4,21 +4,28 @@ import froggy.winterframework.beans.factory.InitializingBean;
 import froggy.winterframework.beans.factory.support.BeanFactory;
 import froggy.winterframework.context.ApplicationContext;
 import froggy.winterframework.context.support.ApplicationContextSupport;
+import froggy.winterframework.metrics.MetricsRegistry;
 import froggy.winterframework.stereotype.Controller;
 import froggy.winterframework.utils.WinterUtils;
 import froggy.winterframework.web.bind.annotation.RequestMapping;
 import froggy.winterframework.web.bind.annotation.RequestMethod;
+import froggy.winterframework.web.bind.annotation.Timeout;
 import froggy.winterframework.web.method.HandlerMethod;
 import froggy.winterframework.web.method.RequestMappingInfo;
+import froggy.winterframework.web.servlet.HandlerInterceptor;
 import froggy.winterframework.web.servlet.MethodNotAllowedException;
 import froggy.winterframework.web.servlet.NoHandlerFoundException;
+import froggy.winterframework.web.servlet.limit.RequestLimiter;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 
@@ -34,19 +41,52 @@ public class RequestMappingHandlerMapping extends ApplicationContextSupport impl
     InitializingBean {
 
     private final MappingRegistry mappingRegistry = new MappingRegistry();
+    private List<MappedInterceptor> interceptors = Collections.emptyList();
+    private long defaultTimeoutNanos;
+    private boolean initialized;
 
     public RequestMappingHandlerMapping(ApplicationContext applicationContext) {
         super(applicationContext);
     }
 
+    /**
+     * 라우트에 적용할 인터셉터를 설정하고, 이미 등록된 라우트의 인터셉터 배열을 다시 계산한다.
+     *
+     * @param interceptors 실행 순서대로 정렬된 인터셉터
+     */
+    public synchronized void setInterceptors(List<MappedInterceptor> interceptors) {
+        this.interceptors = new ArrayList<>(interceptors);
+        for (HandlerMethod handlerMethod : mappingRegistry.getHandlerMethods()) {
+            handlerMethod.setInterceptors(resolveInterceptors(handlerMethod.getRequestMappingInfo()));
+        }
+    }
+
+    /**
+     * {@link Timeout}이 없는 라우트에 적용할 기본 제한 시간을 설정하고, 이미 등록된 라우트의 제한 시간을 다시 계산한다.
+     *
+     * @param timeoutMillis 기본 제한 시간 (ms), 0 이하면 제한 없음
+     */
+    public synchronized void setDefaultTimeout(long timeoutMillis) {
+        this.defaultTimeoutNanos = timeoutMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0L;
+        for (HandlerMethod handlerMethod : mappingRegistry.getHandlerMethods()) {
+            handlerMethod.setTimeoutNanos(resolveTimeoutNanos(handlerMethod));
+        }
+    }
+
     /**
      * {@link InitializingBean} 인터페이스 구현.
      * <p>Bean 생성 후 초기화 로직을 수행, Handler({@link Controller}) Bean을 스캔하여
      * {@link RequestMapping} 정보를 등록.
+     * <p>Bean 생성 시 컨테이너가 호출하며, 여러 번 호출되어도 한 번만 등록한다.
      */
     @Override
-    public void afterPropertiesSet() {
+    public synchronized void afterPropertiesSet() {
+        if (initialized) {
+            return;
+        }
+
         initHandlerMethods();
+        initialized = true;
     }
 
     /**
@@ -62,16 +102,15 @@ public class RequestMappingHandlerMapping extends ApplicationContextSupport impl
 
     /**
      * 지정된 Bean이 Handler({@link Controller})인지 확인 후, {@link #mappingRegistry}에 등록
+     * <p>Bean을 생성하지 않고 BeanDefinition의 클래스로 판별한다.
      *
      * @param beanName    Bean 이름
      * @param beanFactory BeanFactory 인스턴스
      */
     private void processCandidateBean(String beanName, BeanFactory beanFactory) {
-        Object bean = beanFactory.getBean(beanName);
-
-        if (WinterUtils.isHandler(bean)) {
-            Class<?> beanType = beanFactory.getBeanDefinition(beanName).getBeanClass();
+        Class<?> beanType = beanFactory.getBeanDefinition(beanName).getBeanClass();
 
+        if (WinterUtils.isHandlerType(beanType)) {
             detectHandlerMethods(beanType);
         }
     }
@@ -156,12 +195,83 @@ public class RequestMappingHandlerMapping extends ApplicationContextSupport impl
         RequestMappingInfo requestMappingInfo, Method method) throws RuntimeException {
 
         Object handlerInstance = getApplicationContext().getBean(WinterUtils.resolveSimpleBeanName(handlerType));
-        HandlerMethod handlerMethod = mappingRegistry.addMappings(
-            requestMappingInfo, new HandlerMethod(handlerInstance, handlerType, method));
+        registerMapping(requestMappingInfo, new HandlerMethod(handlerInstance, handlerType, method));
+    }
+
+    /**
+     * 스캔 없이 매핑을 직접 등록.
+     *
+     * @param requestMappingInfo 매핑 정보 (URL 패턴, HTTP Method)
+     * @param handlerMethod      실행할 {@link HandlerMethod}
+     * @throws IllegalStateException 동일한 URL Pattern과 HTTP Method가 이미 등록된 경우 예외 발생
+     */
+    public void registerMapping(RequestMappingInfo requestMappingInfo, HandlerMethod handlerMethod) {
+        handlerMethod.setRequestMappingInfo(requestMappingInfo);
+        handlerMethod.setInterceptors(resolveInterceptors(requestMappingInfo));
+        RequestLimiter requestLimiter = RequestLimiter.forHandlerMethod(handlerMethod);
+        handlerMethod.setRequestLimiter(requestLimiter);
+        handlerMethod.setTimeoutNanos(resolveTimeoutNanos(handlerMethod));
+        HandlerMethod existing = mappingRegistry.addMappings(requestMappingInfo, handlerMethod);
+
+        if (existing != null) {
+            throw new IllegalStateException("Duplicate mapping detected: '" + requestMappingInfo.getUrlPattern() + "':(" + existing.getHandlerInstance().getClass() + ")");
+        }
+        if (requestLimiter != null) {
+            registerLimiterGauges(requestMappingInfo, requestLimiter);
+        }
+    }
+
+    /**
+     * 리미터 상태를 라우트별 게이지로 등록한다.
+     *
+     * <pre>
+     * winter_request_limiter_concurrency_max        # @MaxConcurrency 값
+     * winter_request_limiter_concurrency_available  # 남은 동시 처리 슬롯
+     * winter_request_limiter_keyed_buckets          # 키별 토큰 버킷 수
+     * </pre>
+     */
+    private void registerLimiterGauges(RequestMappingInfo requestMappingInfo, RequestLimiter requestLimiter) {
+        for (MetricsRegistry registry : getApplicationContext().getBeanFactory().getBeansOfType(MetricsRegistry.class)) {
+            if (requestLimiter.hasConcurrencyLimit()) {
+                registry.gauge("winter_request_limiter_concurrency_max", requestMappingInfo,
+                    requestLimiter::getMaxConcurrency);
+                registry.gauge("winter_request_limiter_concurrency_available", requestMappingInfo,
+                    requestLimiter::getAvailableConcurrency);
+            }
+            if (requestLimiter.isKeyed()) {
+                registry.gauge("winter_request_limiter_keyed_buckets", requestMappingInfo,
+                    requestLimiter::getKeyedBucketCount);
+            }
+        }
+    }
+
+    /**
+     * 메소드, Controller 순으로 {@link Timeout}을 찾고, 없으면 기본 제한 시간을 사용한다.
+     *
+     * @return 제한 시간 (ns), 제한이 없으면 0
+     */
+    private long resolveTimeoutNanos(HandlerMethod handlerMethod) {
+        Timeout timeout = handlerMethod.getMethod().getAnnotation(Timeout.class);
+        if (timeout == null) {
+            timeout = handlerMethod.getHandlerType().getAnnotation(Timeout.class);
+        }
+        if (timeout == null) {
+            return defaultTimeoutNanos;
+        }
+        return timeout.value() > 0 ? timeout.unit().toNanos(timeout.value()) : 0L;
+    }
 
-        if (handlerMethod != null) {
-            throw new IllegalStateException("Duplicate mapping detected: '" + requestMappingInfo.getUrlPattern() + "':(" + handlerMethod.getHandlerInstance().getClass() + ")");
+    /**
+     * 라우트의 URL 패턴에 일치하는 인터셉터를 골라 배열로 만든다. 요청 처리 중에는 패턴을 비교하지 않는다.
+     */
+    private HandlerInterceptor[] resolveInterceptors(RequestMappingInfo requestMappingInfo) {
+        List<HandlerInterceptor> matched = new ArrayList<>();
+        for (MappedInterceptor interceptor : interceptors) {
+            if (interceptor.matches(requestMappingInfo.getUrlPattern())) {
+                matched.add(interceptor.getInterceptor());
+            }
         }
+        return matched.toArray(new HandlerInterceptor[0]);
     }
 
     /**
@@ -231,6 +341,12 @@ public class RequestMappingHandlerMapping extends ApplicationContextSupport impl
             return directPathHandlerMap.put(requestMappingInfo, handlerMethod);
         }
 
+        public List<HandlerMethod> getHandlerMethods() {
+            List<HandlerMethod> handlerMethods = new ArrayList<>(directPathHandlerMap.values());
+            handlerMethods.addAll(pathVariableHandlerMap.values());
+            return handlerMethods;
+        }
+
         public HandlerMethod getMappingsByPathVariable(String requestURI, String requestMethod) {
             for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : pathVariableHandlerMap.entrySet()) {
                 if (isMatchingPattern(entry.getKey().getUrlPattern(), requestURI) && isMatchingMethod(entry.getKey().getHttpMethods(), requestMethod)) {
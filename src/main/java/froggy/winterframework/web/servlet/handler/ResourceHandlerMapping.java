@@ -0,0 +1,56 @@
+package froggy.winterframework.web.servlet.handler;
+
+import froggy.winterframework.web.servlet.resource.ResourceHttpRequestHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 URL Prefix와 {@link ResourceHttpRequestHandler}를 매핑하는 클래스.
+ *
+ * <p>{@code DispatcherServlet}은 {@link RequestMappingHandlerMapping}에서 핸들러를 찾지 못한 경우에만
+ * 이 매핑을 조회한다. 여러 Prefix가 일치하면 가장 긴 Prefix의 핸들러를 선택한다.
+ */
+public class ResourceHandlerMapping {
+
+    private final List<ResourceHttpRequestHandler> handlers;
+
+    public ResourceHandlerMapping(List<ResourceHttpRequestHandler> handlers) {
+        List<ResourceHttpRequestHandler> sorted = new ArrayList<>(handlers);
+        // 긴 Prefix가 먼저 일치하도록 정렬한다.
+        sorted.sort((h1, h2) -> Integer.compare(h2.getPathPrefix().length(), h1.getPathPrefix().length()));
+        this.handlers = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * 요청 URI에 매핑된 리소스 핸들러를 반환한다.
+     *
+     * @param request Request객체
+     * @return 매핑된 {@link ResourceHttpRequestHandler}, 매핑이 없으면 {@code null}
+     */
+    public ResourceHttpRequestHandler getHandler(HttpServletRequest request) {
+        if (handlers.isEmpty()) {
+            return null;
+        }
+
+        String requestURI = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && requestURI.startsWith(contextPath)) {
+            requestURI = requestURI.substring(contextPath.length());
+        }
+
+        for (ResourceHttpRequestHandler handler : handlers) {
+            String prefix = handler.getPathPrefix();
+            if (prefix.isEmpty() || (requestURI.startsWith(prefix)
+                && (requestURI.length() == prefix.length() || requestURI.charAt(prefix.length()) == '/'))) {
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return handlers.isEmpty();
+    }
+}
@@ -0,0 +1,255 @@
+package froggy.winterframework.web.servlet.limit;
+
+import froggy.winterframework.web.bind.annotation.MaxConcurrency;
+import froggy.winterframework.web.bind.annotation.RateLimit;
+import froggy.winterframework.web.method.HandlerMethod;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 하나의 라우트에 선언된 {@link RateLimit}과 {@link MaxConcurrency}를 적용하는 리미터.
+ *
+ * <p>라우트 등록 시 {@link #forHandlerMethod(HandlerMethod)}로 한 번 생성되어 {@link HandlerMethod}에 보관되며,
+ * 요청 처리 중에는 어노테이션을 다시 읽지 않는다. 토큰 버킷은 CAS 한 번, 동시 처리 제한은
+ * 대기하지 않는 {@link Semaphore#tryAcquire()}로 판단하므로 잠금이 없다.
+ * 거절 응답의 Body와 Header 값은 미리 만들어 둔 값을 그대로 Write한다.
+ */
+public class RequestLimiter {
+
+    /**
+     * 키별 버킷의 최대 수. 이 수에 도달하면 가득 찬(사용되지 않는) 버킷을 정리하고,
+     * 정리해도 자리가 없으면 새 키는 하나의 공유 버킷({@link #overflowBucket})을 함께 사용한다.
+     */
+    static final int MAX_KEYED_BUCKETS = 10_000;
+    /** 버킷 정리 간격. 키가 계속 바뀌는 요청이 매번 전체 순회를 일으키지 않도록 제한한다. */
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+        "{\"status\":429,\"error\":\"Too Many Requests\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SERVICE_UNAVAILABLE_BODY =
+        "{\"status\":503,\"error\":\"Service Unavailable\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String[] RETRY_AFTER_SECONDS = new String[61];
+
+    static {
+        for (int i = 0; i < RETRY_AFTER_SECONDS.length; i++) {
+            RETRY_AFTER_SECONDS[i] = Integer.toString(i);
+        }
+    }
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final RateLimit.Key keyBy;
+    private final String header;
+    /** 키 없이 라우트 전체가 공유하는 버킷, 키별 버킷을 쓰거나 제한이 없으면 {@code null} */
+    private final TokenBucket bucket;
+    private final ConcurrentHashMap<String, TokenBucket> keyedBuckets;
+    /** 키별 버킷이 가득 찼을 때 새 키가 함께 쓰는 버킷 */
+    private final TokenBucket overflowBucket;
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+
+    private final int maxConcurrency;
+    private final Semaphore concurrency;
+
+    private RequestLimiter(RateLimit rateLimit, MaxConcurrency maxConcurrency) {
+        if (rateLimit != null) {
+            this.permitsPerSecond = rateLimit.permitsPerSecond();
+            this.burst = rateLimit.burst() > 0 ? rateLimit.burst() : (int) Math.ceil(rateLimit.permitsPerSecond());
+            this.keyBy = rateLimit.keyBy();
+            this.header = rateLimit.header();
+            if (keyBy == RateLimit.Key.HEADER && header.isEmpty()) {
+                throw new IllegalStateException("@RateLimit(keyBy = HEADER) requires a header name");
+            }
+            this.bucket = keyBy == RateLimit.Key.NONE ? new TokenBucket(permitsPerSecond, burst) : null;
+            this.keyedBuckets = keyBy == RateLimit.Key.NONE ? null : new ConcurrentHashMap<>();
+            this.overflowBucket = keyBy == RateLimit.Key.NONE ? null : new TokenBucket(permitsPerSecond, burst);
+        } else {
+            this.permitsPerSecond = 0;
+            this.burst = 0;
+            this.keyBy = RateLimit.Key.NONE;
+            this.header = "";
+            this.bucket = null;
+            this.keyedBuckets = null;
+            this.overflowBucket = null;
+        }
+
+        if (maxConcurrency != null) {
+            if (maxConcurrency.value() <= 0) {
+                throw new IllegalStateException("@MaxConcurrency value must be positive: " + maxConcurrency.value());
+            }
+            this.maxConcurrency = maxConcurrency.value();
+            this.concurrency = new Semaphore(maxConcurrency.value());
+        } else {
+            this.maxConcurrency = 0;
+            this.concurrency = null;
+        }
+    }
+
+    /**
+     * 핸들러 메소드(없으면 Controller 클래스)에 선언된 어노테이션으로 리미터를 만든다.
+     *
+     * @return 생성된 리미터, 제한이 선언되지 않았으면 {@code null}
+     */
+    public static RequestLimiter forHandlerMethod(HandlerMethod handlerMethod) {
+        RateLimit rateLimit = handlerMethod.getMethod().getAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            rateLimit = handlerMethod.getHandlerType().getAnnotation(RateLimit.class);
+        }
+        MaxConcurrency maxConcurrency = handlerMethod.getMethod().getAnnotation(MaxConcurrency.class);
+        if (maxConcurrency == null) {
+            maxConcurrency = handlerMethod.getHandlerType().getAnnotation(MaxConcurrency.class);
+        }
+
+        if (rateLimit == null && maxConcurrency == null) {
+            return null;
+        }
+        return new RequestLimiter(rateLimit, maxConcurrency);
+    }
+
+    /**
+     * 요청에 해당하는 버킷에서 토큰을 획득한다.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간 (ns)
+     */
+    public long tryAcquirePermit(HttpServletRequest request) {
+        if (bucket != null) {
+            return bucket.tryAcquire();
+        }
+        if (keyedBuckets == null) {
+            return 0L;
+        }
+        return bucketFor(resolveKey(request)).tryAcquire();
+    }
+
+    /**
+     * 동시 처리 슬롯을 획득한다. 획득했으면 요청이 끝난 뒤 {@link #release()}를 호출해야 한다.
+     *
+     * @return 제한이 없거나 획득했으면 {@code true}
+     */
+    public boolean tryAcquireConcurrency() {
+        return concurrency == null || concurrency.tryAcquire();
+    }
+
+    /**
+     * {@link #tryAcquireConcurrency()}로 획득한 슬롯을 반환한다.
+     */
+    public void release() {
+        if (concurrency != null) {
+            concurrency.release();
+        }
+    }
+
+    public boolean hasConcurrencyLimit() {
+        return concurrency != null;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 현재 남은 동시 처리 슬롯 수, 제한이 없으면 -1.
+     */
+    public int getAvailableConcurrency() {
+        return concurrency != null ? concurrency.availablePermits() : -1;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 요청 키(Header, Client IP)별로 버킷을 나누는지 여부.
+     */
+    public boolean isKeyed() {
+        return keyedBuckets != null;
+    }
+
+    /**
+     * 키별 버킷 수, 키를 사용하지 않으면 0.
+     */
+    public int getKeyedBucketCount() {
+        return keyedBuckets != null ? keyedBuckets.size() : 0;
+    }
+
+    /**
+     * {@code 429 Too Many Requests}와 {@code Retry-After}를 Write한다.
+     *
+     * @param retryAfterNanos 다음 토큰까지 남은 시간 (ns), 초 단위로 올림한다
+     */
+    public static void writeTooManyRequests(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        long seconds = Math.max(1L, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        String retryAfter = seconds < RETRY_AFTER_SECONDS.length ? RETRY_AFTER_SECONDS[(int) seconds] : Long.toString(seconds);
+        writeRejection(response, 429, retryAfter, TOO_MANY_REQUESTS_BODY);
+    }
+
+    /**
+     * {@code 503 Service Unavailable}과 {@code Retry-After: 1}을 Write한다.
+     */
+    public static void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        writeRejection(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, RETRY_AFTER_SECONDS[1],
+            SERVICE_UNAVAILABLE_BODY);
+    }
+
+    private static void writeRejection(HttpServletResponse response, int status, String retryAfter, byte[] body)
+        throws IOException {
+        response.setStatus(status);
+        response.setHeader("Retry-After", retryAfter);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        outputStream.flush();
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        String key = keyBy == RateLimit.Key.HEADER ? request.getHeader(header) : request.getRemoteAddr();
+        return key != null ? key : "";
+    }
+
+    private TokenBucket bucketFor(String key) {
+        TokenBucket keyed = keyedBuckets.get(key);
+        if (keyed != null) {
+            return keyed;
+        }
+
+        if (keyedBuckets.size() >= MAX_KEYED_BUCKETS) {
+            evictIdleBuckets();
+            if (keyedBuckets.size() >= MAX_KEYED_BUCKETS) {
+                // 정리할 버킷이 없으면 맵을 늘리지 않고 새 키를 하나의 버킷으로 함께 제한한다.
+                return overflowBucket;
+            }
+        }
+        return keyedBuckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst));
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같은 상태이므로 제거해도 제한 동작이 바뀌지 않는다.
+     * {@link #EVICTION_INTERVAL_NANOS}마다 한 스레드만 순회한다.
+     */
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long next = nextEvictionNanos.get();
+        if (now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+            return;
+        }
+
+        Iterator<TokenBucket> iterator = keyedBuckets.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isIdle(now)) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package froggy.winterframework.web.servlet.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없이 동작하는 토큰 버킷.
+ *
+ * <p>GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 보충되는 이론적 시각" 하나만
+ * {@link AtomicLong}에 보관하므로, 토큰 획득은 한 번의 CAS로 끝나며 보충을 위한 별도 스레드가 없다.
+ */
+public class TokenBucket {
+
+    /** 토큰 하나가 보충되는 간격 (ns) */
+    private final long intervalNanos;
+    /** 버킷이 가득 찬 상태에서 연속으로 허용되는 구간 (ns) */
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstNanos - intervalNanos);
+    }
+
+    /**
+     * 토큰 하나를 획득한다.
+     *
+     * @return 획득했으면 0, 토큰이 없으면 다음 토큰까지 남은 시간 (ns)
+     */
+    public long tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = tat - now > 0 ? tat : now;
+            long wait = start - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(최근에 사용되지 않음)인지 여부. 키별 버킷 정리에 사용한다.
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,31 @@
+package froggy.winterframework.web.servlet.mvc;
+
+import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.servlet.HandlerAdapter;
+import froggy.winterframework.web.servlet.HttpRequestHandler;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * {@link HttpRequestHandler} 타입의 핸들러를 실행하는 핸들러 어댑터.
+ *
+ * <p>핸들러가 응답을 직접 Write하므로 항상 처리 완료된 ModelAndView를 반환한다.
+ */
+public class HttpRequestHandlerAdapter implements HandlerAdapter {
+
+    @Override
+    public boolean supports(Object handler) {
+        return handler instanceof HttpRequestHandler;
+    }
+
+    @Override
+    public ModelAndView handle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) throws Exception {
+
+        ((HttpRequestHandler) handler).handleRequest(request, response);
+
+        ModelAndView mavContainer = ModelAndView.createContainer();
+        mavContainer.setRequestHandled(true);
+        return mavContainer;
+    }
+}
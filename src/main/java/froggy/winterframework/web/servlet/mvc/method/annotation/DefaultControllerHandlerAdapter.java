@@ -1,19 +1,24 @@
 package froggy.winterframework.web.servlet.mvc.method.annotation;
 
 import froggy.winterframework.core.MethodParameter;
+import froggy.winterframework.metrics.jfr.WinterFlightEvents;
 import froggy.winterframework.stereotype.Controller;
 import froggy.winterframework.utils.DefaultTypeConverter;
 import froggy.winterframework.utils.convert.TypeConverter;
 import froggy.winterframework.validation.BindingResult;
 import froggy.winterframework.validation.MethodArgumentNotValidException;
 import froggy.winterframework.validation.Validator;
+import froggy.winterframework.web.bind.annotation.CacheResponse;
 import froggy.winterframework.web.ModelAndView;
 import froggy.winterframework.web.context.request.NativeWebRequest;
+import froggy.winterframework.web.context.request.RequestDeadline;
 import froggy.winterframework.web.context.request.ServletWebRequest;
 import froggy.winterframework.web.method.HandlerMethod;
 import froggy.winterframework.web.method.annotation.ModelAndViewMethodReturnValueHandler;
 import froggy.winterframework.web.method.annotation.PathVariableMethodArgumentResolver;
 import froggy.winterframework.web.method.annotation.RequestBodyMethodArgumentResolver;
+import froggy.winterframework.web.method.annotation.RequestContextMethodArgumentResolver;
+import froggy.winterframework.web.method.annotation.RequestDeadlineMethodArgumentResolver;
 import froggy.winterframework.web.method.annotation.RequestHeaderMethodArgumentResolver;
 import froggy.winterframework.web.method.annotation.RequestParamMethodArgumentResolver;
 import froggy.winterframework.web.method.annotation.ResponseBodyMethodReturnValueHandler;
@@ -24,10 +29,14 @@ import froggy.winterframework.web.method.annotation.ServletResponseMethodArgumen
 import froggy.winterframework.web.method.support.HandlerMethodArgumentResolver;
 import froggy.winterframework.web.method.support.HandlerMethodReturnValueHandler;
 import froggy.winterframework.web.servlet.HandlerAdapter;
+import froggy.winterframework.web.servlet.cache.CachedResponse;
+import froggy.winterframework.web.servlet.cache.ContentCachingResponseWrapper;
+import froggy.winterframework.web.servlet.cache.ResponseCache;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
@@ -40,6 +49,7 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
     private final Validator validator;
     private final List<HandlerMethodArgumentResolver> resolvers = new LinkedList<>();
     private final List<HandlerMethodReturnValueHandler> returnValueHandlers = new LinkedList<>();
+    private ResponseCache responseCache;
 
     public DefaultControllerHandlerAdapter(Validator validator) {
         this.validator = validator;
@@ -57,6 +67,8 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
         resolvers.add(new ServletRequestMethodArgumentResolver());
         resolvers.add(new ServletResponseMethodArgumentResolver());
         resolvers.add(new ServletCookieValueMethodArgumentResolver(converter));
+        resolvers.add(new RequestDeadlineMethodArgumentResolver());
+        resolvers.add(new RequestContextMethodArgumentResolver());
     }
 
     private void initReturnValueHandlers() {
@@ -73,6 +85,14 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
         returnValueHandlers.addAll(customReturnValueHandlers);
     }
 
+    /**
+     * {@link CacheResponse} 핸들러 메소드에 사용할 응답 캐시를 설정한다.
+     * 설정하지 않으면 {@link CacheResponse}는 무시된다.
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
     /**
      * 해당 핸들러가 @Controller 여부를 확인하여 지원 여부 결정.
      *
@@ -81,7 +101,7 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
      */
     @Override
     public boolean supports(Object handler) {
-        return ((HandlerMethod) handler)
+        return handler instanceof HandlerMethod && ((HandlerMethod) handler)
             .getHandlerInstance()
             .getClass()
             .isAnnotationPresent(Controller.class);
@@ -101,27 +121,155 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
         Object handler) throws Exception {
 
         HandlerMethod handlerMethod = (HandlerMethod) handler;
+        CacheResponse cacheResponse = handlerMethod.getCacheResponse();
+        if (cacheResponse != null && responseCache != null && "GET".equals(request.getMethod())) {
+            return handleWithResponseCache(request, response, handlerMethod, cacheResponse);
+        }
+
+        return invokeAndHandle(request, response, handlerMethod);
+    }
+
+    /**
+     * 핸들러가 반환한 {@link CompletionStage}의 결과 값을 반환 타입 처리기로 Write한다.
+     * 비동기 결과는 View 렌더링을 지원하지 않으므로 응답 Body를 직접 Write하는 결과여야 한다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler  요청을 처리한 핸들러 객체
+     * @param result   완료된 결과 값
+     * @return 처리 결과를 포함한 ModelAndView
+     * @throws Exception 결과 처리 중 예외
+     */
+    @Override
+    public ModelAndView handleAsyncResult(HttpServletRequest request, HttpServletResponse response,
+        Object handler, Object result) throws Exception {
+        HandlerMethod handlerMethod = ((HandlerMethod) handler)
+            .withReturnType(result != null ? result.getClass() : Void.class);
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        ModelAndView mavContainer = ModelAndView.createContainer();
+        handleReturnValue(handlerMethod, result, webRequest, mavContainer);
+
+        if (!mavContainer.isRequestHandled()) {
+            throw new IllegalStateException("Async handler result must be written as a response body: "
+                + describe(handlerMethod.getMethod()));
+        }
+        return mavContainer;
+    }
+
+    /**
+     * 응답 캐시를 조회하여 캐시된 응답이 있으면 핸들러를 호출하지 않고 그대로 Write한다.
+     * 캐시가 없거나 만료되어 이 스레드가 계산을 맡은 경우 Body를 버퍼링하여 핸들러를 실행하고 결과를 캐시에 저장한다.
+     *
+     * @param request       HTTP 요청 객체
+     * @param response      HTTP 응답 객체
+     * @param handlerMethod 요청을 처리할 핸들러 메소드
+     * @param cacheResponse 핸들러 메소드의 캐시 설정
+     * @return 처리 결과를 포함한 ModelAndView
+     * @throws Exception 핸들러 실행 중 예외
+     */
+    private ModelAndView handleWithResponseCache(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        HandlerMethod handlerMethod,
+        CacheResponse cacheResponse
+    ) throws Exception {
+        String key = responseCache.createKey(handlerMethod, cacheResponse, request);
+        ResponseCache.Lookup lookup = responseCache.lookup(key);
+
+        CachedResponse cachedResponse = lookup.getCachedResponse();
+        if (cachedResponse != null) {
+            cachedResponse.writeTo(new ServletWebRequest(request, response), response);
+            ModelAndView mavContainer = ModelAndView.createContainer();
+            mavContainer.setRequestHandled(true);
+            return mavContainer;
+        }
+
+        if (!lookup.isLoader()) {
+            return invokeAndHandle(request, response, handlerMethod);
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        CachedResponse loaded = null;
+        try {
+            ModelAndView mavContainer = invokeAndHandle(request, responseWrapper, handlerMethod);
+            if (mavContainer.isRequestHandled()) {
+                loaded = responseCache.createCachedResponse(responseWrapper, cacheResponse);
+            }
+            responseWrapper.copyBodyToResponse();
+            return mavContainer;
+        } finally {
+            responseCache.complete(lookup, loaded);
+        }
+    }
+
+    private ModelAndView invokeAndHandle(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        HandlerMethod handlerMethod
+    ) throws Exception {
         Method method = handlerMethod.getMethod();
         Object instance = handlerMethod.getHandlerInstance();
 
-        NativeWebRequest webRequest = new ServletWebRequest(request, response);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
         ModelAndView mavContainer = ModelAndView.createContainer();
 
         MethodParameter[] methodParameters = MethodParameter.forMethod(method);
         Object[] args = getMethodArgumentValues(webRequest, methodParameters, mavContainer);
 
-        Object returnValue = invokeHandlerMethod(instance, method, args);
+        // 인자 바인딩(요청 Body 읽기 등) 중에 Deadline이 지났으면 핸들러를 호출하지 않는다.
+        RequestDeadline.from(request).checkNotExpired();
+
+        Object invocationEvent = WinterFlightEvents.HANDLER_INVOCATION.begin();
+        Object returnValue;
+        try {
+            returnValue = invokeHandlerMethod(instance, method, args);
+        } finally {
+            if (invocationEvent != null) {
+                WinterFlightEvents.HANDLER_INVOCATION.commit(invocationEvent, describe(method));
+            }
+        }
+        if (returnValue instanceof CompletionStage) {
+            mavContainer.setAsyncResult((CompletionStage<?>) returnValue);
+            return mavContainer;
+        }
+
+        return handleReturnValue(handlerMethod, returnValue, webRequest, mavContainer);
+    }
+
+    private ModelAndView handleReturnValue(
+        HandlerMethod handlerMethod,
+        Object returnValue,
+        ServletWebRequest webRequest,
+        ModelAndView mavContainer
+    ) throws Exception {
+        Method method = handlerMethod.getMethod();
+        Object instance = handlerMethod.getHandlerInstance();
         Class<?> declaredReturnType = handlerMethod.getReturnType();
 
         if (returnValue == null && mavContainer.isRequestHandled()) {
             return mavContainer;
         }
 
+        // 핸들러가 checkNotModified()로 304를 결정하고 null을 반환한 경우 Body 없이 종료한다.
+        if (returnValue == null && webRequest.isNotModified()) {
+            mavContainer.setRequestHandled(true);
+            return mavContainer;
+        }
+
         mavContainer.setRequestHandled(false);
         for (HandlerMethodReturnValueHandler returnValueHandler : returnValueHandlers) {
             if (returnValueHandler.supportsReturnType(handlerMethod)) {
-                returnValueHandler.handleReturnValue(
-                    returnValue, declaredReturnType, webRequest, mavContainer);
+                Object returnValueEvent = WinterFlightEvents.RETURN_VALUE_HANDLING.begin();
+                try {
+                    returnValueHandler.handleReturnValue(
+                        returnValue, declaredReturnType, webRequest, mavContainer);
+                } finally {
+                    if (returnValueEvent != null) {
+                        WinterFlightEvents.RETURN_VALUE_HANDLING.commit(
+                            returnValueEvent, describe(method), returnValueHandler.getClass());
+                    }
+                }
                 if (returnValue == null && !mavContainer.isRequestHandled()
                     && mavContainer.getView() == null) {
                     throw new IllegalStateException(
@@ -220,12 +368,28 @@ public class DefaultControllerHandlerAdapter implements HandlerAdapter {
         throws Exception {
         for (HandlerMethodArgumentResolver resolver : resolvers) {
             if (resolver.supportsParameter(parameter)) {
-                return resolver.resolveArgument(parameter, webRequest, mavContainer);
+                Object resolutionEvent = WinterFlightEvents.ARGUMENT_RESOLUTION.begin();
+                try {
+                    return resolver.resolveArgument(parameter, webRequest, mavContainer);
+                } finally {
+                    if (resolutionEvent != null) {
+                        WinterFlightEvents.ARGUMENT_RESOLUTION.commit(resolutionEvent,
+                            describe(parameter.getMethod()), parameter.getParameterIndex(),
+                            parameter.getParameterType(), resolver.getClass());
+                    }
+                }
             }
         }
         return null;
     }
 
+    /**
+     * JFR 이벤트에 기록할 핸들러 이름. 이벤트가 켜져 있을 때만 호출된다.
+     */
+    private String describe(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
+
     private Object invokeHandlerMethod(Object instance, Method method, Object[] args) throws Exception {
         try {
             return method.invoke(instance, args);
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import froggy.winterframework.validation.BindingResult;
 import froggy.winterframework.validation.MethodArgumentNotValidException;
 import froggy.winterframework.web.ModelAndView;
+import froggy.winterframework.web.servlet.DeadlineExceededException;
 import froggy.winterframework.web.servlet.ExceptionResolver;
 import froggy.winterframework.web.servlet.MethodNotAllowedException;
 import froggy.winterframework.web.servlet.NoHandlerFoundException;
@@ -73,6 +74,10 @@ public class DefaultHandlerExceptionResolver implements ExceptionResolver {
             return resolveMethodNotAllowedError((MethodNotAllowedException) exception);
         }
 
+        if (exception instanceof DeadlineExceededException) {
+            return resolveDeadlineExceededError((DeadlineExceededException) exception);
+        }
+
         return null;
     }
 
@@ -139,6 +144,15 @@ public class DefaultHandlerExceptionResolver implements ExceptionResolver {
         );
     }
 
+    private ResolvedError resolveDeadlineExceededError(DeadlineExceededException deadlineException) {
+        int status = deadlineException.getStatus();
+        return ResolvedError.of(
+            status,
+            status == HttpServletResponse.SC_GATEWAY_TIMEOUT ? "GATEWAY_TIMEOUT" : "SERVICE_UNAVAILABLE",
+            nonEmptyMessage(deadlineException.getMessage(), "Request deadline exceeded")
+        );
+    }
+
     private void writeResolvedError(
         HttpServletRequest request,
         HttpServletResponse response,
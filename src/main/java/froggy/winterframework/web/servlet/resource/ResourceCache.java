@@ -0,0 +1,103 @@
+package froggy.winterframework.web.servlet.resource;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작은 정적 리소스의 내용을 메모리에 보관하는 LRU 캐시.
+ *
+ * <p>항목 수가 아니라 보관 중인 전체 바이트 크기로 상한을 관리하며,
+ * 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ * 파일이 변경되면(최종 수정 시각 또는 크기가 다르면) 캐시 항목을 사용하지 않는다.
+ */
+public class ResourceCache {
+
+    private final int maxEntrySize;
+    private final long maxTotalSize;
+    private final LinkedHashMap<String, CachedContent> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * @param maxEntrySize 캐시할 리소스 하나의 최대 크기 (bytes)
+     * @param maxTotalSize 캐시 전체의 최대 크기 (bytes)
+     */
+    public ResourceCache(int maxEntrySize, long maxTotalSize) {
+        if (maxEntrySize < 0 || maxTotalSize < 0) {
+            throw new IllegalArgumentException("Resource cache sizes must not be negative");
+        }
+        this.maxEntrySize = maxEntrySize;
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    /**
+     * 주어진 크기의 리소스를 캐시할 수 있는지 확인한다. 크기를 알 수 없으면(음수) 캐시하지 않는다.
+     */
+    public boolean isCacheable(long contentLength) {
+        return contentLength >= 0 && contentLength <= maxEntrySize && contentLength <= maxTotalSize;
+    }
+
+    /**
+     * 캐시된 내용을 반환한다.
+     *
+     * @param key          리소스 식별 키
+     * @param lastModified 현재 리소스의 최종 수정 시각
+     * @param length       현재 리소스의 크기
+     * @return 캐시된 내용, 없거나 변경되었으면 {@code null}
+     */
+    public synchronized byte[] get(String key, long lastModified, long length) {
+        CachedContent cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.lastModified != lastModified || cached.content.length != length) {
+            remove(key);
+            return null;
+        }
+        return cached.content;
+    }
+
+    /**
+     * 리소스 내용을 캐시에 저장하고, 전체 크기 상한을 넘으면 오래된 항목부터 제거한다.
+     */
+    public synchronized void put(String key, long lastModified, byte[] content) {
+        if (!isCacheable(content.length)) {
+            return;
+        }
+
+        remove(key);
+        entries.put(key, new CachedContent(lastModified, content));
+        totalSize += content.length;
+
+        Iterator<Map.Entry<String, CachedContent>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxTotalSize && iterator.hasNext()) {
+            totalSize -= iterator.next().getValue().content.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 현재 캐시에 보관 중인 전체 바이트 크기를 반환한다.
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    private void remove(String key) {
+        CachedContent removed = entries.remove(key);
+        if (removed != null) {
+            totalSize -= removed.content.length;
+        }
+    }
+
+    private static final class CachedContent {
+        private final long lastModified;
+        private final byte[] content;
+
+        private CachedContent(long lastModified, byte[] content) {
+            this.lastModified = lastModified;
+            this.content = content;
+        }
+    }
+}
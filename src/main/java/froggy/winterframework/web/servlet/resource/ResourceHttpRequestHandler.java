@@ -0,0 +1,696 @@
+package froggy.winterframework.web.servlet.resource;
+
+import froggy.winterframework.web.context.request.ServletWebRequest;
+import froggy.winterframework.web.servlet.HttpRequestHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.HttpOutput;
+
+/**
+ * 매핑된 URL Prefix 아래의 요청을 지정된 위치(classpath, 파일 시스템)의 정적 리소스로 응답하는 핸들러.
+ *
+ * <ul>
+ *     <li>확장자 기반 MIME 타입 결정</li>
+ *     <li>작은 리소스는 {@link ResourceCache}에 보관하고, 큰 파일은 memory-mapped 버퍼로 전송</li>
+ *     <li>Accept-Encoding에 따라 미리 압축된 {@code .br}, {@code .gz} 파일을 우선 응답</li>
+ *     <li>파일명에 콘텐츠 해시가 포함된 URL({@code app-3f2a9c1d.css})은 해시를 제거해 찾고 장기 캐시 헤더를 부여</li>
+ *     <li>ETag, Last-Modified 기반 304 응답과 단일 Byte-Range(206) 요청 지원</li>
+ * </ul>
+ *
+ * <p>경로별로 조회한 리소스(압축 파일 유무 포함)를 기억해 요청마다 다시 찾지 않는다.
+ * 파일은 최종 수정 시각과 크기를 한 번 확인해 바뀌었으면 다시 찾고, jar 안의 리소스는 바뀌지 않으므로 확인하지 않는다.
+ */
+public class ResourceHttpRequestHandler implements HttpRequestHandler {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
+    private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
+    private static final long VERSIONED_CACHE_SECONDS = 365L * 24 * 60 * 60;
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+    /** 파일명 마지막 확장자 앞에 붙은 {@code -<hex>} 형태의 콘텐츠 해시 */
+    private static final Pattern FINGERPRINT_PATTERN = Pattern.compile("-[0-9a-fA-F]{8,64}(?=\\.[^./]+$)");
+
+    /** 선호 순서대로 나열한 미리 압축된 리소스의 인코딩과 확장자 */
+    private static final String[][] ENCODED_VARIANTS = {{"br", ".br"}, {"gzip", ".gz"}};
+
+    private static final Map<String, String> MIME_TYPES = createMimeTypes();
+
+    /** 기억할 조회 결과의 최대 수. 존재하지 않는 경로가 계속 요청되어도 이 수 이상 늘지 않는다. */
+    private static final int MAX_RESOLVED_RESOURCES = 4096;
+    /** classpath에 없는 것으로 확인된 경로 */
+    private static final StaticResource NOT_FOUND = new StaticResource(null, null, null, null, -1, -1, null);
+
+    private final String pathPrefix;
+    private final List<String> locations;
+    private final int cachePeriod;
+    private final ResourceCache resourceCache;
+    private final ConcurrentHashMap<String, StaticResource> resolvedResources = new ConcurrentHashMap<>();
+
+    /**
+     * @param pathPrefix    요청 URL에서 제거할 매핑 Prefix (예: {@code /static})
+     * @param locations     리소스를 찾을 위치 목록 (예: {@code classpath:/static/}, {@code file:/var/www/})
+     * @param cachePeriod   Cache-Control max-age(초), 음수면 헤더를 설정하지 않음
+     * @param resourceCache 작은 리소스를 보관할 캐시
+     */
+    public ResourceHttpRequestHandler(String pathPrefix, List<String> locations, int cachePeriod,
+        ResourceCache resourceCache) {
+        this.pathPrefix = pathPrefix;
+        this.locations = Collections.unmodifiableList(new ArrayList<>(locations));
+        this.cachePeriod = cachePeriod;
+        this.resourceCache = resourceCache;
+    }
+
+    public String getPathPrefix() {
+        return pathPrefix;
+    }
+
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            response.setHeader("Allow", "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String resourcePath = getResourcePath(request);
+        if (resourcePath == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        boolean versioned = false;
+        StaticResource resource = resolveResource(resourcePath);
+        if (resource == null) {
+            String unversionedPath = stripFingerprint(resourcePath);
+            if (unversionedPath != null) {
+                resource = resolveResource(unversionedPath);
+                versioned = (resource != null);
+            }
+        }
+
+        if (resource == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String rangeHeader = request.getHeader("Range");
+        // Range 요청은 원본 리소스 기준으로 처리하므로 압축 파일을 선택하지 않는다.
+        StaticResource selected = (rangeHeader == null) ? selectEncodedVariant(request, resource) : resource;
+
+        applyCacheHeaders(response, versioned);
+        response.setHeader("Vary", "Accept-Encoding");
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(selected.eTag(), selected.lastModified)) {
+            return;
+        }
+
+        response.setContentType(resolveMimeType(request, resource.name));
+        if (selected.length >= 0) {
+            response.setHeader("Accept-Ranges", "bytes");
+        }
+        if (selected.encoding != null) {
+            response.setHeader("Content-Encoding", selected.encoding);
+        }
+
+        // 크기를 알 수 없는 리소스(일부 jar/URL)는 Range 없이 전체를 스트리밍한다.
+        if (rangeHeader != null && selected.length >= 0 && matchesIfRange(request, selected)) {
+            writeRange(request, response, selected, rangeHeader);
+            return;
+        }
+
+        writeContent(request, response, selected, 0, selected.length);
+    }
+
+    /**
+     * 요청 URI에서 매핑 Prefix를 제거하고 디코딩한 리소스 경로를 반환한다.
+     * 상위 디렉터리 접근 등 안전하지 않은 경로는 {@code null}을 반환한다.
+     */
+    private String getResourcePath(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && requestURI.startsWith(contextPath)) {
+            requestURI = requestURI.substring(contextPath.length());
+        }
+
+        if (!requestURI.startsWith(pathPrefix)) {
+            return null;
+        }
+
+        String path;
+        try {
+            path = URLDecoder.decode(requestURI.substring(pathPrefix.length()).replace("+", "%2B"),
+                StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return null;
+        }
+
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+
+        if (path.isEmpty() || path.endsWith("/") || !isSafePath(path)) {
+            return null;
+        }
+        return path;
+    }
+
+    private boolean isSafePath(String path) {
+        if (path.indexOf('\\') >= 0 || path.indexOf(':') >= 0 || path.indexOf('\0') >= 0) {
+            return false;
+        }
+
+        for (String segment : path.split("/")) {
+            if ("..".equals(segment) || ".".equals(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String stripFingerprint(String path) {
+        Matcher matcher = FINGERPRINT_PATTERN.matcher(path);
+        if (!matcher.find()) {
+            return null;
+        }
+        return path.substring(0, matcher.start()) + path.substring(matcher.end());
+    }
+
+    /**
+     * 등록된 위치를 순서대로 조회하여 처음 발견된 리소스를 반환한다.
+     */
+    private StaticResource resolveResource(String path) throws IOException {
+        for (String location : locations) {
+            StaticResource resource = resolveResource(location, path, null);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    private StaticResource resolveResource(String location, String path, String encoding) throws IOException {
+        String key = location + '\u0000' + path + '\u0000' + encoding;
+        StaticResource cached = resolvedResources.get(key);
+        if (cached == NOT_FOUND) {
+            return null;
+        }
+        if (cached != null && cached.isUnchanged()) {
+            return cached;
+        }
+
+        boolean classpath = location.startsWith(CLASSPATH_PREFIX);
+        StaticResource resource;
+        if (classpath) {
+            resource = resolveClasspathResource(location, path, encoding);
+        } else {
+            String directory = location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location;
+            resource = resolveFileResource(location, Paths.get(directory), path, encoding);
+        }
+
+        // 파일 위치는 나중에 파일이 생길 수 있으므로 없는 결과를 기억하지 않는다.
+        if (resource == null && !classpath) {
+            resolvedResources.remove(key);
+        } else if (cached != null || resolvedResources.size() < MAX_RESOLVED_RESOURCES) {
+            resolvedResources.put(key, resource != null ? resource : NOT_FOUND);
+        }
+        return resource;
+    }
+
+    private StaticResource resolveFileResource(String location, Path directory, String path, String encoding)
+        throws IOException {
+        Path baseDirectory = directory.toAbsolutePath().normalize();
+        Path file = baseDirectory.resolve(path).normalize();
+        if (!file.startsWith(baseDirectory) || !Files.isRegularFile(file)) {
+            return null;
+        }
+
+        return StaticResource.forFile(location, file, path, encoding);
+    }
+
+    private StaticResource resolveClasspathResource(String location, String path, String encoding)
+        throws IOException {
+        String classpathLocation = location.substring(CLASSPATH_PREFIX.length());
+        String basePath = classpathLocation.startsWith("/") ? classpathLocation.substring(1) : classpathLocation;
+        if (!basePath.isEmpty() && !basePath.endsWith("/")) {
+            basePath = basePath + "/";
+        }
+
+        URL url = getClassLoader().getResource(basePath + path);
+        if (url == null) {
+            return null;
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                Path file = Paths.get(url.toURI());
+                return Files.isRegularFile(file) ? StaticResource.forFile(location, file, path, encoding) : null;
+            } catch (URISyntaxException e) {
+                return null;
+            }
+        }
+
+        return StaticResource.forUrl(location, url, path, encoding);
+    }
+
+    private ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ResourceHttpRequestHandler.class.getClassLoader();
+    }
+
+    /**
+     * Accept-Encoding에 맞는 미리 압축된 리소스({@code .br}, {@code .gz})가 같은 위치에 있으면 선택한다.
+     */
+    private StaticResource selectEncodedVariant(HttpServletRequest request, StaticResource resource)
+        throws IOException {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return resource;
+        }
+
+        for (String[] variant : ENCODED_VARIANTS) {
+            if (!isEncodingAccepted(acceptEncoding, variant[0])) {
+                continue;
+            }
+
+            StaticResource encoded = resolveResource(resource.location, resource.name + variant[1], variant[0]);
+            if (encoded != null) {
+                return encoded;
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Accept-Encoding의 Coding 목록에 주어진 Coding이 {@code q > 0}으로 포함되어 있는지 확인한다.
+     * 명시되지 않은 Coding은 {@code *}의 q 값을 따른다.
+     */
+    private static boolean isEncodingAccepted(String acceptEncoding, String coding) {
+        double wildcardQuality = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim();
+            double quality = parseQuality(parts);
+            if (name.equalsIgnoreCase(coding)) {
+                return quality > 0;
+            }
+            if ("*".equals(name)) {
+                wildcardQuality = quality;
+            }
+        }
+        return wildcardQuality > 0;
+    }
+
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private void applyCacheHeaders(HttpServletResponse response, boolean versioned) {
+        if (versioned) {
+            // 콘텐츠 해시가 포함된 URL은 내용이 바뀌면 URL도 바뀌므로 장기 캐시한다.
+            response.setHeader("Cache-Control", "public, max-age=" + VERSIONED_CACHE_SECONDS + ", immutable");
+            return;
+        }
+
+        if (cachePeriod == 0) {
+            response.setHeader("Cache-Control", "no-cache");
+        } else if (cachePeriod > 0) {
+            response.setHeader("Cache-Control", "max-age=" + cachePeriod);
+        }
+    }
+
+    /**
+     * If-Range가 없거나 현재 리소스와 일치하는 경우에만 Range 요청을 적용한다.
+     */
+    private boolean matchesIfRange(HttpServletRequest request, StaticResource resource) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(resource.eTag());
+        }
+
+        try {
+            long ifRangeDate = request.getDateHeader("If-Range");
+            return ifRangeDate != -1 && resource.lastModified / 1000 * 1000 <= ifRangeDate;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 단일 Byte-Range 요청을 206으로 응답한다.
+     * 여러 Range를 요청하거나 형식이 {@code bytes=}가 아니면 전체 리소스를 응답한다.
+     */
+    private void writeRange(HttpServletRequest request, HttpServletResponse response,
+        StaticResource resource, String rangeHeader) throws IOException {
+        long[] range = parseRange(rangeHeader, resource.length);
+        if (range == null) {
+            writeContent(request, response, resource, 0, resource.length);
+            return;
+        }
+
+        if (range.length == 0) {
+            response.setHeader("Content-Range", "bytes */" + resource.length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = range[0];
+        long end = range[1];
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + resource.length);
+        writeContent(request, response, resource, start, end - start + 1);
+    }
+
+    /**
+     * Range 헤더를 해석한다.
+     *
+     * @return {@code {start, end}}, 무시할 Range면 {@code null}, 만족할 수 없는 Range면 빈 배열
+     */
+    private long[] parseRange(String rangeHeader, long length) {
+        if (!rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String spec = rangeHeader.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String startPart = spec.substring(0, dash).trim();
+            String endPart = spec.substring(dash + 1).trim();
+
+            long start;
+            long end;
+            if (startPart.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                long suffixLength = Long.parseLong(endPart);
+                if (suffixLength <= 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(startPart);
+                end = endPart.isEmpty() ? length - 1 : Math.min(Long.parseLong(endPart), length - 1);
+            }
+
+            if (start < 0 || start >= length || start > end) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 리소스의 지정된 구간을 Write한다.
+     * 캐시 가능한 크기는 메모리 캐시를 거치고, 큰 파일은 memory-mapped 버퍼로 전송한다.
+     *
+     * @param length Write할 길이, 음수이면 크기를 알 수 없는 리소스로 보고 끝까지 스트리밍한다
+     */
+    private void writeContent(HttpServletRequest request, HttpServletResponse response,
+        StaticResource resource, long start, long length) throws IOException {
+        if (length >= 0) {
+            response.setContentLengthLong(length);
+        }
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        ServletOutputStream outputStream = response.getOutputStream();
+
+        if (resourceCache.isCacheable(resource.length)) {
+            byte[] content = resourceCache.get(resource.cacheKey, resource.lastModified, resource.length);
+            if (content == null) {
+                content = resource.readAllBytes();
+                resourceCache.put(resource.cacheKey, resource.lastModified, content);
+            }
+            outputStream.write(content, (int) start, (int) length);
+            return;
+        }
+
+        if (resource.file != null) {
+            try (FileChannel channel = FileChannel.open(resource.file, StandardOpenOption.READ)) {
+                if (outputStream instanceof HttpOutput) {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    ((HttpOutput) outputStream).sendContent(mapped);
+                    return;
+                }
+
+                channel.position(start);
+                copy(Channels.newInputStream(channel), outputStream, length);
+            }
+            return;
+        }
+
+        try (InputStream inputStream = resource.url.openStream()) {
+            long skipped = 0;
+            while (skipped < start) {
+                long n = inputStream.skip(start - skipped);
+                if (n <= 0) {
+                    throw new IOException("Failed to skip to range start of resource: " + resource.name);
+                }
+                skipped += n;
+            }
+            copy(inputStream, outputStream, length);
+        }
+    }
+
+    private void copy(InputStream inputStream, OutputStream outputStream, long length) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long remaining = length < 0 ? Long.MAX_VALUE : length;
+        while (remaining > 0) {
+            int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            outputStream.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    /**
+     * 확장자 기반으로 MIME 타입을 결정한다.
+     * 내장 테이블에 없으면 ServletContext의 MIME 매핑을 조회한다.
+     */
+    private String resolveMimeType(HttpServletRequest request, String name) {
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            String mimeType = MIME_TYPES.get(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+            if (mimeType != null) {
+                return mimeType;
+            }
+        }
+
+        ServletContext servletContext = request.getServletContext();
+        String mimeType = (servletContext != null) ? servletContext.getMimeType(name) : null;
+        return mimeType != null ? mimeType : APPLICATION_OCTET_STREAM;
+    }
+
+    private static Map<String, String> createMimeTypes() {
+        Map<String, String> mimeTypes = new HashMap<>();
+        mimeTypes.put("html", "text/html");
+        mimeTypes.put("htm", "text/html");
+        mimeTypes.put("css", "text/css");
+        mimeTypes.put("js", "application/javascript");
+        mimeTypes.put("mjs", "application/javascript");
+        mimeTypes.put("json", "application/json");
+        mimeTypes.put("map", "application/json");
+        mimeTypes.put("xml", "application/xml");
+        mimeTypes.put("txt", "text/plain");
+        mimeTypes.put("csv", "text/csv");
+        mimeTypes.put("svg", "image/svg+xml");
+        mimeTypes.put("png", "image/png");
+        mimeTypes.put("jpg", "image/jpeg");
+        mimeTypes.put("jpeg", "image/jpeg");
+        mimeTypes.put("gif", "image/gif");
+        mimeTypes.put("webp", "image/webp");
+        mimeTypes.put("avif", "image/avif");
+        mimeTypes.put("ico", "image/x-icon");
+        mimeTypes.put("woff", "font/woff");
+        mimeTypes.put("woff2", "font/woff2");
+        mimeTypes.put("ttf", "font/ttf");
+        mimeTypes.put("otf", "font/otf");
+        mimeTypes.put("wasm", "application/wasm");
+        mimeTypes.put("pdf", "application/pdf");
+        mimeTypes.put("zip", "application/zip");
+        mimeTypes.put("mp4", "video/mp4");
+        mimeTypes.put("webm", "video/webm");
+        mimeTypes.put("mp3", "audio/mpeg");
+        mimeTypes.put("wav", "audio/wav");
+        return Collections.unmodifiableMap(mimeTypes);
+    }
+
+    /**
+     * 조회된 정적 리소스의 메타데이터.
+     */
+    private static final class StaticResource {
+
+        private final String location;
+        private final String name;
+        private final Path file;
+        private final URL url;
+        private final long length;
+        private final long lastModified;
+        private final String encoding;
+        private final String cacheKey;
+
+        private StaticResource(String location, String name, Path file, URL url, long length,
+            long lastModified, String encoding) {
+            this.location = location;
+            this.name = name;
+            this.file = file;
+            this.url = url;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.encoding = encoding;
+            this.cacheKey = file != null ? file.toString() : url != null ? url.toExternalForm() : null;
+        }
+
+        private static StaticResource forFile(String location, Path file, String path, String encoding)
+            throws IOException {
+            return new StaticResource(
+                location,
+                stripEncodingSuffix(path, encoding),
+                file,
+                null,
+                Files.size(file),
+                Files.getLastModifiedTime(file).toMillis(),
+                encoding
+            );
+        }
+
+        /**
+         * jar 안의 리소스는 Entry 정보로 크기와 수정 시각을 읽는다. JDK가 캐시한 JarFile을 그대로 사용하므로
+         * 요청마다 jar를 다시 열지 않는다. 그 외의 URL은 연결을 열어 읽고 바로 닫는다.
+         */
+        private static StaticResource forUrl(String location, URL url, String path, String encoding)
+            throws IOException {
+            URLConnection connection = url.openConnection();
+            long length;
+            long lastModified;
+            if (connection instanceof JarURLConnection) {
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                length = entry.getSize();
+                lastModified = entry.getTime();
+            } else {
+                try {
+                    length = connection.getContentLengthLong();
+                    lastModified = connection.getLastModified();
+                } finally {
+                    connection.getInputStream().close();
+                }
+            }
+
+            return new StaticResource(
+                location,
+                stripEncodingSuffix(path, encoding),
+                null,
+                url,
+                length,
+                lastModified,
+                encoding
+            );
+        }
+
+        /**
+         * 파일이 조회 이후 바뀌지 않았는지 확인한다. jar/URL 리소스는 항상 {@code true}.
+         */
+        private boolean isUnchanged() {
+            if (file == null) {
+                return true;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.isRegularFile() && attributes.size() == length
+                    && attributes.lastModifiedTime().toMillis() == lastModified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private static String stripEncodingSuffix(String path, String encoding) {
+            if (encoding == null) {
+                return path;
+            }
+            int dot = path.lastIndexOf('.');
+            return dot > 0 ? path.substring(0, dot) : path;
+        }
+
+        private String eTag() {
+            return "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified)
+                + (encoding != null ? "-" + encoding : "") + "\"";
+        }
+
+        private byte[] readAllBytes() throws IOException {
+            if (file != null) {
+                return Files.readAllBytes(file);
+            }
+
+            try (InputStream inputStream = url.openStream()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) Math.max(length, 0));
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+                return outputStream.toByteArray();
+            }
+        }
+    }
+}